@@ -0,0 +1,56 @@
+#!/bin/bash
+# 플랫폼 스레드 / 가상 스레드 모드의 처리량과 p99 지연 시간을 비교한다.
+#
+# 사전 준비: wrk (https://github.com/wg/wrk), JDK 21, ./gradlew bootJar -PjavaVersion=21
+# 사용법: scripts/bench_threads.sh [게시글 ID] [지속 시간]
+#   예) scripts/bench_threads.sh 1 30s
+# 결과는 build/bench/<mode>-<endpoint>-c<connections>.txt 에 저장되고 요약이 출력된다.
+
+POST_ID=${1:-1}
+DURATION=${2:-30s}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+BASE_PROFILE=${BASE_PROFILE:-dev}
+CONNECTIONS=(64 256 1024)
+ENDPOINTS=(
+  "posts|/posts?page=0&size=10"
+  "post|/posts/$POST_ID"
+  "vote|/posts/$POST_ID/vote"
+  "comments|/posts/$POST_ID/comments?page=0&size=10"
+  "notices|/notices?page=0&size=10"
+)
+
+JAR=$(ls build/libs/*.jar | head -n 1)
+OUT_DIR="build/bench"
+mkdir -p $OUT_DIR
+
+run_mode() {
+  local mode=$1
+  local profiles=$2
+
+  echo "===== $mode ($profiles) ====="
+  java -jar -Dspring.profiles.active=$profiles -Dserver.port=$PORT $JAR > $OUT_DIR/$mode-app.log 2>&1 &
+  local pid=$!
+  until curl -s -o /dev/null "$BASE_URL/notices"; do sleep 1; done
+
+  # JIT 워밍업
+  wrk -t4 -c64 -d10s "$BASE_URL/posts/$POST_ID" > /dev/null
+
+  for endpoint in "${ENDPOINTS[@]}"; do
+    local name=${endpoint%%|*}
+    local path=${endpoint#*|}
+    for c in "${CONNECTIONS[@]}"; do
+      local result="$OUT_DIR/$mode-$name-c$c.txt"
+      wrk -t8 -c$c -d$DURATION --latency "$BASE_URL$path" > $result
+      local rps=$(grep "Requests/sec" $result | awk '{print $2}')
+      local p99=$(grep " 99%" $result | awk '{print $2}')
+      printf "%-8s %-9s c=%-5s rps=%-10s p99=%s\n" $mode $name $c $rps $p99
+    done
+  done
+
+  kill $pid
+  wait $pid 2>/dev/null
+}
+
+run_mode platform "$BASE_PROFILE"
+run_mode virtual "$BASE_PROFILE,virtual"
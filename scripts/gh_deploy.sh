@@ -32,7 +32,9 @@ mv $BUILD_PATH/nohup.out $PROJECT_PATH/nohup/nohup-${CUR_DTTM}.out
 
 DEPLOY_JAR="$BUILD_PATH/$JAR_NAME"
 echo "> 새 애플리케이션 배포" >> $DEPLOY_LOG_PATH
-sudo nohup java -jar -Dspring.profiles.active=dev $DEPLOY_JAR >> $APPLICATION_LOG_PATH 2> $DEPLOY_ERR_LOG_PATH & 
+# JDK 21 서버에서는 ACTIVE_PROFILES=dev,virtual 로 가상 스레드 모드를 켤 수 있다.
+ACTIVE_PROFILES=${ACTIVE_PROFILES:-dev}
+sudo nohup java -jar -Dspring.profiles.active=$ACTIVE_PROFILES $DEPLOY_JAR >> $APPLICATION_LOG_PATH 2> $DEPLOY_ERR_LOG_PATH & 
 
 sleep 3
 
@@ -0,0 +1,94 @@
+package balancetalk.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.ReflectionUtils;
+
+/*
+    액세스 토큰 발급/검증 처리량 비교
+    - legacy*: 호출마다 문자열 시크릿을 Base64 디코딩하고 파서를 새로 만드는 기존 방식
+    - provider*: 시작 시 만든 SecretKey, JwtParser를 재사용하는 JwtTokenProvider
+    실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "YmFsYW5jZS10YWxrLWp3dC10ZXN0LXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25hdHVyZS0wMTIzNDU2Nzg5YWI=";
+    private static final String EMAIL = "member@gmail.com";
+    private static final long EXPIRATION_TIME = 60 * 60 * 1000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private Authentication authentication;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(null);
+        setField("secretKey", SECRET);
+        setField("accessExpirationTime", EXPIRATION_TIME);
+        setField("refreshExpirationTime", EXPIRATION_TIME);
+        jwtTokenProvider.init();
+        authentication = new UsernamePasswordAuthenticationToken(EMAIL, "");
+        token = legacyIssue();
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(EMAIL)
+                .claim("memberId", 1L)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + EXPIRATION_TIME))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+    }
+
+    @Benchmark
+    public String providerIssue() {
+        return jwtTokenProvider.createAccessToken(authentication, 1L);
+    }
+
+    @Benchmark
+    public Long legacyVerify() {
+        // 기존 getMemberId: validateToken 후 다시 파싱
+        Jwts.parserBuilder().setSigningKey(SECRET).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(SECRET).build().parseClaimsJws(token).getBody()
+                .get("memberId", Long.class);
+    }
+
+    @Benchmark
+    public Long providerVerify() {
+        return jwtTokenProvider.parse(token).getMemberId();
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtTokenProvider, value);
+    }
+}
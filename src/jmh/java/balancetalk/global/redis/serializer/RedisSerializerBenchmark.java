@@ -0,0 +1,103 @@
+package balancetalk.global.redis.serializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/*
+    기존 JSON 직렬화와 CompactRedisSerializer 의 저장 크기, 인코딩/디코딩 시간을 비교한다.
+    실행: ./gradlew jmh
+    저장 크기는 Setup 단계에서 값 종류별로 출력된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "compact"})
+    private String serializerType;
+
+    @Param({"token", "counter", "dto"})
+    private String valueType;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = "compact".equals(serializerType)
+                ? new CompactRedisSerializer()
+                : new GenericJackson2JsonRedisSerializer();
+        value = switch (valueType) {
+            case "token" -> "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQGV4YW1wbGUuY29tIiwiaWF0IjoxNzE2MjM5MDIyfQ.sig";
+            case "counter" -> 1234567L;
+            default -> cachedPost();
+        };
+        encoded = serializer.serialize(value);
+        System.out.printf("%n[bytes] serializer=%s value=%s size=%d%n", serializerType, valueType, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    private static CachedPost cachedPost() {
+        List<CachedOption> options = new ArrayList<>();
+        options.add(new CachedOption(1L, "짜장면", "달콤한 춘장 소스", 1523));
+        options.add(new CachedOption(2L, "짬뽕", "얼큰한 해물 국물", 1498));
+        return new CachedPost(1L, "점심 메뉴 골라주세요", "2024/12/25 15:30:00",
+                10_432L, 321L, 3021, 87L, "balance_user", options);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedPost {
+        private Long id;
+        private String title;
+        private String deadline;
+        private long views;
+        private long likesCount;
+        private int totalVotesCount;
+        private long commentsCount;
+        private String createdBy;
+        private List<CachedOption> balanceOptions;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedOption {
+        private Long id;
+        private String title;
+        private String description;
+        private int votesCount;
+    }
+}
@@ -0,0 +1,59 @@
+package balancetalk.module.member.application;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/*
+    로그인 1회의 비밀번호 검증 비용을 코어 1개 기준 logins/sec 로 측정한다.
+    - doubleVerify: 기존 로그인 (matches 후 AuthenticationManager 에서 한 번 더 BCrypt 검증)
+    - singleVerify: 현재 로그인 (matches 한 번)
+    BCrypt 가 로그인 CPU 비용의 대부분이므로 strength 별 결과로 security.password.bcrypt-strength 값을 정한다.
+    실행: ./gradlew jmh -PjmhIncludes=LoginPasswordBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(1)
+@Fork(1)
+public class LoginPasswordBenchmark {
+
+    private static final String RAW_PASSWORD = "Test1234!";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean doubleVerify() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword)
+                && passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean singleVerify() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
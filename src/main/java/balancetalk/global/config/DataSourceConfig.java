@@ -0,0 +1,90 @@
+package balancetalk.global.config;
+
+import balancetalk.global.datasource.ReadAfterWriteGuard;
+import balancetalk.global.datasource.ReplicaDataSource;
+import balancetalk.global.datasource.RoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/*
+    datasource.routing.enabled=true 이면 스프링 부트 기본 DataSource 대신 프라이머리/레플리카 라우팅 DataSource를 등록한다.
+    풀마다 HikariCP 지표(hikaricp.connections.*, pool 태그)를 남긴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DataSourceRoutingConfig routingConfig;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Bean
+    public RoutingDataSource routingDataSource() {
+        HikariDataSource primary = primaryDataSource();
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingConfig.getReplicas().size(); i++) {
+            replicas.add(replicaDataSource(primary, routingConfig.getReplicas().get(i), i + 1));
+        }
+        return new RoutingDataSource(primary, replicas,
+                new ReadAfterWriteGuard(routingConfig.getReadAfterWriteWindow()),
+                routingConfig.getMaxLag(), routingConfig.getLagQuery(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource primaryDataSource() {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(PRIMARY_POOL_NAME);
+        primary.setMetricRegistry(meterRegistry);
+        return primary;
+    }
+
+    private ReplicaDataSource replicaDataSource(HikariDataSource primary,
+                                                DataSourceRoutingConfig.Replica replica, int index) {
+        String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + index;
+
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setReadOnly(true);
+        config.setConnectionTimeout(routingConfig.getReplicaConnectionTimeout().toMillis());
+        // 레플리카 장애로 애플리케이션 시작이 실패하지 않도록 풀 초기화 시 연결을 확인하지 않는다.
+        config.setInitializationFailTimeout(-1);
+        if (StringUtils.hasText(replica.getUsername())) {
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        config.setMetricRegistry(meterRegistry);
+        return new ReplicaDataSource(name, new HikariDataSource(config));
+    }
+}
@@ -0,0 +1,53 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 설정. datasource.routing.enabled=true 일 때만 적용된다.
+    프라이머리 커넥션은 spring.datasource.*, 레플리카는 datasource.routing.replicas[n].* 로 설정하고
+    레플리카 풀은 spring.datasource.hikari.* 설정을 이어받는다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.routing")
+@Getter
+@Setter
+public class DataSourceRoutingConfig {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 복제 지연이 이 값을 넘은 레플리카는 읽기 대상에서 제외
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    // 쓰기 트랜잭션을 커밋한 회원은 이 시간 동안 읽기도 프라이머리에서 한다. (max-lag 이상으로 설정)
+    private Duration readAfterWriteWindow = Duration.ofSeconds(2);
+
+    // 복제 지연(초)을 숫자 하나로 돌려주는 쿼리, 비우면 연결 확인만 한다.
+    // 예) select timestampdiff(second, ts, utc_timestamp()) from heartbeat.heartbeat order by ts desc limit 1
+    private String lagQuery;
+
+    // 레플리카 커넥션 획득 대기 시간, 장애 레플리카에서 오래 기다리지 않도록 짧게 둔다.
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+        private String url;
+
+        // 비우면 프라이머리 계정을 사용
+        private String username;
+        private String password;
+
+        // 비우면 프라이머리 풀 크기를 사용
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,47 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    회원별 추천 피드 설정. 투표/추천/북마크한 게시글의 태그와 카테고리에 가중치를 쌓아
+    후보 게시글의 점수를 매기고, 상위 게시글 id 를 Redis 리스트로 미리 만들어 둔다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "feed")
+@Getter
+@Setter
+public class FeedConfig {
+
+    // 회원별로 미리 만들어 두는 게시글 수
+    private int size = 200;
+
+    // 점수를 매길 후보 게시글 수 (마감 전 노출 게시글 최신순)
+    private int candidateSize = 1000;
+
+    // 만들어진 피드의 유지 시간, 지나면 다음 조회 때 다시 만든다.
+    private Duration ttl = Duration.ofHours(1);
+
+    // 활동이 없는 회원의 선호도는 이 시간이 지나면 지우고, 필요할 때 이력에서 다시 계산한다.
+    private Duration affinityTtl = Duration.ofDays(30);
+
+    // 선호도를 처음 계산할 때 행동별로 읽는 최근 이력 수
+    private int historySize = 200;
+
+    // 행동별 가중치
+    private double voteWeight = 1.0;
+    private double likeWeight = 2.0;
+    private double bookmarkWeight = 3.0;
+
+    // 태그 대비 카테고리 선호도의 비중
+    private double categoryWeight = 0.5;
+
+    // 선호도가 없는 게시글도 인기순으로 섞이도록 log(1 + 투표 수)에 곱하는 값
+    private double popularityWeight = 0.3;
+
+    // 게시글 점수가 절반으로 줄어드는 시간
+    private Duration freshnessHalfLife = Duration.ofDays(3);
+}
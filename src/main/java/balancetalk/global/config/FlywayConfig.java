@@ -0,0 +1,22 @@
+package balancetalk.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    스키마 변경은 db/migration 의 버전별 스크립트로만 한다. (엔티티 매핑은 ddl-auto=validate 로 확인)
+    마이그레이션 도입 전부터 엔티티로 생성해 운영 중인 DB는 V1(baseline)으로 표시하고 V2부터 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String BASELINE_VERSION = "1";
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion(BASELINE_VERSION);
+    }
+}
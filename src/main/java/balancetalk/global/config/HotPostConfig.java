@@ -0,0 +1,36 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    인기 게시글 순위 설정. 점수 = 활동 점수 / (작성 후 경과 시간(h) + ageOffsetHours) ^ gravity
+    활동 점수는 추천/투표/댓글/조회마다 가중치만큼 더한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "posts.hot")
+@Getter
+@Setter
+public class HotPostConfig {
+
+    // 행동별 가중치
+    private double likeWeight = 3.0;
+    private double voteWeight = 1.0;
+    private double commentWeight = 2.0;
+    private double viewWeight = 0.1;
+
+    // 클수록 오래된 게시글의 점수가 빨리 떨어진다.
+    private double gravity = 1.8;
+
+    // 막 작성된 게시글의 점수가 지나치게 커지지 않도록 경과 시간에 더하는 값
+    private double ageOffsetHours = 2.0;
+
+    // 이보다 오래된 게시글은 순위에서 뺀다.
+    private Duration maxAge = Duration.ofDays(7);
+
+    // 점수 재계산(posts.hot.decay-interval-ms 주기)을 한 인스턴스만 실행하도록 잡는 락의 유지 시간
+    private Duration decayLockTtl = Duration.ofMinutes(1);
+}
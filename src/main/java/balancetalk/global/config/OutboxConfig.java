@@ -0,0 +1,41 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    도메인 이벤트 아웃박스 전달 설정. 전달 주기는 outbox.relay-interval-ms, 정리 주기는 outbox.cleanup-cron 으로 변경
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxConfig {
+
+    // 한 번에 읽어 전달하는 이벤트 수
+    private int batchSize = 100;
+
+    // 한 주기에 처리하는 최대 배치 수, 밀린 이벤트가 많아도 주기 하나가 너무 길어지지 않게 한다.
+    private int maxBatchesPerRun = 10;
+
+    // 전달 실패 시 재시도 간격은 initial-backoff 부터 두 배씩 늘어나 max-backoff 까지
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // 이 횟수만큼 실패한 이벤트는 에러 로그를 남기고 버린다.
+    private int maxAttempts = 15;
+
+    // 하나의 인스턴스만 전달하도록 Redis 락을 잡고, 이 시간 동안 갱신이 없으면 다른 인스턴스가 넘겨받는다.
+    private Duration leaderLockTtl = Duration.ofSeconds(10);
+
+    // 전달이 끝난 이벤트와 리스너 처리 기록(ProcessedEvents) 보관 기간, 재시도 기간보다 길어야 한다.
+    private Duration retention = Duration.ofDays(3);
+
+    public Duration backoff(int attempts) {
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+}
@@ -0,0 +1,31 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    spring.data.redis.* (호스트, 타임아웃, 풀, sentinel/cluster 노드)로 표현되지 않는 Lettuce 클라이언트 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "redis.client")
+@Getter
+@Setter
+public class RedisClientConfig {
+
+    // 읽기 노드 선택 (upstream, upstreamPreferred, replica, replicaPreferred, nearest, any), 비우면 마스터에서 읽음
+    private String readFrom;
+
+    // 연결이 끊기면 재연결을 시도할지 여부
+    private boolean autoReconnect = true;
+
+    // 연결이 끊긴 동안 명령을 쌓아두지 않고 바로 실패시킬지 여부
+    private boolean rejectCommandsWhenDisconnected = true;
+
+    // 클러스터 토폴로지 주기적 갱신 간격
+    private Duration clusterRefreshPeriod = Duration.ofSeconds(30);
+
+    private Duration shutdownTimeout = Duration.ofMillis(100);
+}
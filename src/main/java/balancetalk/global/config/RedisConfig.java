@@ -1,29 +1,166 @@
 package balancetalk.global.config;
 
+import balancetalk.global.redis.serializer.CompactRedisSerializer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+/*
+    spring.data.redis.sentinel.master 가 있으면 sentinel, spring.data.redis.cluster.nodes 가 있으면 cluster,
+    그 외에는 단일 노드로 연결한다.
+    일반 명령은 공유 커넥션 하나로 멀티플렉싱하고, 블로킹 명령과 트랜잭션(MULTI), 파이프라인은
+    spring.data.redis.lettuce.pool.* 로 설정한 commons-pool2 커넥션 풀에서 꺼내 쓴다.
+    풀이 모자라면 요청 스레드가 커넥션을 기다리므로, max-wait 를 정하지 않으면 명령 타임아웃만큼만 기다린다.
+ */
 @Configuration
 @EnableRedisRepositories
+@RequiredArgsConstructor
 public class RedisConfig {
 
-    @Value("${spring.data.redis.port}")
-    private int port;
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
 
-    @Value("${spring.data.redis.host}")
-    private String host;
+    private final RedisProperties redisProperties;
+    private final RedisClientConfig redisClientConfig;
+
+    // json: 기존 GenericJackson2Json 형식, compact: 문자열/정수는 원본 그대로, 객체는 CBOR
+    @Value("${redis.value-serializer:json}")
+    private String valueSerializerType;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        RedisConfiguration configuration = redisConfiguration();
+        boolean cluster = configuration instanceof RedisClusterConfiguration;
+        return new LettuceConnectionFactory(configuration, lettuceClientConfiguration(cluster));
+    }
+
+    RedisConfiguration redisConfiguration() {
+        RedisPassword password = RedisPassword.of(redisProperties.getPassword());
+
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        if (sentinel != null && StringUtils.hasText(sentinel.getMaster())) {
+            RedisSentinelConfiguration config = new RedisSentinelConfiguration();
+            config.master(sentinel.getMaster());
+            sentinel.getNodes().forEach(node -> config.addSentinel(RedisNode.fromString(node)));
+            config.setPassword(password);
+            config.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            config.setDatabase(redisProperties.getDatabase());
+            return config;
+        }
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                config.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            config.setPassword(password);
+            return config;
+        }
+
+        RedisStandaloneConfiguration config =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        config.setPassword(password);
+        config.setDatabase(redisProperties.getDatabase());
+        return config;
+    }
+
+    LettuceClientConfiguration lettuceClientConfiguration(boolean cluster) {
+        Duration commandTimeout = orDefault(redisProperties.getTimeout(), DEFAULT_COMMAND_TIMEOUT);
+        LettuceClientConfigurationBuilder builder = poolEnabled()
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(commandTimeout))
+                : LettuceClientConfiguration.builder();
+
+        builder.commandTimeout(commandTimeout)
+                .shutdownTimeout(redisClientConfig.getShutdownTimeout())
+                .clientOptions(clientOptions(commandTimeout, cluster));
+        if (redisProperties.getSsl().isEnabled()) {
+            builder.useSsl();
+        }
+        if (StringUtils.hasText(redisClientConfig.getReadFrom())) {
+            builder.readFrom(ReadFrom.valueOf(redisClientConfig.getReadFrom()));
+        }
+        return builder.build();
+    }
+
+    private boolean poolEnabled() {
+        return !Boolean.FALSE.equals(redisProperties.getLettuce().getPool().getEnabled());
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(Duration commandTimeout) {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        // 기본값(-1)은 커넥션이 반납될 때까지 무한정 대기
+        Duration maxWait = pool.getMaxWait();
+        config.setMaxWait(maxWait == null || maxWait.isNegative() ? commandTimeout : maxWait);
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
+
+    private ClientOptions clientOptions(Duration commandTimeout, boolean cluster) {
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(orDefault(redisProperties.getConnectTimeout(), DEFAULT_CONNECT_TIMEOUT))
+                .keepAlive(true)
+                .build();
+        ClientOptions.DisconnectedBehavior disconnectedBehavior = redisClientConfig.isRejectCommandsWhenDisconnected()
+                ? ClientOptions.DisconnectedBehavior.REJECT_COMMANDS
+                : ClientOptions.DisconnectedBehavior.DEFAULT;
+
+        if (cluster) {
+            return ClusterClientOptions.builder()
+                    .autoReconnect(redisClientConfig.isAutoReconnect())
+                    .disconnectedBehavior(disconnectedBehavior)
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enablePeriodicRefresh(redisClientConfig.getClusterRefreshPeriod())
+                            .enableAllAdaptiveRefreshTriggers()
+                            .build())
+                    .build();
+        }
+        return ClientOptions.builder()
+                .autoReconnect(redisClientConfig.isAutoReconnect())
+                .disconnectedBehavior(disconnectedBehavior)
+                .socketOptions(socketOptions)
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+    }
+
+    private static Duration orDefault(Duration value, Duration defaultValue) {
+        return value == null ? defaultValue : value;
     }
 
     @Bean
@@ -32,12 +169,26 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(redisValueSerializer());
         redisTemplate.setDefaultSerializer(new StringRedisSerializer());
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
 
+    private RedisSerializer<Object> redisValueSerializer() {
+        if ("compact".equals(valueSerializerType)) {
+            return new CompactRedisSerializer();
+        }
+        return new GenericJackson2JsonRedisSerializer();
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
     @Bean
     public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
         return new GenericJackson2JsonRedisSerializer();
@@ -0,0 +1,31 @@
+package balancetalk.global.config;
+
+import balancetalk.module.report.domain.ReportCategory;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    신고 자동 블라인드 기준. 한 카테고리의 (반려되지 않은) 신고자 수가 기준 이상이면 게시글/댓글을 블라인드한다.
+    reports.blind-threshold.ABUSE=3 처럼 카테고리별로 변경
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reports")
+@Getter
+@Setter
+public class ReportConfig {
+
+    private Map<ReportCategory, Integer> blindThreshold = new EnumMap<>(Map.of(
+            ReportCategory.ADVERTISEMENT, 5,
+            ReportCategory.FRAUD, 3,
+            ReportCategory.ABUSE, 5,
+            ReportCategory.ETC, 10
+    ));
+
+    public int blindThresholdOf(ReportCategory category) {
+        return blindThreshold.getOrDefault(category, Integer.MAX_VALUE);
+    }
+}
@@ -4,12 +4,14 @@ import balancetalk.global.jwt.JwtAccessDeniedHandler;
 import balancetalk.global.jwt.JwtAuthenticationEntryPoint;
 import balancetalk.global.jwt.JwtAuthenticationFilter;
 import balancetalk.global.jwt.JwtTokenProvider;
+import balancetalk.global.ratelimit.RateLimitFilter;
+import balancetalk.global.ratelimit.RateLimitPolicy;
+import balancetalk.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -19,7 +21,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -30,6 +34,7 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final RateLimiter rateLimiter;
 
     private static final String[] PUBLIC_GET = {
             // h2 database
@@ -42,7 +47,8 @@ public class SecurityConfig {
             "/email/password",
             "/members/duplicate", "/members/reissue",
 
-            "/posts", "/posts/{postId}", "/posts/{postId}/vote", "/posts/{postId}/comments/**",
+            "/posts", "/posts/{postId}", "/posts/{postId}/vote", "/posts/{postId}/vote/stream",
+            "/posts/{postId}/vote/timeline", "/posts/{postId}/result", "/posts/{postId}/comments/**",
             "/notices", "/notices/{noticeId}"
     };
 
@@ -56,14 +62,32 @@ public class SecurityConfig {
             "/posts/{postId}/vote"
     };
 
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // 클라이언트 IP 단위 요청 제한 (BCrypt 연산, 메일 발송, S3 업로드처럼 비용이 큰 공개 요청)
+    private static final List<RateLimitPolicy> RATE_LIMIT_POLICIES = List.of(
+            RateLimitPolicy.of("login", HttpMethod.POST, "/members/login", 10, Duration.ofMinutes(1)),
+            RateLimitPolicy.of("mail-request", HttpMethod.POST, "/email/request", 5, Duration.ofMinutes(10)),
+            RateLimitPolicy.of("mail-password", HttpMethod.POST, "/email/password", 5, Duration.ofMinutes(10)),
+            RateLimitPolicy.of("vote", HttpMethod.POST, "/posts/{postId}/vote", 60, Duration.ofMinutes(1)),
+            RateLimitPolicy.of("image-upload", HttpMethod.POST, "/files/image/upload", 20, Duration.ofMinutes(1))
+    );
 
+    // 비밀번호 해싱 강도 (log2 라운드). 로그인 1회당 CPU 비용이 2배씩 늘어난다.
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    /*
+        설정된 강도와 다른 강도로 저장된 해시는 upgradeEncoding 이 true 를 반환해 로그인 성공 시 다시 해싱된다.
+        (기본 구현은 강도를 올릴 때만 true 이므로, 강도를 낮추는 경우도 반영되도록 재정의)
+     */
     @Bean
-    public AuthenticationManager authenticationManager (AuthenticationConfiguration authenticationConfiguration) throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
+    public BCryptPasswordEncoder passwordEncoder() {
+        String strengthMarker = String.format("$%02d$", bcryptStrength);
+        return new BCryptPasswordEncoder(bcryptStrength) {
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return encodedPassword != null && !encodedPassword.startsWith(strengthMarker, 3);
+            }
+        };
     }
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -85,7 +109,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "**").permitAll()
                         .anyRequest().authenticated()
                 )
-                // jwtFilter 먼저 적용
+                // 요청 제한 -> jwtFilter 순으로 먼저 적용
+                .addFilterBefore(new RateLimitFilter(rateLimiter, RATE_LIMIT_POLICIES), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
@@ -0,0 +1,32 @@
+package balancetalk.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    게시글별 투표 추이(분/시/일 구간 집계) 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "votes.timeline")
+@Getter
+@Setter
+public class VoteTimelineConfig {
+
+    // 분 단위 구간은 이 기간이 지나면 지운다. (시/일 단위로 계속 조회 가능)
+    private Duration minuteRetention = Duration.ofDays(3);
+
+    // 시 단위 구간은 이 기간이 지나면 지운다.
+    private Duration hourRetention = Duration.ofDays(90);
+
+    // 기존 투표 재집계 시 한 트랜잭션에서 처리하는 투표 id 범위
+    private int backfillChunkSize = 10_000;
+
+    // 기존 투표 재집계 시 동시에 처리하는 구간 수
+    private int backfillParallelism = 4;
+
+    // 재집계 중복 실행을 막는 락의 유지 시간
+    private Duration backfillLockTtl = Duration.ofHours(1);
+}
@@ -0,0 +1,51 @@
+package balancetalk.global.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/*
+    쓰기를 커밋한 회원의 읽기를 일정 시간 프라이머리로 고정해, 아직 복제되지 않은 레플리카에서
+    방금 쓴 데이터가 보이지 않는 문제를 막는다. (인스턴스 로컬 기록)
+ */
+public class ReadAfterWriteGuard {
+
+    private final Duration window;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadAfterWriteGuard(Duration window) {
+        this.window = window;
+    }
+
+    public void recordWrite(String memberKey) {
+        if (memberKey != null) {
+            pinnedUntil.put(memberKey, System.currentTimeMillis() + window.toMillis());
+        }
+    }
+
+    public boolean isPinned(String memberKey) {
+        if (memberKey == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(memberKey);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 로그인한 회원의 이메일, 비회원은 null
+    public static String currentMemberKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,66 @@
+package balancetalk.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+/*
+    레플리카 커넥션 풀과 마지막 헬스 체크 결과
+ */
+@Slf4j
+@Getter
+public class ReplicaDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available = true;
+    private volatile long lagMillis;
+
+    public ReplicaDataSource(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isUsable(Duration maxLag) {
+        return available && lagMillis <= maxLag.toMillis();
+    }
+
+    /*
+        연결이 되는지, lagQuery 가 있으면 복제 지연이 얼마인지 확인한다.
+        지연 값이 null 이면 (복제 중단) 사용할 수 없는 것으로 본다.
+     */
+    public void check(String lagQuery) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                update(connection.isValid(VALIDATION_TIMEOUT_SECONDS), 0L);
+                return;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                Number lagSeconds = resultSet.next() ? (Number) resultSet.getObject(1) : null;
+                update(lagSeconds != null, lagSeconds == null ? 0L : (long) (lagSeconds.doubleValue() * 1000));
+            }
+        } catch (SQLException e) {
+            if (available) {
+                log.warn("replica unavailable. name={}, error={}", name, e.getMessage());
+            }
+            update(false, 0L);
+        }
+    }
+
+    private void update(boolean available, long lagMillis) {
+        if (available && !this.available) {
+            log.info("replica available. name={}", name);
+        }
+        this.available = available;
+        this.lagMillis = lagMillis;
+    }
+}
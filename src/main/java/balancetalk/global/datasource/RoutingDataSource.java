@@ -0,0 +1,155 @@
+package balancetalk.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    읽기 전용 트랜잭션은 사용 가능한 레플리카에 라운드 로빈으로, 그 외에는 프라이머리로 보낸다.
+    트랜잭션 시작 시점에는 readOnly 여부가 정해지지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+    - 레플리카가 모두 장애이거나 복제 지연이 maxLag 를 넘으면 프라이머리에서 읽는다.
+    - 쓰기를 커밋한 회원은 ReadAfterWriteGuard 의 시간 동안 프라이머리에서 읽는다.
+ */
+@Slf4j
+public class RoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String FALLBACK_READ_AFTER_WRITE = "read-after-write";
+    private static final String FALLBACK_NO_REPLICA = "no-replica";
+
+    private final DataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final ReadAfterWriteGuard readAfterWriteGuard;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public RoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas,
+                             ReadAfterWriteGuard readAfterWriteGuard, Duration maxLag, String lagQuery,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readAfterWriteGuard = readAfterWriteGuard;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routedCounters.put(PRIMARY, routedCounter(PRIMARY));
+        for (ReplicaDataSource replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            routedCounters.put(replica.getName(), routedCounter(replica.getName()));
+            Gauge.builder("datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("pool", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, ReplicaDataSource::getLagMillis)
+                    .tag("pool", replica.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return routed(lookupKey());
+    }
+
+    private String lookupKey() {
+        String memberKey = ReadAfterWriteGuard.currentMemberKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(memberKey);
+            return PRIMARY;
+        }
+        if (readAfterWriteGuard.isPinned(memberKey)) {
+            return fallback(FALLBACK_READ_AFTER_WRITE);
+        }
+        ReplicaDataSource replica = nextUsableReplica();
+        return replica == null ? fallback(FALLBACK_NO_REPLICA) : replica.getName();
+    }
+
+    private void recordWriteOnCommit(String memberKey) {
+        if (memberKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readAfterWriteGuard.recordWrite(memberKey);
+            }
+        });
+    }
+
+    private ReplicaDataSource nextUsableReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % size);
+            if (replica.isUsable(maxLag)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private String fallback(String reason) {
+        meterRegistry.counter("datasource.routing.fallback", "reason", reason).increment();
+        return PRIMARY;
+    }
+
+    private String routed(String key) {
+        routedCounters.get(key).increment();
+        return key;
+    }
+
+    private Counter routedCounter(String pool) {
+        return meterRegistry.counter("datasource.routing", "pool", pool);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach(replica -> replica.check(lagQuery));
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.guard-cleanup-interval-ms:60000}")
+    public void evictExpiredGuards() {
+        readAfterWriteGuard.evictExpired();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.getDataSource()));
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("failed to close data source. error={}", e.getMessage());
+            }
+        }
+    }
+}
@@ -14,7 +14,7 @@ public enum ErrorCode {
     MISMATCHED_BALANCE_OPTION(BAD_REQUEST, "투표한 선택지는 다른 게시글에 속해 있습니다."),
     EXPIRED_POST_DEADLINE(BAD_REQUEST, "투표가 이미 종료된 게시글입니다."),
     UNMODIFIABLE_VOTE(BAD_REQUEST, "투표 수정이 불가능한 게시글입니다."),
-    ALREADY_BOOKMARK(BAD_REQUEST, "이미 북마크한 게시글입니다."),
+    EXCEED_BOOKMARK_STATUS_SIZE(BAD_REQUEST, "북마크 여부는 한 번에 100개까지 조회할 수 있습니다."),
     INCORRECT_PASSWORD(BAD_REQUEST, "비밀번호가 잘못되었거나 요청 형식이 올바르지 않습니다"),
     MIME_TYPE_NULL(BAD_REQUEST, "MIME 타입이 null입니다."),
     FILE_UPLOAD_FAILED(BAD_REQUEST, "파일 업로드에 실패했습니다."),
@@ -26,6 +26,7 @@ public enum ErrorCode {
     EXCEED_VALIDATION_LENGTH(BAD_REQUEST, "입력값이 제약 조건에 맞지 않습니다."),
     AUTHORIZATION_CODE_MISMATCH(BAD_REQUEST, "인증 번호가 일치하지 않습니다."),
     EMPTY_JWT_TOKEN(BAD_REQUEST, "토큰 값이 존재하지 않습니다."),
+    INVALID_REPORT_STATUS(BAD_REQUEST, "신고는 승인 또는 반려로만 처리할 수 있습니다."),
 
 
     // 401
@@ -37,24 +38,29 @@ public enum ErrorCode {
     VERIFY_CODE_MISMATCH(UNAUTHORIZED, "인증 번호가 일치하지 않습니다."),
     EXPIRED_JWT_TOKEN(UNAUTHORIZED, "만료된 토큰 입니다."),
     INVALID_JWT_TOKEN(UNAUTHORIZED, "유효하지 않은 토큰입니다"),
+    REUSED_REFRESH_TOKEN(UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
 
     // 403
     FORBIDDEN_POST_DELETE(FORBIDDEN, "해당 게시글은 삭제 권한이 없습니다."),
     FORBIDDEN_COMMENT_MODIFY(FORBIDDEN, "해당 댓글은 수정 권한이 없습니다."),
     FORBIDDEN_COMMENT_DELETE(FORBIDDEN, "해당 댓글은 삭제 권한이 없습니다."),
     FORBIDDEN_MEMBER_DELETE(FORBIDDEN, "사용자 탈퇴 권한이 없습니다."),
-    FORBIDDEN_BOOKMARK_DELETE(FORBIDDEN, "북마크 삭제 권한이 없습니다."),
+    FORBIDDEN_FIND_MEMBERS(FORBIDDEN, "전체 회원 조회 권한이 없습니다."),
     FORBIDDEN_POST_CREATE(FORBIDDEN, "글쓰기 권한이 없습니다."),
     FORBIDDEN_CREATE_NOTICE(FORBIDDEN, "공지사항 작성 권한이 없습니다."),
     FORBIDDEN_UPDATE_NOTICE(FORBIDDEN, "공지사항 수정 권한이 없습니다."),
     FORBIDDEN_DELETE_NOTICE(FORBIDDEN, "공지사항 삭제 권한이 없습니다."),
+    FORBIDDEN_MANAGE_REPORT(FORBIDDEN, "신고 관리 권한이 없습니다."),
+    FORBIDDEN_BACKFILL_VOTE_TIMELINE(FORBIDDEN, "투표 추이 재집계 권한이 없습니다."),
+    FORBIDDEN_FIND_MEMBER_DELETION(FORBIDDEN, "회원 탈퇴 진행 상태 조회 권한이 없습니다."),
+    MEMBER_DELETION_IN_PROGRESS(FORBIDDEN, "탈퇴 처리 중인 회원입니다."),
 
     // 404
     NOT_FOUND_POST(NOT_FOUND, "존재하지 않는 게시글입니다."),
+    NOT_FOUND_POST_RESULT(NOT_FOUND, "아직 투표 결과가 집계되지 않은 게시글입니다."),
     NOT_FOUND_BALANCE_OPTION(NOT_FOUND, "존재하지 않는 선택지입니다."),
     NOT_FOUND_MEMBER(NOT_FOUND, "존재하지 않는 회원입니다."),
     NOT_FOUND_VOTE(NOT_FOUND, "해당 게시글에서 투표한 기록이 존재하지 않습니다."),
-    NOT_FOUND_BOOKMARK(NOT_FOUND, "해당 게시글에서 북마크한 기록이 존재하지 않습니다."),
     NOT_FOUND_POST_LIKE(NOT_FOUND, "해당 게시글을 추천한 기록이 존재하지 않습니다. "),
     NOT_FOUND_COMMENT(NOT_FOUND, "존재하지 않는 댓글입니다."),
     NOT_FOUND_DIRECTORY(NOT_FOUND, "존재하지 않는 디렉토리입니다."),
@@ -63,6 +69,8 @@ public enum ErrorCode {
     NOT_FOUND_PARENT_COMMENT(NOT_FOUND, "존재하지 않는 원 댓글입니다."),
     NOT_FOUND_COMMENT_AT_THAT_POST(NOT_FOUND, "해당 게시글에 존재하지 않는 댓글입니다."),
     NOT_FOUND_NOTICE(NOT_FOUND, "존재하지 않는 공지사항입니다."),
+    NOT_FOUND_MEMBER_DELETION(NOT_FOUND, "회원 탈퇴 요청 기록이 존재하지 않습니다."),
+    NOT_FOUND_REPORT(NOT_FOUND, "존재하지 않는 신고입니다."),
 
 
     // 409
@@ -74,6 +82,11 @@ public enum ErrorCode {
     ALREADY_REGISTERED_EMAIL(CONFLICT, "이미 등록된 이메일입니다."),
     SAME_NICKNAME(CONFLICT, "변경하려는 닉네임이 현재와 동일합니다. 다른 닉네임을 입력해주세요."),
     SAME_PASSWORD(CONFLICT, "변경하려는 비밀번호가 현재와 동일합니다. 다른 비밀번호를 입력해주세요."),
+    ALREADY_BACKFILL_VOTE_TIMELINE(CONFLICT, "투표 추이 재집계가 이미 실행 중입니다."),
+    CONFLICT_VOTE_CHANGE(CONFLICT, "다른 요청으로 투표가 먼저 변경되었습니다. 다시 시도해주세요."),
+
+    // 429
+    RATE_LIMIT_EXCEEDED(TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 500
     REDIS_CONNECTION_FAIL(INTERNAL_SERVER_ERROR, "Redis 연결에 실패했습니다."),
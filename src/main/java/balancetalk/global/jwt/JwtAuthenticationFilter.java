@@ -22,11 +22,14 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String token = jwtTokenProvider.resolveToken(httpRequest);
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            if (token != null) {
+                TokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+                Authentication auth = jwtTokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                jwtTokenProvider.storeClaims(httpRequest, claims);
             }
         } catch (Exception e) {
             log.error("error={}", e.getMessage());
@@ -2,9 +2,10 @@ package balancetalk.global.jwt;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
-import balancetalk.global.redis.application.RedisService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -12,18 +13,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    private final RedisService redisService;
+    public static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+    private static final String TOKEN_CLAIMS_ATTRIBUTE = TokenClaims.class.getName();
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS512;
+
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${spring.jwt.secret}")
     private String secretKey;
@@ -34,16 +43,29 @@ public class JwtTokenProvider {
     @Value("${spring.jwt.token.refresh-expiration-time}")
     private long refreshExpirationTime;
 
-    private final UserDetailsService userDetailsService;
+    // 시크릿은 Base64 문자열이므로 시작 시 한 번만 디코딩하고, 파서도 하나를 만들어 모든 스레드가 공유 (JwtParser는 불변)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey), SIGNATURE_ALGORITHM.getJcaName());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
 
     /**
      * Access 토큰 생성
      */
     public String createAccessToken(Authentication authentication, Long memberId) {
         validateAuthentication(authentication);
+        return createAccessToken(authentication.getName(), memberId);
+    }
+
+    private String createAccessToken(String email, Long memberId) {
         Claims claims = Jwts.claims();
-        claims.put("memberId", memberId);
-        claims.setSubject(authentication.getName());
+        claims.put(TokenClaims.MEMBER_ID_CLAIM, memberId);
+        claims.put(TokenClaims.TYPE_CLAIM, TokenType.ACCESS.getClaimValue());
+        claims.setSubject(email);
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + accessExpirationTime);
 
@@ -51,34 +73,40 @@ public class JwtTokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(SignatureAlgorithm.HS512, secretKey) // TODO: secretKey를 미리 암호화?
+                .signWith(signingKey, SIGNATURE_ALGORITHM)
                 .compact();
     }
 
     /**
-     * Refresh 토큰 생성
+     * Refresh 토큰 생성 (회원, 기기 단위로 저장)
      */
-    public String createRefreshToken(Authentication authentication) {
+    public String createRefreshToken(Authentication authentication, Long memberId, String deviceId) {
         validateAuthentication(authentication);
+        String refreshToken = buildRefreshToken(authentication.getName(), memberId, deviceId);
+        refreshTokenStore.save(memberId, deviceId, refreshToken, Duration.ofMillis(refreshExpirationTime));
+        return refreshToken;
+    }
+
+    private String buildRefreshToken(String email, Long memberId, String deviceId) {
         Claims claims = Jwts.claims();
-        claims.setSubject(authentication.getName());
+        claims.setSubject(email);
+        claims.setId(UUID.randomUUID().toString());
+        claims.put(TokenClaims.MEMBER_ID_CLAIM, memberId);
+        claims.put(TokenClaims.DEVICE_ID_CLAIM, deviceId);
+        claims.put(TokenClaims.TYPE_CLAIM, TokenType.REFRESH.getClaimValue());
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + refreshExpirationTime);
 
-        String refreshToken = Jwts.builder()
+        return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(SignatureAlgorithm.HS512, secretKey)
+                .signWith(signingKey, SIGNATURE_ALGORITHM)
                 .compact();
-        // redis에 refresh token 저장
-        redisService.setValues(authentication.getName(), refreshToken, Duration.ofMillis(refreshExpirationTime));
-        return refreshToken;
     }
 
     public Cookie createCookie(String refreshToken) {
-        String cookieName = "refreshToken";
-        Cookie cookie = new Cookie(cookieName, refreshToken);
+        Cookie cookie = new Cookie(REFRESH_TOKEN_COOKIE, refreshToken);
 
         cookie.setHttpOnly(true);
         cookie.setSecure(true);
@@ -87,14 +115,37 @@ public class JwtTokenProvider {
         return cookie;
     }
 
-    // 토큰으로부터 클레임을 만들고, User 객체를 생성해서 Authentication 객체 반환
-    public Authentication getAuthentication(String token) {
-        String userPrincipal = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userPrincipal);
+    public Cookie expireCookie() {
+        Cookie cookie = createCookie(null);
+        cookie.setMaxAge(0);
+        return cookie;
+    }
+
+    // 검증된 클레임만으로 User 객체를 생성해서 Authentication 객체 반환 (요청마다 회원 조회 없음)
+    public Authentication getAuthentication(TokenClaims claims) {
+        if (claims.getEmail() == null) {
+            throw new BalanceTalkException(ErrorCode.INVALID_JWT_TOKEN);
+        }
+        UserDetails userDetails = new User(claims.getEmail(), "", Collections.emptySet());
 
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /*
+        필터에서 파싱한 클레임을 요청에 보관해 두고, 서비스에서는 다시 파싱하지 않고 꺼내 쓴다.
+     */
+    public void storeClaims(HttpServletRequest request, TokenClaims claims) {
+        request.setAttribute(TOKEN_CLAIMS_ATTRIBUTE, claims);
+    }
+
+    public TokenClaims resolveClaims(HttpServletRequest request) {
+        Object claims = request.getAttribute(TOKEN_CLAIMS_ATTRIBUTE);
+        if (claims instanceof TokenClaims tokenClaims) {
+            return tokenClaims;
+        }
+        return parseAccessToken(resolveToken(request));
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -104,20 +155,32 @@ public class JwtTokenProvider {
     }
 
     public String getPayload(String token) {
-        validateToken(token);
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
+        return parseAccessToken(token).getEmail();
     }
 
     public Long getMemberId(String token) {
-        validateToken(token);
-        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
-        return claims.get("memberId", Long.class);
+        return parseAccessToken(token).getMemberId();
     }
 
     public boolean validateToken(String token) {
+        parseAccessToken(token);
+        return true;
+    }
+
+    /*
+        요청 인증에는 액세스 토큰만 받는다. 리프레시 토큰을 Authorization 헤더로 보내도 인증되지 않는다.
+     */
+    public TokenClaims parseAccessToken(String token) {
+        TokenClaims claims = parse(token);
+        if (claims.getType() != TokenType.ACCESS) {
+            throw new BalanceTalkException(ErrorCode.INVALID_JWT_TOKEN);
+        }
+        return claims;
+    }
+
+    public TokenClaims parse(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
+            return TokenClaims.from(jwtParser.parseClaimsJws(token).getBody(), accessExpirationTime);
         } catch (ExpiredJwtException e) {
             throw new BalanceTalkException(ErrorCode.EXPIRED_JWT_TOKEN);
         } catch (IllegalArgumentException | MalformedJwtException e) {
@@ -133,15 +196,38 @@ public class JwtTokenProvider {
         }
     }
 
-
-    public String reissueAccessToken(String refreshToken, Long memberId) {
-        validateToken(refreshToken);
-        Authentication authentication = getAuthentication(refreshToken);
-        // redis에 저장된 RefreshToken 값을 가져옴
-        String redisRefreshToken = redisService.getValues(authentication.getName());
-        if (!redisRefreshToken.equals(refreshToken)) {
+    /*
+        리프레시 토큰을 한 번만 파싱하고, Redis 왕복 한 번으로 교체한 뒤 새 액세스/리프레시 토큰을 발급
+     */
+    public ReissuedToken reissue(String refreshToken) {
+        TokenClaims claims = parse(refreshToken);
+        String email = claims.getEmail();
+        Long memberId = claims.getMemberId();
+        String deviceId = claims.getDeviceId();
+        if (claims.getType() != TokenType.REFRESH || memberId == null || deviceId == null) {
             throw new BalanceTalkException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
-        return createAccessToken(authentication, memberId);
+
+        String newRefreshToken = buildRefreshToken(email, memberId, deviceId);
+        refreshTokenStore.rotate(memberId, deviceId, refreshToken, newRefreshToken,
+                Duration.ofMillis(refreshExpirationTime));
+        return new ReissuedToken(createAccessToken(email, memberId), newRefreshToken);
+    }
+
+    /*
+        리프레시 토큰에 담긴 기기의 세션을 폐기 (만료되었거나 잘못된 토큰은 이미 폐기할 세션이 없음)
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        TokenClaims claims;
+        try {
+            claims = parse(refreshToken);
+        } catch (BalanceTalkException e) {
+            return;
+        }
+        Long memberId = claims.getMemberId();
+        String deviceId = claims.getDeviceId();
+        if (claims.getType() == TokenType.REFRESH && memberId != null && deviceId != null) {
+            refreshTokenStore.revoke(memberId, deviceId);
+        }
     }
 }
@@ -0,0 +1,124 @@
+package balancetalk.global.jwt;
+
+import static balancetalk.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
+import static balancetalk.global.exception.ErrorCode.REUSED_REFRESH_TOKEN;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.global.utils.ClientUtils;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/*
+    리프레시 토큰을 (회원, 기기) 단위로 Redis에 저장한다.
+    - refresh:{memberId}:device:{deviceId} -> 현재 유효한 리프레시 토큰의 SHA-256 해시
+    - refresh:{memberId}:devices           -> 로그인 중인 기기 ID 집합
+    {memberId} 는 Redis Cluster 해시 태그라서 한 회원의 키는 같은 슬롯에 놓이고, 모든 변경은 Lua 스크립트 한 번으로 처리된다.
+    재발급마다 토큰을 교체(rotation)하며, 이미 교체된 토큰이 다시 들어오면 탈취로 보고 회원의 모든 기기 토큰을 폐기한다.
+    (탈취된 토큰이 어느 기기에서 나왔는지 알 수 없으므로, 기기 하나가 아니라 토큰 계열 전체를 끊는다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:";
+
+    private static final long REUSED = -1L;
+
+    // KEYS: 토큰 키, 기기 집합 키 / ARGV: 토큰 해시, TTL(ms), 기기 ID
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: 토큰 키, 기기 집합 키 / ARGV: 기존 토큰 해시, 새 토큰 해시, TTL(ms), 기기 ID, 토큰 키 접두사
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 0
+            end
+            if current ~= ARGV[1] then
+                local devices = redis.call('SMEMBERS', KEYS[2])
+                for _, device in ipairs(devices) do
+                    redis.call('DEL', ARGV[5] .. device)
+                end
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return -1
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: 토큰 키, 기기 집합 키 / ARGV: 기기 ID
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    // KEYS: 기기 집합 키 / ARGV: 토큰 키 접두사
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+            local devices = redis.call('SMEMBERS', KEYS[1])
+            for _, device in ipairs(devices) do
+                redis.call('DEL', ARGV[1] .. device)
+            end
+            redis.call('DEL', KEYS[1])
+            return #devices
+            """, Long.class);
+
+    private final RedisService redisService;
+
+    public void save(Long memberId, String deviceId, String refreshToken, Duration ttl) {
+        redisService.executeScript(SAVE_SCRIPT, keys(memberId, deviceId),
+                hash(refreshToken), String.valueOf(ttl.toMillis()), deviceId);
+    }
+
+    /*
+        저장된 해시와 일치하면 새 토큰으로 교체한다.
+        저장된 토큰이 없으면(로그아웃, 만료) INVALID_REFRESH_TOKEN,
+        다른 토큰이 저장되어 있으면(이미 교체된 토큰 재사용) 회원의 모든 기기 세션을 폐기하고 REUSED_REFRESH_TOKEN
+     */
+    public void rotate(Long memberId, String deviceId, String oldToken, String newToken, Duration ttl) {
+        Long result = redisService.executeScript(ROTATE_SCRIPT, keys(memberId, deviceId),
+                hash(oldToken), hash(newToken), String.valueOf(ttl.toMillis()), deviceId, tokenKeyPrefix(memberId));
+        if (result == null || result == 0L) {
+            throw new BalanceTalkException(INVALID_REFRESH_TOKEN);
+        }
+        if (result == REUSED) {
+            throw new BalanceTalkException(REUSED_REFRESH_TOKEN);
+        }
+    }
+
+    public void revoke(Long memberId, String deviceId) {
+        redisService.executeScript(REVOKE_SCRIPT, keys(memberId, deviceId), deviceId);
+    }
+
+    public void revokeAll(Long memberId) {
+        redisService.executeScript(REVOKE_ALL_SCRIPT, List.of(devicesKey(memberId)), tokenKeyPrefix(memberId));
+    }
+
+    public boolean hasSession(Long memberId) {
+        return redisService.checkExistsValue(devicesKey(memberId));
+    }
+
+    private static List<String> keys(Long memberId, String deviceId) {
+        return List.of(tokenKeyPrefix(memberId) + deviceId, devicesKey(memberId));
+    }
+
+    private static String tokenKeyPrefix(Long memberId) {
+        return KEY_PREFIX + "{" + memberId + "}:device:";
+    }
+
+    private static String devicesKey(Long memberId) {
+        return KEY_PREFIX + "{" + memberId + "}:devices";
+    }
+
+    private static String hash(String refreshToken) {
+        return ClientUtils.sha256(refreshToken);
+    }
+}
@@ -0,0 +1,12 @@
+package balancetalk.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReissuedToken {
+
+    private final String accessToken;
+    private final String refreshToken;
+}
@@ -0,0 +1,32 @@
+package balancetalk.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    검증을 마친 토큰의 클레임. 요청마다 한 번만 파싱해서 필터와 서비스가 함께 사용한다.
+    memberId, deviceId 는 해당 클레임이 없는 토큰이면 null, type 은 알 수 없는 typ 값이면 null
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+    static final String MEMBER_ID_CLAIM = "memberId";
+    static final String DEVICE_ID_CLAIM = "deviceId";
+    static final String TYPE_CLAIM = "typ";
+
+    private final String email;
+    private final Long memberId;
+    private final String deviceId;
+    private final Date expiration;
+    private final TokenType type;
+
+    static TokenClaims from(Claims claims, long accessLifetimeMillis) {
+        TokenType type = TokenType.of(claims.get(TYPE_CLAIM, String.class), claims.getIssuedAt(),
+                claims.getExpiration(), accessLifetimeMillis);
+        return new TokenClaims(claims.getSubject(), claims.get(MEMBER_ID_CLAIM, Long.class),
+                claims.get(DEVICE_ID_CLAIM, String.class), claims.getExpiration(), type);
+    }
+}
@@ -0,0 +1,41 @@
+package balancetalk.global.jwt;
+
+import java.util.Arrays;
+import java.util.Date;
+import lombok.Getter;
+
+/*
+    토큰 용도. typ 클레임에 claimValue 로 기록해서 액세스/리프레시 토큰을 서로 대신 쓰지 못하게 한다.
+ */
+@Getter
+public enum TokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    // JWT 의 발급/만료 시각은 초 단위로 잘려 기록되므로 수명 비교에 1초 오차를 둔다.
+    private static final long LIFETIME_TOLERANCE_MILLIS = 1000L;
+
+    private final String claimValue;
+
+    TokenType(String claimValue) {
+        this.claimValue = claimValue;
+    }
+
+    /*
+        typ 클레임이 없는 토큰(클레임 추가 전 발급분)은 발급 시각부터 만료 시각까지의 수명으로 구분한다.
+        액세스 토큰 수명보다 길게 발급된 토큰은 기기 ID 유무와 상관없이 리프레시 토큰이고, 발급 시각이 없으면 받지 않는다. (null)
+     */
+    static TokenType of(String claimValue, Date issuedAt, Date expiration, long accessLifetimeMillis) {
+        if (claimValue == null) {
+            if (issuedAt == null || expiration == null) {
+                return null;
+            }
+            long lifetime = expiration.getTime() - issuedAt.getTime();
+            return lifetime <= accessLifetimeMillis + LIFETIME_TOLERANCE_MILLIS ? ACCESS : REFRESH;
+        }
+        return Arrays.stream(values())
+                .filter(type -> type.claimValue.equals(claimValue))
+                .findFirst()
+                .orElse(null);
+    }
+}
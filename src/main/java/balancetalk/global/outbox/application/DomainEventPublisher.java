@@ -0,0 +1,47 @@
+package balancetalk.global.outbox.application;
+
+import balancetalk.global.outbox.domain.DomainEvent;
+import balancetalk.global.outbox.domain.DomainEventType;
+import balancetalk.global.outbox.domain.OutboxEvent;
+import balancetalk.global.outbox.domain.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    도메인 이벤트를 아웃박스 테이블에 저장한다. 비즈니스 데이터와 함께 커밋되어야 하므로
+    반드시 호출한 쪽의 트랜잭션 안에서 실행한다. 실제 전달은 OutboxRelay 가 맡는다.
+    저장 전에 애그리거트 잠금 행을 잡아, 같은 애그리거트의 이벤트는 커밋 순서대로 id 를 받는다.
+    (앞선 트랜잭션이 커밋해야 다음 트랜잭션이 id 를 받으므로, 릴레이가 뒤 이벤트를 읽을 때 앞 이벤트도 이미 보인다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        outboxEventRepository.lockAggregate(event.aggregateType().name(), event.aggregateId());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(DomainEventType.of(event))
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .payload(toJson(event))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("도메인 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+    }
+}
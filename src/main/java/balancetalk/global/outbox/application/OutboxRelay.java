@@ -0,0 +1,212 @@
+package balancetalk.global.outbox.application;
+
+import balancetalk.global.config.OutboxConfig;
+import balancetalk.global.outbox.domain.DomainEvent;
+import balancetalk.global.outbox.domain.OutboxEvent;
+import balancetalk.global.outbox.domain.OutboxEventRepository;
+import balancetalk.global.redis.application.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    아웃박스의 미전달 이벤트를 id 순서대로 읽어 애플리케이션 이벤트(@EventListener)와
+    Redis 채널(events:{topic})로 전달한다. 전달은 최소 한 번(at-least-once)이므로 리스너는 중복 수신을 견뎌야 한다.
+    (증감 리스너는 ProcessedEvents 로 이미 반영한 이벤트를 건너뛴다.)
+    - Redis 락을 잡은 인스턴스 하나만 전달한다.
+    - 같은 애그리거트의 이벤트는 커밋 순서대로 id 를 받으므로 (DomainEventPublisher) id 순서로 전달하면 애그리거트별 순서가 지켜진다.
+      다른 애그리거트끼리는 순서를 보장하지 않는다.
+    - 전달에 실패한 이벤트가 있으면 같은 애그리거트의 뒤 이벤트는 그 이벤트가 전달될 때까지 보류한다.
+    - outbox.lag: 가장 오래된 미전달 이벤트의 대기 시간 (락을 잡은 인스턴스만 갱신, 나머지는 0)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LEADER_LOCK_KEY = "outbox:relay:leader";
+
+    // KEYS: 락 키 / ARGV: 인스턴스 id, TTL(ms)
+    // 반환: 락을 이미 가지고 있거나 새로 잡았으면 1, 다른 인스턴스가 가지고 있으면 0
+    private static final RedisScript<Long> LEADER_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final OutboxConfig outboxConfig;
+    private final MeterRegistry meterRegistry;
+    private final Timer deliveryLag;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, ApplicationEventPublisher applicationEventPublisher,
+                       RedisService redisService, ObjectMapper objectMapper, OutboxConfig outboxConfig,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.outboxConfig = outboxConfig;
+        this.meterRegistry = meterRegistry;
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("이벤트 저장부터 전달까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래된 미전달 이벤트의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:200}")
+    public void relay() {
+        for (int i = 0; i < outboxConfig.getMaxBatchesPerRun(); i++) {
+            if (!acquireLeadership()) {
+                lagMillis.set(0);
+                return;
+            }
+            if (!relayBatch()) {
+                break;
+            }
+        }
+        updateLag();
+    }
+
+    /*
+        배치 하나를 전달하고, 배치가 가득 찼고 전달된 이벤트가 있어 바로 다음 배치를 읽어야 하면 true
+     */
+    boolean relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(PageRequest.of(0, outboxConfig.getBatchSize()));
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> blockedAggregates = new HashSet<>();
+        List<Long> completedIds = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            if (blockedAggregates.contains(event.aggregateKey())) {
+                continue;
+            }
+            if (event.isWaitingRetry(now)) {
+                blockedAggregates.add(event.aggregateKey());
+                continue;
+            }
+            try {
+                deliver(event);
+                completedIds.add(event.getId());
+                deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                meterRegistry.counter("outbox.delivered", "type", event.getEventType().name()).increment();
+            } catch (RuntimeException e) {
+                blockedAggregates.add(event.aggregateKey());
+                if (handleFailure(event, e)) {
+                    completedIds.add(event.getId());
+                }
+            }
+        }
+
+        if (!completedIds.isEmpty()) {
+            outboxEventRepository.markPublished(completedIds, LocalDateTime.now());
+        }
+        return events.size() == outboxConfig.getBatchSize() && !completedIds.isEmpty();
+    }
+
+    private void deliver(OutboxEvent event) {
+        DomainEvent domainEvent = readPayload(event);
+        ProcessedEvents.deliver(event.getId(), () -> applicationEventPublisher.publishEvent(domainEvent));
+        redisService.publish(event.getEventType().channel(), toMessage(event));
+    }
+
+    private DomainEvent readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), event.getEventType().getEventClass());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패", e);
+        }
+    }
+
+    /*
+        Redis 메시지: {"id", "type", "aggregateType", "aggregateId", "createdAt", "payload"}
+        구독자는 id 로 중복 수신을 걸러낼 수 있다.
+     */
+    private String toMessage(OutboxEvent event) {
+        try {
+            ObjectNode message = objectMapper.createObjectNode()
+                    .put("id", event.getId())
+                    .put("type", event.getEventType().name())
+                    .put("aggregateType", event.getAggregateType().name())
+                    .put("aggregateId", event.getAggregateId())
+                    .put("createdAt", event.getCreatedAt().toString());
+            message.set("payload", objectMapper.readTree(event.getPayload()));
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 메시지 직렬화 실패", e);
+        }
+    }
+
+    /*
+        재시도 시각을 기록하고, 최대 시도 횟수에 도달했으면 이벤트를 버린다. (버렸으면 true)
+     */
+    private boolean handleFailure(OutboxEvent event, RuntimeException e) {
+        meterRegistry.counter("outbox.delivery.failed", "type", event.getEventType().name()).increment();
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= outboxConfig.getMaxAttempts()) {
+            log.error("outbox event discarded. id={}, type={}, aggregate={}, attempts={}",
+                    event.getId(), event.getEventType(), event.aggregateKey(), attempts, e);
+            meterRegistry.counter("outbox.discarded", "type", event.getEventType().name()).increment();
+            return true;
+        }
+        log.warn("outbox event delivery failed. id={}, type={}, aggregate={}, attempts={}, error={}",
+                event.getId(), event.getEventType(), event.aggregateKey(), attempts, e.getMessage());
+        outboxEventRepository.markFailed(event.getId(), LocalDateTime.now().plus(outboxConfig.backoff(attempts)));
+        return false;
+    }
+
+    private boolean acquireLeadership() {
+        try {
+            Long acquired = redisService.executeScript(LEADER_LOCK_SCRIPT, List.of(LEADER_LOCK_KEY),
+                    instanceId, String.valueOf(outboxConfig.getLeaderLockTtl().toMillis()));
+            return Long.valueOf(1L).equals(acquired);
+        } catch (DataAccessException e) {
+            log.warn("outbox relay skipped, failed to acquire leader lock. error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxEventRepository.findOldestUnpublishedCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 4 * * *}")
+    public void deletePublished() {
+        LocalDateTime before = LocalDateTime.now().minus(outboxConfig.getRetention());
+        int deleted = outboxEventRepository.deletePublishedBefore(before);
+        int processed = outboxEventRepository.deleteProcessedBefore(before);
+        int locks = outboxEventRepository.deleteAggregateLocksBefore(before);
+        log.info("published outbox events deleted. count={}, processed={}, locks={}", deleted, processed, locks);
+    }
+}
@@ -0,0 +1,58 @@
+package balancetalk.global.outbox.application;
+
+import balancetalk.global.config.OutboxConfig;
+import balancetalk.global.outbox.domain.OutboxEventRepository;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    릴레이는 이벤트 하나를 모든 리스너에 한 번에 전달하고, 하나라도 실패하면 이벤트 전체를 다시 보낸다.
+    증감을 더하는 리스너는 (리스너 이름, 아웃박스 id) 처리 기록으로 이미 반영한 이벤트를 건너뛴다.
+    - DB 리스너: markProcessed 를 리스너 트랜잭션 안에서 호출 (롤백되면 기록도 함께 취소)
+    - Redis 리스너: markerKey 를 증감과 같은 Lua 스크립트에서 SET NX 로 기록
+    릴레이를 거치지 않고 직접 호출되면 (테스트 등) 아웃박스 id 가 없으므로 항상 처음 처리로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessedEvents {
+
+    private static final ThreadLocal<Long> DELIVERING = new ThreadLocal<>();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConfig outboxConfig;
+
+    // 리스너는 릴레이 스레드에서 동기로 실행되므로 전달 중인 아웃박스 id 를 스레드에 둔다.
+    static void deliver(Long eventId, Runnable delivery) {
+        DELIVERING.set(eventId);
+        try {
+            delivery.run();
+        } finally {
+            DELIVERING.remove();
+        }
+    }
+
+    public Long currentEventId() {
+        return DELIVERING.get();
+    }
+
+    // 처음 처리하는 이벤트면 true
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markProcessed(String consumer) {
+        Long eventId = currentEventId();
+        return eventId == null || outboxEventRepository.insertProcessed(consumer, eventId) > 0;
+    }
+
+    // Redis 처리 기록 키. 클러스터에서 증감 대상 키와 같은 슬롯에 두려면 hashTag 에 그 키의 해시 태그를 넘긴다.
+    public String markerKey(String hashTag, String consumer) {
+        Long eventId = currentEventId();
+        return eventId == null ? null : "outbox:{" + hashTag + "}:processed:" + consumer + ":" + eventId;
+    }
+
+    // 재시도가 끝날 때까지 남아 있도록 전달 완료 이벤트와 같은 기간 보관
+    public Duration retention() {
+        return outboxConfig.getRetention();
+    }
+}
@@ -0,0 +1,6 @@
+package balancetalk.global.outbox.domain;
+
+public enum AggregateType {
+
+    POST, COMMENT
+}
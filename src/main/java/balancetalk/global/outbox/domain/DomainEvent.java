@@ -0,0 +1,12 @@
+package balancetalk.global.outbox.domain;
+
+/*
+    아웃박스를 거쳐 전달되는 도메인 이벤트. 최소 한 번 전달되며 순서는 보장하지 않는다.
+    애그리거트 정보는 페이로드(JSON)에 포함되지 않도록 getter 형식이 아닌 메서드로 제공한다.
+ */
+public interface DomainEvent {
+
+    AggregateType aggregateType();
+
+    Long aggregateId();
+}
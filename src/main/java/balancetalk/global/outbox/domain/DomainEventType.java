@@ -0,0 +1,63 @@
+package balancetalk.global.outbox.domain;
+
+import balancetalk.module.bookmark.domain.BookmarkAddedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRemovedEvent;
+import balancetalk.module.comment.domain.CommentCreatedEvent;
+import balancetalk.module.comment.domain.CommentDeletedEvent;
+import balancetalk.module.comment.domain.CommentLikeCanceledEvent;
+import balancetalk.module.comment.domain.CommentLikedEvent;
+import balancetalk.module.post.domain.PostCreatedEvent;
+import balancetalk.module.post.domain.PostDeletedEvent;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteChangedEvent;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/*
+    아웃박스에 저장되는 이벤트 종류. topic 별로 Redis 채널(events:{topic})이 나뉜다.
+    저장된 이름으로 역직렬화하므로 이름을 바꾸거나 지우려면 남은 아웃박스 행을 먼저 처리해야 한다.
+ */
+@Getter
+public enum DomainEventType {
+
+    POST_CREATED("post", PostCreatedEvent.class),
+    POST_DELETED("post", PostDeletedEvent.class),
+    POST_LIKED("like", PostLikedEvent.class),
+    POST_LIKE_CANCELED("like", PostLikeCanceledEvent.class),
+    COMMENT_CREATED("comment", CommentCreatedEvent.class),
+    COMMENT_DELETED("comment", CommentDeletedEvent.class),
+    COMMENT_LIKED("like", CommentLikedEvent.class),
+    COMMENT_LIKE_CANCELED("like", CommentLikeCanceledEvent.class),
+    VOTE_CAST("vote", VoteCastEvent.class),
+    VOTE_CHANGED("vote", VoteChangedEvent.class),
+    BOOKMARK_ADDED("bookmark", BookmarkAddedEvent.class),
+    BOOKMARK_REMOVED("bookmark", BookmarkRemovedEvent.class);
+
+    private static final Map<Class<?>, DomainEventType> BY_EVENT_CLASS = Arrays.stream(values())
+            .collect(Collectors.toMap(DomainEventType::getEventClass, Function.identity()));
+
+    private final String topic;
+    private final Class<? extends DomainEvent> eventClass;
+
+    DomainEventType(String topic, Class<? extends DomainEvent> eventClass) {
+        this.topic = topic;
+        this.eventClass = eventClass;
+    }
+
+    public static DomainEventType of(DomainEvent event) {
+        DomainEventType type = BY_EVENT_CLASS.get(event.getClass());
+        if (type == null) {
+            throw new IllegalArgumentException("등록되지 않은 도메인 이벤트: " + event.getClass().getName());
+        }
+        return type;
+    }
+
+    public String channel() {
+        return "events:" + topic;
+    }
+}
@@ -0,0 +1,70 @@
+package balancetalk.global.outbox.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/*
+    도메인 이벤트 아웃박스. 비즈니스 데이터와 같은 트랜잭션에서 저장되고, OutboxRelay 가 id 순서대로 전달한다.
+    id 는 커밋 순서와 가깝게 증가해야 하므로 시퀀스 테이블 대신 AUTO_INCREMENT 를 사용한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_published_at_id", columnList = "published_at, outbox_event_id"))
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime publishedAt;
+
+    public String aggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+
+    public boolean isWaitingRetry(LocalDateTime now) {
+        return nextAttemptAt != null && nextAttemptAt.isAfter(now);
+    }
+}
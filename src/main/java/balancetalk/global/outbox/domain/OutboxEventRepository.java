@@ -0,0 +1,57 @@
+package balancetalk.global.outbox.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("select e from OutboxEvent e where e.publishedAt is null order by e.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("select min(e.createdAt) from OutboxEvent e where e.publishedAt is null")
+    LocalDateTime findOldestUnpublishedCreatedAt();
+
+    @Modifying
+    @Transactional
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Transactional
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt where e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    // 같은 애그리거트의 잠금 행을 커밋까지 잡는다. (없으면 만들고, 있으면 갱신하면서 배타 잠금)
+    @Modifying
+    @Query(value = "insert into outbox_aggregate_lock (aggregate_type, aggregate_id, locked_at) "
+            + "values (:aggregateType, :aggregateId, current_timestamp(6)) "
+            + "on duplicate key update locked_at = current_timestamp(6)", nativeQuery = true)
+    int lockAggregate(@Param("aggregateType") String aggregateType, @Param("aggregateId") Long aggregateId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from outbox_aggregate_lock where locked_at < :before", nativeQuery = true)
+    int deleteAggregateLocksBefore(@Param("before") LocalDateTime before);
+
+    // 이미 처리한 (리스너, 이벤트) 면 0
+    @Modifying
+    @Query(value = "insert ignore into processed_event (consumer, outbox_event_id, processed_at) "
+            + "values (:consumer, :eventId, current_timestamp)", nativeQuery = true)
+    int insertProcessed(@Param("consumer") String consumer, @Param("eventId") Long eventId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from processed_event where processed_at < :before", nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
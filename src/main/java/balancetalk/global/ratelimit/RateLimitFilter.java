@@ -0,0 +1,60 @@
+package balancetalk.global.ratelimit;
+
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.exception.ErrorResponse;
+import balancetalk.global.utils.ClientUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+    요청과 일치하는 첫 번째 정책으로 클라이언트 IP 단위 요청 수를 제한하고, 초과하면 429와 Retry-After(초)로 응답
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitPolicy> policies;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = findPolicy(request);
+        if (policy != null) {
+            long waitMillis = rateLimiter.tryAcquire(policy, ClientUtils.getClientIp(request));
+            if (waitMillis != RateLimiter.ALLOWED) {
+                reject(response, waitMillis);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RateLimitPolicy findPolicy(HttpServletRequest request) {
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(request)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) throws IOException {
+        ErrorCode errorCode = ErrorCode.RATE_LIMIT_EXCEEDED;
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        response.setCharacterEncoding("utf-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(ErrorResponse.from(errorCode)));
+    }
+}
@@ -0,0 +1,37 @@
+package balancetalk.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/*
+    경로별 토큰 버킷 정책. 클라이언트(IP)마다 capacity 개의 토큰을 가지며, refillPeriod 동안 capacity 개가 다시 채워진다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitPolicy {
+
+    private final String name;
+    private final RequestMatcher matcher;
+    private final int capacity;
+    private final Duration refillPeriod;
+
+    public static RateLimitPolicy of(String name, HttpMethod method, String pattern,
+                                     int capacity, Duration refillPeriod) {
+        return new RateLimitPolicy(name, new AntPathRequestMatcher(pattern, method.name()), capacity, refillPeriod);
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return matcher.matches(request);
+    }
+
+    // 밀리초당 채워지는 토큰 수
+    public double refillPerMillis() {
+        return (double) capacity / refillPeriod.toMillis();
+    }
+}
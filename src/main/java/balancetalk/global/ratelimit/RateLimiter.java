@@ -0,0 +1,118 @@
+package balancetalk.global.ratelimit;
+
+import balancetalk.global.redis.application.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    Redis 토큰 버킷으로 모든 서버 인스턴스가 같은 한도를 공유한다. (Lua 스크립트 한 번 왕복)
+    Redis 장애 시에는 인스턴스 로컬 버킷으로 제한을 이어간다. (인스턴스 수만큼 한도가 느슨해짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    public static final long ALLOWED = 0L;
+
+    // KEYS: 버킷 키 / ARGV: 용량, 밀리초당 충전량, TTL(ms)
+    // 반환: 0 이면 허용, 아니면 토큰 하나가 채워질 때까지 기다려야 하는 시간(ms)
+    // 현재 시각은 Redis 서버 시각(TIME)을 써서 인스턴스 간 시계 차이가 충전량에 영향을 주지 않게 한다.
+    // (Redis 3.2~4 는 TIME 뒤에 쓰기를 하려면 명령 대신 결과를 복제하도록 먼저 알려야 함. 5 이상은 기본 동작)
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = RedisScript.of("""
+            if redis.replicate_commands then
+                redis.replicate_commands()
+            end
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', string.format('%d', now))
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return wait
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    /*
+        토큰 하나를 사용한다. 허용되면 ALLOWED(0), 거절되면 재시도까지 남은 시간(ms)을 반환
+     */
+    public long tryAcquire(RateLimitPolicy policy, String clientKey) {
+        String key = KEY_PREFIX + policy.getName() + ":" + clientKey;
+        long waitMillis;
+        try {
+            Long result = redisService.executeScript(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(policy.getCapacity()), String.valueOf(policy.refillPerMillis()),
+                    String.valueOf(policy.getRefillPeriod().toMillis()));
+            waitMillis = result == null ? ALLOWED : result;
+        } catch (DataAccessException e) {
+            log.warn("rate limit fallback to local bucket. policy={}, error={}", policy.getName(), e.getMessage());
+            meterRegistry.counter("ratelimit.fallback", "policy", policy.getName()).increment();
+            // 로컬 버킷은 이 인스턴스 안에서만 쓰므로 인스턴스 시각을 그대로 사용
+            long now = System.currentTimeMillis();
+            waitMillis = localBuckets.computeIfAbsent(key, k -> new LocalBucket(policy.getCapacity(), now))
+                    .tryAcquire(policy, now);
+        }
+
+        if (waitMillis != ALLOWED) {
+            meterRegistry.counter("ratelimit.rejected", "policy", policy.getName()).increment();
+        }
+        return waitMillis;
+    }
+
+    // 다 채워진 로컬 버킷은 새로 만드는 것과 같으므로 정리
+    @Scheduled(fixedDelayString = "${ratelimit.local-cleanup-interval-ms:60000}")
+    public void evictIdleLocalBuckets() {
+        long now = System.currentTimeMillis();
+        localBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private static class LocalBucket {
+
+        private double tokens;
+        private long updatedAt;
+        private long idleAt;
+
+        LocalBucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        synchronized long tryAcquire(RateLimitPolicy policy, long now) {
+            double rate = policy.refillPerMillis();
+            tokens = Math.min(policy.getCapacity(), tokens + Math.max(0, now - updatedAt) * rate);
+            updatedAt = now;
+            idleAt = now + policy.getRefillPeriod().toMillis();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return ALLOWED;
+            }
+            return (long) Math.ceil((1 - tokens) / rate);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now >= idleAt;
+        }
+    }
+}
@@ -3,19 +3,33 @@ package balancetalk.global.redis.application;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final StringRedisSerializer STRING_SERIALIZER = new StringRedisSerializer();
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
 
     public void setValues(String key, String data) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
@@ -30,12 +44,63 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    /*
+        키가 없을 때만 저장하고, 저장되었는지 여부를 반환
+     */
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
     @Transactional(readOnly = true)
     public String getValues(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
         return (String) values.get(key);
     }
 
+    /*
+        여러 키의 값을 MGET 한 번으로 조회 (없는 키는 null, 요청한 키 순서 유지)
+     */
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+        return values.stream()
+                .map(value -> value == null ? null : String.valueOf(value))
+                .toList();
+    }
+
+    /*
+        여러 키와 data를 만료 시간과 함께 한 번의 파이프라인으로 저장 (MSET은 만료 시간을 지원하지 않음)
+     */
+    public void multiSet(Map<String, String> data, Duration duration) {
+        if (data.isEmpty()) {
+            return;
+        }
+        executePipelined(operations -> {
+            ValueOperations<String, Object> values = operations.opsForValue();
+            data.forEach((key, value) -> values.set(key, value, duration));
+        });
+    }
+
+    /*
+        전달한 명령들을 파이프라인으로 묶어 한 번의 왕복으로 실행하고, 각 명령의 결과를 순서대로 반환
+     */
+    public List<Object> executePipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
@@ -45,15 +110,41 @@ public class RedisService {
     }
 
     /*
-        해당 키와 해시키가 존재하면, 해당 값을 가져오고 없을 경우엔 빈 문자열 반환
+        해당 키와 해시키가 존재하면, 해당 값을 가져오고 없을 경우엔 빈 문자열 반환 (HGET 한 번)
      */
     public String getHashOps(String key, String hashKey) {
         HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
-        boolean exists = Boolean.TRUE.equals(values.hasKey(key, hashKey));
-        if (exists) {
-            return (String) redisTemplate.opsForHash().get(key, hashKey);
+        Object value = values.get(key, hashKey);
+        return value == null ? "" : (String) value;
+    }
+
+    /*
+        해시의 여러 필드를 한 번에 저장하고 만료 시간을 갱신
+     */
+    public void setHashOps(String key, Map<String, String> data, Duration duration) {
+        executePipelined(operations -> {
+            operations.opsForHash().putAll(key, data);
+            operations.expire(key, duration);
+        });
+    }
+
+    /*
+        해시의 여러 필드를 HINCRBYFLOAT 로 증감하고 만료 시간을 갱신 (파이프라인 한 번)
+     */
+    public void incrementHashOps(String key, Map<String, Double> deltas, Duration duration) {
+        if (deltas.isEmpty()) {
+            return;
         }
-        return ""; // 빈 문자열 반환
+        executePipelined(operations -> {
+            HashOperations<String, Object, Object> values = operations.opsForHash();
+            deltas.forEach((hashKey, delta) -> values.increment(key, hashKey, delta));
+            operations.expire(key, duration);
+        });
+    }
+
+    public Map<Object, Object> getHashEntries(String key) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        return values.entries(key);
     }
 
     public void deleteHashOps(String key, String hashKey) {
@@ -61,8 +152,54 @@ public class RedisService {
         values.delete(key, hashKey);
     }
 
+    /*
+        리스트를 통째로 교체한다. 임시 키에 채운 뒤 RENAME 하므로 읽는 쪽은 이전 리스트나 새 리스트만 보게 된다.
+        클러스터에서는 임시 키가 같은 슬롯에 놓이도록 key 에 해시 태그({...})가 있어야 한다.
+     */
+    public void replaceList(String key, List<String> values, Duration duration) {
+        if (values.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String temporaryKey = key + ":tmp";
+        executePipelined(operations -> {
+            operations.delete(temporaryKey);
+            operations.opsForList().rightPushAll(temporaryKey, values.toArray());
+            operations.expire(temporaryKey, duration);
+            operations.rename(temporaryKey, key);
+        });
+    }
+
+    /*
+        Lua 스크립트를 한 번의 왕복으로 실행 (인자와 저장 값은 직렬화 없이 문자열 그대로 사용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, STRING_SERIALIZER, (RedisSerializer<T>) STRING_SERIALIZER,
+                keys, (Object[]) args);
+    }
+
+    /*
+        채널에 메시지를 발행해 모든 서버 인스턴스에 전달
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /*
+        채널을 구독하고, 수신한 메시지를 문자열로 역직렬화해 handler에 전달
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            handler.accept(String.valueOf(payload));
+        }, new ChannelTopic(channel));
+    }
+
+    /*
+        값을 가져오지 않고 EXISTS로 키 존재 여부만 확인
+     */
     public boolean checkExistsValue(String key) {
-        String value = getValues(key);
-        return value != null;
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 }
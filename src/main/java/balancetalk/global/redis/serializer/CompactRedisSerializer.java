@@ -0,0 +1,115 @@
+package balancetalk.global.redis.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Set;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/*
+    Redis 값 직렬화 방식
+    - 문자열, 정수: UTF-8 그대로 저장 (JSON 따옴표나 타입 정보 없이, INCR 카운터와도 호환)
+    - 그 외 객체: [0x00][클래스 이름 길이(2 byte)][클래스 이름][CBOR 본문]
+    정수는 문자열로 저장되므로 역직렬화하면 String 으로 돌아온다.
+    클래스 이름은 Redis 에서 읽은 값이므로, 허용한 타입(balancetalk 패키지와 일부 JDK 값/컬렉션 타입)만 로드한다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte BINARY_MARKER = 0x00;
+
+    private static final String ALLOWED_PACKAGE_PREFIX = "balancetalk.";
+    private static final Set<String> ALLOWED_JDK_TYPES = Set.of(
+            Boolean.class.getName(), Double.class.getName(), Float.class.getName(),
+            ArrayList.class.getName(), LinkedList.class.getName(), HashSet.class.getName(),
+            LinkedHashSet.class.getName(), HashMap.class.getName(), LinkedHashMap.class.getName(),
+            LocalDate.class.getName(), LocalDateTime.class.getName(), Instant.class.getName());
+
+    private final ObjectMapper cborMapper = CBORMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof String string && !string.startsWith("\0")) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return writeBinary(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != BINARY_MARKER) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return readBinary(bytes);
+    }
+
+    private byte[] writeBinary(Object value) {
+        String typeName = value.getClass().getName();
+        if (!isAllowed(typeName)) {
+            throw new SerializationException("Redis 에 저장할 수 없는 타입입니다: " + typeName);
+        }
+        try {
+            byte[] type = typeName.getBytes(StandardCharsets.UTF_8);
+            byte[] body = cborMapper.writeValueAsBytes(value);
+            return ByteBuffer.allocate(1 + Short.BYTES + type.length + body.length)
+                    .put(BINARY_MARKER)
+                    .putShort((short) type.length)
+                    .put(type)
+                    .put(body)
+                    .array();
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값을 직렬화할 수 없습니다: " + typeName, e);
+        }
+    }
+
+    private Object readBinary(byte[] bytes) {
+        if (bytes.length < 1 + Short.BYTES) {
+            throw new SerializationException("Redis 값의 형식이 올바르지 않습니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        int typeLength = buffer.getShort() & 0xFFFF;
+        int bodyOffset = buffer.position() + typeLength;
+        if (bodyOffset > bytes.length) {
+            throw new SerializationException("Redis 값의 형식이 올바르지 않습니다.");
+        }
+        String typeName = new String(bytes, buffer.position(), typeLength, StandardCharsets.UTF_8);
+        if (!isAllowed(typeName)) {
+            throw new SerializationException("Redis 값의 타입이 허용되지 않습니다: " + typeName);
+        }
+        try {
+            Class<?> type = Class.forName(typeName, true, getClass().getClassLoader());
+            return cborMapper.readValue(bytes, bodyOffset, bytes.length - bodyOffset, type);
+        } catch (ClassNotFoundException | IOException e) {
+            throw new SerializationException("Redis 값을 역직렬화할 수 없습니다: " + typeName, e);
+        }
+    }
+
+    private static boolean isAllowed(String typeName) {
+        return typeName.startsWith(ALLOWED_PACKAGE_PREFIX) || ALLOWED_JDK_TYPES.contains(typeName);
+    }
+}
@@ -0,0 +1,57 @@
+package balancetalk.global.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClientUtils {
+
+    private static final String DEVICE_ID = "X-Device-Id";
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    /*
+        X-Device-Id 헤더 값이 안전한 형식(영문, 숫자, -, _ 최대 64자)일 때만 반환
+     */
+    public static String getDeviceId(HttpServletRequest request) {
+        String deviceId = request.getHeader(DEVICE_ID);
+        if (deviceId == null || !DEVICE_ID_PATTERN.matcher(deviceId).matches()) {
+            return null;
+        }
+        return deviceId;
+    }
+
+    /*
+        X-Forwarded-For 는 클라이언트가 임의로 보낼 수 있으므로 직접 읽지 않는다.
+        신뢰하는 프록시를 거친 요청은 Tomcat RemoteIpValve(server.forward-headers-strategy=native)가 remoteAddr 를 바꿔 둔다.
+     */
+    public static String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    /*
+        IP와 기기 식별값(없으면 User-Agent)을 합쳐 비회원을 구분하는 지문을 만든다.
+        헤더를 바꾸면 다른 지문이 되므로 중복 투표 확인에만 쓰고, 횟수 제한은 getClientIp 로 한다.
+     */
+    public static String getFingerprint(HttpServletRequest request) {
+        String device = request.getHeader(DEVICE_ID);
+        if (device == null || device.isBlank()) {
+            device = request.getHeader("User-Agent");
+        }
+        return sha256(getClientIp(request) + "|" + device);
+    }
+
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
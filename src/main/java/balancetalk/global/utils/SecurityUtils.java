@@ -13,10 +13,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 public class SecurityUtils {
 
     public static Member getCurrentMember(MemberRepository memberRepository) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-
-        return memberRepository.findByEmail(email)
+        return memberRepository.findByEmail(getCurrentEmail())
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_MEMBER));
     }
+
+    public static String getCurrentEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
 }
@@ -30,7 +30,7 @@ import java.util.stream.IntStream;
 @Transactional
 public class MailService {
 
-    private static final String TEMP = "temp ";
+    private static final String AUTH_CODE_KEY_PREFIX = "mail:auth-code:";
     private static final String SENDER_EMAIL = "bootsprng@gmail.com";
     private static final int AUTH_NUMBER_MIN = 0;
     private static final int AUTH_NUMBER_MAX = 6;
@@ -56,8 +56,8 @@ public class MailService {
     }
 
     public void verifyCode(EmailVerification request) {
-        String key = TEMP + request.getEmail();
-        Optional<Member> member = memberRepository.findByEmail(key);
+        String key = AUTH_CODE_KEY_PREFIX + request.getEmail();
+        Optional<Member> member = memberRepository.findByEmail(request.getEmail());
         if (member.isPresent()) {
             throw new BalanceTalkException(ErrorCode.ALREADY_REGISTERED_EMAIL);
         }
@@ -87,8 +87,7 @@ public class MailService {
         } catch (MessagingException e) {
             throw new BalanceTalkException(ErrorCode.FAIL_SEND_EMAIL);
         }
-        // 로그인 할 때 유저 이메일을 key로 토큰이 저장되기 때문에 key 중복
-        String key = TEMP + request.getEmail();
+        String key = AUTH_CODE_KEY_PREFIX + request.getEmail();
         redisService.setValues(key, authCode, Duration.ofMillis(authCodeExpirationMillis));
         return message;
     }
@@ -1,67 +1,93 @@
 package balancetalk.module.bookmark.application;
 
 import balancetalk.global.exception.BalanceTalkException;
-import balancetalk.module.bookmark.domain.Bookmark;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.module.bookmark.domain.BookmarkAddedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRemovedEvent;
 import balancetalk.module.bookmark.domain.BookmarkRepository;
 import balancetalk.module.bookmark.dto.BookmarkResponse;
+import balancetalk.module.bookmark.dto.BookmarkStatusResponse;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
-import balancetalk.module.post.domain.Post;
 import balancetalk.module.post.domain.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static balancetalk.global.exception.ErrorCode.*;
 import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
 
+/*
+    북마크 중복 여부는 (member_id, post_id) 유니크 인덱스로 판단한다. (LikeService 와 같은 방식)
+    북마크는 INSERT IGNORE 한 번으로 시도하고, 반영된 행이 없으면 이미 북마크한 상태로 보고 그대로 둔다.
+    추가/삭제는 여러 번 요청해도 결과가 같고, 상태가 실제로 바뀐 경우에만 도메인 이벤트를 남긴다.
+ */
 @Service
 @RequiredArgsConstructor
 public class BookmarkService {
 
+    private static final int MAX_STATUS_POST_IDS = 100;
+
     private final BookmarkRepository bookmarkRepository;
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberDeletionService memberDeletionService;
 
-    @Transactional
-    public Bookmark createBookmark(Long postId) {
+    public void createBookmark(Long postId) {
         Member member = getCurrentMember(memberRepository);
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_POST));
-        if (member.hasBookmarked(post)) {
-            throw new BalanceTalkException(ALREADY_BOOKMARK);
+        memberDeletionService.validateNotDeleting(member.getId());
+        Boolean bookmarked = transactionTemplate.execute(status -> {
+            if (bookmarkRepository.insertIgnore(member.getId(), postId) == 0) {
+                return false;
+            }
+            domainEventPublisher.publish(new BookmarkAddedEvent(postId, member.getId()));
+            return true;
+        });
+        // 반영된 행이 없을 때만 이미 북마크한 것인지, 게시글이 없는 것인지 구분
+        if (!Boolean.TRUE.equals(bookmarked) && !postRepository.existsById(postId)) {
+            throw new BalanceTalkException(NOT_FOUND_POST);
         }
-        Bookmark bookmark = Bookmark.builder()
-                .member(member)
-                .post(post)
-                .build();
-
-        return bookmarkRepository.save(bookmark);
     }
 
     @Transactional(readOnly = true)
-    public List<BookmarkResponse> findAllByMember() {
+    public Page<BookmarkResponse> findAllByMember(Pageable pageable) {
         Member member = getCurrentMember(memberRepository);
-        List<Bookmark> bookmarks = bookmarkRepository.findByMember(member);
+        return bookmarkRepository.findHistoryByMemberId(member.getId(), pageable)
+                .map(BookmarkResponse::from);
+    }
 
-        return bookmarks.stream()
-                .map(BookmarkResponse::fromEntity)
-                .collect(Collectors.toList());
+    /*
+        게시글 목록 한 페이지의 북마크 여부를 쿼리 한 번으로 조회한다. (요청한 순서대로)
+     */
+    @Transactional(readOnly = true)
+    public List<BookmarkStatusResponse> findStatuses(List<Long> postIds) {
+        if (postIds.size() > MAX_STATUS_POST_IDS) {
+            throw new BalanceTalkException(EXCEED_BOOKMARK_STATUS_SIZE);
+        }
+        Member member = getCurrentMember(memberRepository);
+        Set<Long> bookmarked = postIds.isEmpty() ? Set.of()
+                : new HashSet<>(bookmarkRepository.findBookmarkedPostIds(member.getId(), postIds));
+        return postIds.stream()
+                .map(postId -> new BookmarkStatusResponse(postId, bookmarked.contains(postId)))
+                .toList();
     }
 
-    @Transactional
     public void deleteByPostId(Long postId) {
         Member member = getCurrentMember(memberRepository);
-        Bookmark bookmark = bookmarkRepository.findByMemberAndPostId(member, postId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_BOOKMARK));
-
-        if (!bookmark.getMember().equals(member)) {
-            throw new BalanceTalkException(FORBIDDEN_BOOKMARK_DELETE);
-        }
-
-        bookmarkRepository.delete(bookmark);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (bookmarkRepository.deleteByMemberIdAndPostId(member.getId(), postId) > 0) {
+                domainEventPublisher.publish(new BookmarkRemovedEvent(postId, member.getId()));
+            }
+        });
     }
 }
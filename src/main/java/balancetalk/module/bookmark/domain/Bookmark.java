@@ -7,6 +7,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_member_post", columnNames = {"member_id", "post_id"}),
+        indexes = @Index(name = "idx_bookmark_member_id_created_at", columnList = "member_id, created_at"))
 @Builder
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -14,7 +16,7 @@ import lombok.*;
 public class Bookmark extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "bookmark_id")
     private Long id;
 
@@ -0,0 +1,19 @@
+package balancetalk.module.bookmark.domain;
+
+import java.time.LocalDateTime;
+
+/*
+    북마크 목록/마이페이지 - 북마크한 게시글 한 줄 (엔티티를 읽지 않는 프로젝션)
+ */
+public interface BookmarkHistory {
+
+    Long getId();
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    LocalDateTime getDeadline();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,30 @@
+package balancetalk.module.bookmark.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    회원이 게시글 북마크를 취소했음을 알리는 이벤트
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BookmarkRemovedEvent implements DomainEvent {
+
+    private Long postId;
+    private Long memberId;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.POST;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -1,17 +1,46 @@
 package balancetalk.module.bookmark.domain;
 
-import balancetalk.module.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
-    List<Bookmark> findByMember(Member member);
-    Optional<Bookmark> findByMemberAndPostId(Member member, Long postId);
 
-    Page<Bookmark> findAllByMemberId(Long memberId, Pageable pageable);
+    // 북마크 여부는 (member_id, post_id) 유니크 인덱스만 읽는다. (uk_bookmark_member_post)
+    @Query("select count(b) > 0 from Bookmark b where b.member.id = :memberId and b.post.id = :postId")
+    boolean existsByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
 
+    // 이미 북마크했거나 게시글이 없으면 반영된 행이 0 이다. (uk_bookmark_member_post)
+    @Modifying
+    @Transactional
+    @Query(value = "insert ignore into bookmark (member_id, post_id, created_at, last_modified_at) "
+            + "values (:memberId, :postId, current_timestamp(6), current_timestamp(6))", nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Query("select b.post.id from Bookmark b where b.member.id = :memberId and b.post.id in :postIds")
+    List<Long> findBookmarkedPostIds(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Bookmark b where b.member.id = :memberId and b.post.id = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    // member 테이블 조인 없이 외래 키 컬럼으로 조회하고, 게시글 제목/마감 기한까지 한 번에 가져온다. (idx_bookmark_member_id_created_at)
+    @Query(value = "select b.id as id, p.id as postId, p.title as postTitle, p.deadline as deadline, "
+            + "b.createdAt as createdAt "
+            + "from Bookmark b join b.post p where b.member.id = :memberId",
+            countQuery = "select count(b) from Bookmark b where b.member.id = :memberId")
+    Page<BookmarkHistory> findHistoryByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select b.post.id from Bookmark b where b.member.id = :memberId order by b.id desc")
+    List<Long> findRecentPostIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select b.id from Bookmark b where b.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
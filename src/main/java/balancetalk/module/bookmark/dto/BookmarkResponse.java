@@ -1,6 +1,7 @@
 package balancetalk.module.bookmark.dto;
 
-import balancetalk.module.bookmark.domain.Bookmark;
+import balancetalk.module.bookmark.domain.BookmarkHistory;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,17 +17,26 @@ public class BookmarkResponse {
     @Schema(description = "북마크 id", example = "5")
     private Long id;
 
+    @Schema(description = "게시글 id", example = "1")
+    private Long postId;
+
     @Schema(description = "게시글 제목", example = "게시글 제목")
     private String postTitle;
 
     @Schema(description = "투료 종료 기한", example = "2024-03-16 08:27:17.391706\t")
     private LocalDateTime deadline;
 
-    public static BookmarkResponse fromEntity(Bookmark bookmark) {
+    @JsonFormat(pattern = "yyyy/MM/dd HH:mm:ss")
+    @Schema(description = "북마크 추가 날짜", example = "2024/03/10 15:30:00")
+    private LocalDateTime bookmarkedAt;
+
+    public static BookmarkResponse from(BookmarkHistory bookmark) {
         return BookmarkResponse.builder()
                 .id(bookmark.getId())
-                .postTitle(bookmark.getPost().getTitle())
-                .deadline(bookmark.getPost().getDeadline())
+                .postId(bookmark.getPostId())
+                .postTitle(bookmark.getPostTitle())
+                .deadline(bookmark.getDeadline())
+                .bookmarkedAt(bookmark.getCreatedAt())
                 .build();
     }
 }
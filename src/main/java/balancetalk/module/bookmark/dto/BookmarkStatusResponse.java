@@ -0,0 +1,16 @@
+package balancetalk.module.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BookmarkStatusResponse {
+
+    @Schema(description = "게시글 id", example = "1")
+    private Long postId;
+
+    @Schema(description = "북마크 여부", example = "true")
+    private boolean bookmarked;
+}
@@ -1,14 +1,22 @@
 package balancetalk.module.bookmark.presentation;
 
+import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.module.bookmark.application.BookmarkService;
 import balancetalk.module.bookmark.dto.BookmarkResponse;
+import balancetalk.module.bookmark.dto.BookmarkStatusResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
+import static balancetalk.global.exception.ErrorCode.PAGE_NUMBER_ZERO;
+import static balancetalk.global.exception.ErrorCode.PAGE_SIZE_ZERO;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/bookmarks")
@@ -19,7 +27,7 @@ public class BookmarkController {
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/{postId}")
-    @Operation(summary = "북마크 추가", description = "post-id에 해당하는 게시글을 북마크에 추가한다.")
+    @Operation(summary = "북마크 추가", description = "post-id에 해당하는 게시글을 북마크에 추가한다. 이미 북마크한 게시글이면 그대로 둔다.")
     public String createBookmark(@PathVariable Long postId) {
         bookmarkService.createBookmark(postId);
         return "북마크가 등록 되었습니다.";
@@ -27,14 +35,28 @@ public class BookmarkController {
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
-    @Operation(summary = "북마크에 추가된 게시글 목록 조회", description = "회원이 북마크한 모든 게시글을 조회한다.")
-    public List<BookmarkResponse> findAllPosts() {
-        return bookmarkService.findAllByMember();
+    @Operation(summary = "북마크에 추가된 게시글 목록 조회", description = "회원이 북마크한 게시글을 최근 북마크한 순으로 조회한다.")
+    public Page<BookmarkResponse> findAllPosts(@RequestParam(value = "page", defaultValue = "0") int page,
+                                               @RequestParam(value = "size", defaultValue = "10") int size) {
+        if (page < 0) {
+            throw new BalanceTalkException(PAGE_NUMBER_ZERO);
+        }
+        if (size <= 0) {
+            throw new BalanceTalkException(PAGE_SIZE_ZERO);
+        }
+        return bookmarkService.findAllByMember(PageRequest.of(page, size, Sort.by("createdAt").descending()));
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/status")
+    @Operation(summary = "북마크 여부 일괄 조회", description = "게시글 id 목록(최대 100개)의 북마크 여부를 한 번에 조회한다.")
+    public List<BookmarkStatusResponse> findStatuses(@RequestParam("postIds") List<Long> postIds) {
+        return bookmarkService.findStatuses(postIds);
     }
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{postId}")
-    @Operation(summary = "북마크 삭제" , description = "회원이 북마크한 게시글을 삭제한다.")
+    @Operation(summary = "북마크 삭제" , description = "회원이 북마크한 게시글을 삭제한다. 북마크하지 않은 게시글이면 그대로 둔다.")
     public String deleteBookmark(@PathVariable Long postId) {
         bookmarkService.deleteByPostId(postId);
         return "북마크가 삭제되었습니다.";
@@ -2,12 +2,15 @@ package balancetalk.module.comment.application;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.outbox.application.DomainEventPublisher;
 import balancetalk.module.comment.domain.Comment;
-import balancetalk.module.comment.domain.CommentLike;
+import balancetalk.module.comment.domain.CommentCreatedEvent;
+import balancetalk.module.comment.domain.CommentDeletedEvent;
 import balancetalk.module.comment.domain.CommentLikeRepository;
 import balancetalk.module.comment.domain.CommentRepository;
 import balancetalk.module.comment.dto.CommentRequest;
 import balancetalk.module.comment.dto.CommentResponse;
+import balancetalk.module.comment.dto.CommentThreadResponse;
 import balancetalk.module.comment.dto.ReplyCreateRequest;
 import balancetalk.module.comment.dto.ReplyResponse;
 import balancetalk.module.member.domain.Member;
@@ -15,22 +18,29 @@ import balancetalk.module.member.domain.MemberRepository;
 import balancetalk.module.post.domain.BalanceOption;
 import balancetalk.module.post.domain.Post;
 import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.ViewStatus;
 import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportCreatedEvent;
 import balancetalk.module.report.domain.ReportRepository;
 import balancetalk.module.report.dto.ReportRequest;
 import balancetalk.module.member.dto.MyPageResponse;
-import balancetalk.module.vote.domain.Vote;
 import balancetalk.module.vote.domain.VoteRepository;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static balancetalk.global.exception.ErrorCode.*;
@@ -50,6 +60,8 @@ public class CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final VoteRepository voteRepository;
     private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Value("${comments.max-depth}")
     private int maxDepth;
@@ -58,41 +70,32 @@ public class CommentService {
         Member member = getCurrentMember(memberRepository);
         Post post = validatePostId(postId);
         BalanceOption balanceOption = validateBalanceOptionId(request, post);
-        voteRepository.findByMemberIdAndBalanceOption_PostId(member.getId(), postId)
+        voteRepository.findByMemberIdAndPostId(member.getId(), postId)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_VOTE));
 
-        Comment comment = request.toEntity(member, post);
-        return commentRepository.save(comment);
+        Comment comment = commentRepository.save(request.toEntity(member, post));
+        domainEventPublisher.publish(new CommentCreatedEvent(comment.getId(), postId, null, member.getId()));
+        return comment;
     }
 
     @Transactional(readOnly = true)
     public Page<CommentResponse> findAllComments(Long postId, String token, Pageable pageable) {
         validatePostId(postId);
 
-        Page<Comment> comments = commentRepository.findAllByPostIdAndParentIsNull(postId, pageable);
-
-        return comments.map(comment -> {
-            Optional<Vote> voteForComment = voteRepository.findByMemberIdAndBalanceOption_PostId(
-                    comment.getMember().getId(), postId);
+        Page<Comment> comments = commentRepository.findAllByPostIdAndViewStatusAndParentIsNull(postId, ViewStatus.NORMAL, pageable);
+        Set<Long> likedCommentIds = findLikedCommentIds(comments.getContent(), token);
+        Map<Long, Long> selectedOptionIds = findSelectedOptionIds(postId, comments.getContent());
 
-            Long balanceOptionId = voteForComment.map(Vote::getBalanceOption).map(BalanceOption::getId)
-                    .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_BALANCE_OPTION));
-
-            if (token == null) {
-                return CommentResponse.fromEntity(comment, balanceOptionId, false);
-            } else {
-                Member member = getCurrentMember(memberRepository);
-                return CommentResponse.fromEntity(comment, balanceOptionId, member.hasLikedComment(comment));
-            }
-        });
+        return comments.map(comment -> CommentResponse.fromEntity(comment,
+                getSelectedOptionId(comment, selectedOptionIds), likedCommentIds.contains(comment.getId())));
     }
 
     @Transactional(readOnly = true)
     public Page<MyPageResponse> findAllByCurrentMember(Pageable pageable) {
         Member currentMember = getCurrentMember(memberRepository);
 
-        return commentRepository.findAllByMemberEmail(currentMember.getEmail(), pageable)
-                .map(MyPageResponse::fromEntity);
+        return commentRepository.findHistoryByMemberId(currentMember.getId(), pageable)
+                .map(MyPageResponse::from);
     }
 
     public Comment updateComment(Long commentId, Long postId, String content) {
@@ -125,6 +128,7 @@ public class CommentService {
         }
 
         commentRepository.deleteById(commentId);
+        domainEventPublisher.publish(new CommentDeletedEvent(commentId, postId, commentMember.getId()));
     }
 
     @Transactional
@@ -144,36 +148,94 @@ public class CommentService {
 
         validateDepth(parentComment);
 
-        Comment reply = request.toEntity(member, post, parentComment);
-        return commentRepository.save(reply);
+        Comment reply = commentRepository.save(request.toEntity(member, post, parentComment));
+        domainEventPublisher.publish(new CommentCreatedEvent(reply.getId(), postId, commentId, member.getId()));
+        return reply;
     }
 
     public List<ReplyResponse> findAllReplies(Long postId, Long parentId, String token) {
         validatePostId(postId);
 
-        List<Comment> replies = commentRepository.findAllByPostIdAndParentId(postId, parentId);
+        List<Comment> replies = commentRepository.findAllByPostIdAndViewStatusAndParentId(postId, ViewStatus.NORMAL, parentId);
+        Set<Long> likedCommentIds = findLikedCommentIds(replies, token);
+        Map<Long, Long> selectedOptionIds = findSelectedOptionIds(postId, replies);
+
+        return replies.stream()
+                .map(reply -> ReplyResponse.fromEntity(reply,
+                        getSelectedOptionId(reply, selectedOptionIds), likedCommentIds.contains(reply.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /*
+        목록 한 번에 대해 추천 여부와 작성자의 선택지를 쿼리 한 번씩으로 조회한다. (회원 추천/투표 컬렉션을 읽지 않음)
+     */
+    private Set<Long> findLikedCommentIds(List<Comment> comments, String token) {
+        if (token == null || comments.isEmpty()) {
+            return Set.of();
+        }
+        Member member = getCurrentMember(memberRepository);
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(member.getId(), commentIds));
+    }
+
+    // 작성자 id -> 선택지 id
+    private Map<Long, Long> findSelectedOptionIds(Long postId, List<Comment> comments) {
+        List<Long> writerIds = comments.stream()
+                .map(Comment::getMember)
+                .filter(Objects::nonNull)
+                .map(Member::getId)
+                .distinct()
+                .toList();
+        if (writerIds.isEmpty()) {
+            return Map.of();
+        }
+        return voteRepository.findSelectedOptionIds(postId, writerIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1], (a, b) -> a));
+    }
 
-        if (token == null) {
-            return replies.stream()
-                    .map(reply -> ReplyResponse.fromEntity(reply, null, false))
-                    .collect(Collectors.toList());
-        } else {
-            Member member = getCurrentMember(memberRepository);
+    // 탈퇴한 회원의 댓글은 선택지 정보 없이 보여준다.
+    private Long getSelectedOptionId(Comment comment, Map<Long, Long> selectedOptionIds) {
+        return Optional.ofNullable(comment.getMember())
+                .map(Member::getId)
+                .map(selectedOptionIds::get)
+                .orElse(null);
+    }
 
-            return replies.stream()
-                    .map(reply -> {
-                        boolean myLike = member.hasLikedComment(reply);
+    /*
+        스레드 전체를 한 번의 범위 조회로 가져와 메모리에서 트리로 조립한다.
+        추천 수, 추천 여부, 작성자의 선택지는 스레드 단위로 한 번씩만 조회한다.
+        블라인드된 댓글과 그 아래 답글은 목록 조회와 같이 보여주지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadResponse findThread(Long postId, Long commentId, String token) {
+        Comment comment = validateCommentId(commentId);
+        if (comment.isBlind()) {
+            throw new BalanceTalkException(NOT_FOUND_COMMENT);
+        }
+        if (!comment.getPost().getId().equals(postId)) {
+            throw new BalanceTalkException(NOT_FOUND_COMMENT_AT_THAT_POST);
+        }
+
+        List<Comment> thread = commentRepository.findThread(comment.getThreadRootId(), maxDepth, ViewStatus.NORMAL);
+        List<Long> commentIds = thread.stream().map(Comment::getId).toList();
 
-                        Optional<Vote> voteForComment = voteRepository.findByMemberIdAndBalanceOption_PostId(
-                                reply.getMember().getId(), postId);
+        Map<Long, Long> likesCounts = commentLikeRepository.countByCommentIds(commentIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
 
-                        Long balanceOptionId = voteForComment.map(Vote::getBalanceOption).map(BalanceOption::getId)
-                                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_BALANCE_OPTION));
+        Set<Long> likedCommentIds = findLikedCommentIds(thread, token);
+        Map<Long, Long> selectedOptionIds = findSelectedOptionIds(postId, thread);
 
-                        return ReplyResponse.fromEntity(reply, balanceOptionId, myLike);
-                    })
-                    .collect(Collectors.toList());
+        Map<Long, CommentThreadResponse> responses = new LinkedHashMap<>();
+        for (Comment node : thread) {
+            CommentThreadResponse response = CommentThreadResponse.fromEntity(node, getSelectedOptionId(node, selectedOptionIds),
+                    likesCounts.getOrDefault(node.getId(), 0L), likedCommentIds.contains(node.getId()));
+            responses.put(node.getId(), response);
+
+            if (node.getParent() != null && responses.containsKey(node.getParent().getId())) {
+                responses.get(node.getParent().getId()).getReplies().add(response);
+            }
         }
+        return responses.get(commentId);
     }
 
     private Post validatePostId(Long postId) {
@@ -194,74 +256,47 @@ public class CommentService {
     }
 
     private void validateDepth(Comment parentComment) {
-        int depth = calculateDepth(parentComment);
-        if (depth >= maxDepth) {
+        if (parentComment.getDepth() >= maxDepth) {
             throw new BalanceTalkException(EXCEED_MAX_DEPTH);
         }
     }
 
-    private int calculateDepth(Comment comment) {
-        int depth = 0;
-        while (comment.getParent() != null) {
-            depth++;
-            comment = comment.getParent();
-        }
-        return depth;
-    }
-
-    public Long likeComment(Long postId, Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_COMMENT));
-        Member member = getCurrentMember(memberRepository);
-
-        if (commentLikeRepository.existsByMemberAndComment(member, comment)) {
-            throw new BalanceTalkException(ErrorCode.ALREADY_LIKE_COMMENT);
-        }
-
-        CommentLike commentLike = CommentLike.builder()
-                .comment(comment)
-                .member(member)
-                .build();
-        commentLikeRepository.save(commentLike);
-
-        return comment.getId();
-    }
-
-    public void cancelLikeComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_COMMENT));
-        Member member = getCurrentMember(memberRepository);
-
-        commentLikeRepository.deleteByMemberAndComment(member, comment);
-    }
-
     @Transactional(readOnly = true)
     public List<CommentResponse> findBestComments(Long postId, String token) {
         Post post = validatePostId(postId);
         List<BalanceOption> options = post.getOptions();
 
-        List<CommentResponse> responses = new ArrayList<>();
+        // 선택지 id -> 베스트 댓글 (선택지 순서 유지)
+        Map<Long, List<Comment>> bestCommentsByOption = new LinkedHashMap<>();
         for (BalanceOption option : options) {
-            List<Long> memberIdsBySelectedOptionId =
-                    memberRepository.findMemberIdsBySelectedOptionId(option.getId());
-
-            List<Comment> bestComments = commentRepository.findBestCommentsByPostId(postId,
-                    memberIdsBySelectedOptionId, MIN_COUNT_FOR_BEST_COMMENT, PageRequest.of(0, BEST_COMMENTS_SIZE));
-
-            if (token == null) {
-                responses.addAll(bestComments.stream()
-                        .map(comment -> CommentResponse.fromEntity(comment, option.getId(), false)).toList());
-            } else {
-                Member member = getCurrentMember(memberRepository);
-                responses.addAll(bestComments.stream()
-                        .map(comment ->
-                                CommentResponse.fromEntity(comment, option.getId(), member.hasLikedComment(comment)))
-                        .toList());
-            }
+            bestCommentsByOption.put(option.getId(), findBestComments(postId, option.getId()));
         }
+        Set<Long> likedCommentIds = findLikedCommentIds(
+                bestCommentsByOption.values().stream().flatMap(List::stream).toList(), token);
+
+        List<CommentResponse> responses = new ArrayList<>();
+        bestCommentsByOption.forEach((optionId, bestComments) -> responses.addAll(bestComments.stream()
+                .map(comment -> CommentResponse.fromEntity(comment, optionId, likedCommentIds.contains(comment.getId())))
+                .toList()));
         return responses;
     }
 
+    /*
+        선택지에 투표한 회원이 쓴 댓글 중 추천을 MIN_COUNT_FOR_BEST_COMMENT 개 이상 받은 댓글을 추천순으로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findBestCommentIds(Long postId, Long optionId) {
+        return findBestComments(postId, optionId).stream()
+                .map(Comment::getId)
+                .toList();
+    }
+
+    private List<Comment> findBestComments(Long postId, Long optionId) {
+        List<Long> memberIdsBySelectedOptionId = memberRepository.findMemberIdsBySelectedOptionId(optionId);
+        return commentRepository.findBestCommentsByPostId(postId, ViewStatus.NORMAL,
+                memberIdsBySelectedOptionId, MIN_COUNT_FOR_BEST_COMMENT, PageRequest.of(0, BEST_COMMENTS_SIZE));
+    }
+
     public void reportComment(Long postId, Long commentId, ReportRequest reportRequest) {
         Comment comment = validateCommentId(commentId);
         Member member = getCurrentMember(memberRepository);
@@ -279,5 +314,6 @@ public class CommentService {
                 .category(reportRequest.getCategory())
                 .build();
         reportRepository.save(report);
+        eventPublisher.publishEvent(new ReportCreatedEvent(null, commentId));
     }
 }
@@ -10,11 +10,17 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_root_id_depth", columnList = "root_id, depth"),
+        @Index(name = "idx_comment_post_id_view_status", columnList = "post_id, view_status, parent_id"),
+        @Index(name = "idx_comment_member_id_created_at", columnList = "member_id, created_at")
+})
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +52,13 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth; // 최상위 댓글은 0
+
+    @Column(name = "root_id")
+    private Long rootId; // 스레드 최상위 댓글 id, 최상위 댓글은 null
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Comment> replies = new ArrayList<>();
 
@@ -58,4 +71,12 @@ public class Comment extends BaseTimeEntity {
     public void updateContent(String content) {
         this.content = content;
     }
+
+    public boolean isBlind() {
+        return viewStatus == ViewStatus.BLIND;
+    }
+
+    public Long getThreadRootId() {
+        return rootId == null ? id : rootId;
+    }
 }
@@ -0,0 +1,32 @@
+package balancetalk.module.comment.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    댓글 또는 답글이 작성되었음을 알리는 이벤트 (댓글이면 parentId 는 null)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentCreatedEvent implements DomainEvent {
+
+    private Long commentId;
+    private Long postId;
+    private Long parentId;
+    private Long memberId;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.COMMENT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return commentId;
+    }
+}
@@ -0,0 +1,31 @@
+package balancetalk.module.comment.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    댓글이 삭제되었음을 알리는 이벤트
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentDeletedEvent implements DomainEvent {
+
+    private Long commentId;
+    private Long postId;
+    private Long memberId;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.COMMENT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return commentId;
+    }
+}
@@ -0,0 +1,17 @@
+package balancetalk.module.comment.domain;
+
+import java.time.LocalDateTime;
+
+/*
+    마이페이지 - 내가 쓴 댓글 한 줄 (엔티티를 읽지 않는 프로젝션)
+ */
+public interface CommentHistory {
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+}
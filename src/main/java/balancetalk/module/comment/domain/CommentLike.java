@@ -9,6 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_comment_like_member_comment",
+        columnNames = {"member_id", "comment_id"}),
+        indexes = @Index(name = "idx_comment_like_comment_id_member_id", columnList = "comment_id, member_id"))
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -16,7 +19,7 @@ import lombok.NoArgsConstructor;
 public class CommentLike {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_like_id")
     private Long id;
 
@@ -0,0 +1,30 @@
+package balancetalk.module.comment.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    회원이 댓글 추천을 취소했음을 알리는 이벤트 (추천 상태가 바뀐 경우에만 발행)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CommentLikeCanceledEvent implements DomainEvent {
+
+    private Long commentId;
+    private Long memberId;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.COMMENT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return commentId;
+    }
+}
@@ -1,12 +1,38 @@
 package balancetalk.module.comment.domain;
 
-import balancetalk.module.member.domain.Member;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
+    @Modifying
+    @Transactional
+    @Query("delete from CommentLike l where l.member.id = :memberId and l.comment.id = :commentId")
+    int deleteByMemberIdAndCommentId(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
 
-    boolean existsByMemberAndComment(Member member, Comment comment);
+    // 이미 추천했거나(uk_comment_like_member_comment) 댓글이 없으면(외래 키) 0
+    @Modifying
+    @Transactional
+    @Query(value = "insert ignore into comment_like (member_id, comment_id) values (:memberId, :commentId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
 
-    void deleteByMemberAndComment(Member member, Comment comment);
+    @Query("select count(l) from CommentLike l where l.comment.id = :commentId")
+    long countByCommentId(@Param("commentId") Long commentId);
+
+    @Query("select l.comment.id, count(l) from CommentLike l "
+            + "where l.comment.id in :commentIds "
+            + "group by l.comment.id")
+    List<Object[]> countByCommentIds(@Param("commentIds") List<Long> commentIds);
+
+    @Query("select l.comment.id from CommentLike l where l.member.id = :memberId and l.comment.id in :commentIds")
+    List<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("commentIds") List<Long> commentIds);
+
+    @Query("select l.id from CommentLike l where l.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
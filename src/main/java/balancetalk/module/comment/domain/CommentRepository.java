@@ -1,28 +1,66 @@
 package balancetalk.module.comment.domain;
 
+import balancetalk.module.ViewStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostId(Long postId);
+    @Query("select c from Comment c where c.post.id = :postId")
+    List<Comment> findByPostId(@Param("postId") Long postId);
 
-    Page<Comment> findAllByMemberEmail(String email, Pageable pageable);
+    // member 테이블 조인 없이 외래 키 컬럼으로 조회하고, 게시글 제목까지 한 번에 가져온다. (idx_comment_member_id_created_at)
+    @Query(value = "select p.id as postId, p.title as postTitle, c.content as content, c.createdAt as createdAt "
+            + "from Comment c join c.post p where c.member.id = :memberId",
+            countQuery = "select count(c) from Comment c where c.member.id = :memberId")
+    Page<CommentHistory> findHistoryByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    Page<Comment> findAllByPostIdAndParentIsNull(Long postId, Pageable pageable);
+    // 목록 조회는 블라인드된 댓글을 제외 (idx_comment_post_id_view_status)
+    @Query("select c from Comment c "
+            + "where c.post.id = :postId and c.viewStatus = :viewStatus and c.parent.id is null")
+    Page<Comment> findAllByPostIdAndViewStatusAndParentIsNull(@Param("postId") Long postId,
+                                                             @Param("viewStatus") ViewStatus viewStatus,
+                                                             Pageable pageable);
 
-    List<Comment> findAllByPostIdAndParentId(Long postId, Long parentId);
+    @Query("select c from Comment c "
+            + "where c.post.id = :postId and c.viewStatus = :viewStatus and c.parent.id = :parentId")
+    List<Comment> findAllByPostIdAndViewStatusAndParentId(@Param("postId") Long postId,
+                                                          @Param("viewStatus") ViewStatus viewStatus,
+                                                          @Param("parentId") Long parentId);
 
     @Query("select c from Comment c left join c.likes l "
-            + "where c.post.id = :postId and c.member.id in :memberIds "
+            + "where c.post.id = :postId and c.viewStatus = :viewStatus and c.member.id in :memberIds "
             + "group by c.id "
             + "having count(l) >= :minCountForBest "
             + "order by count(l) desc")
     List<Comment> findBestCommentsByPostId(@Param("postId") Long postId,
+                                           @Param("viewStatus") ViewStatus viewStatus,
                                            @Param("memberIds") List<Long> memberIds,
                                            @Param("minCountForBest") int minCountForBest,
                                            Pageable pageable);
+
+    @Modifying
+    @Query("update Comment c set c.viewStatus = :viewStatus where c.id = :commentId and c.viewStatus <> :viewStatus")
+    int updateViewStatus(@Param("commentId") Long commentId, @Param("viewStatus") ViewStatus viewStatus);
+
+    // 블라인드된 댓글은 제외하므로, 그 아래 답글도 스레드에 붙지 않는다.
+    @Query("select c from Comment c "
+            + "left join fetch c.member m "
+            + "left join fetch m.profilePhoto "
+            + "where (c.id = :rootId or c.rootId = :rootId) "
+            + "and c.depth <= :maxDepth and c.viewStatus = :viewStatus "
+            + "order by c.depth, c.id")
+    List<Comment> findThread(@Param("rootId") Long rootId, @Param("maxDepth") int maxDepth,
+                             @Param("viewStatus") ViewStatus viewStatus);
+
+    @Query("select c.id from Comment c where c.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("update Comment c set c.member = null where c.id in :ids")
+    int detachMember(@Param("ids") List<Long> ids);
 }
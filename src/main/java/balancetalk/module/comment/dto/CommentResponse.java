@@ -59,7 +59,7 @@ public class CommentResponse {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
-                .memberName(comment.getMember().getNickname())
+                .memberName(getNickname(comment.getMember()))
                 .postId(comment.getPost().getId())
                 .selectedOptionId(balanceOptionId)
                 //.viewStatus(comment.getViewStatus())
@@ -73,8 +73,15 @@ public class CommentResponse {
                 .build();
     }
 
+    private static String getNickname(Member member) {
+        return Optional.ofNullable(member)
+                .map(Member::getNickname)
+                .orElse(null);
+    }
+
     private static String getProfileImageUrl(Member member) {
-        return Optional.ofNullable(member.getProfilePhoto())
+        return Optional.ofNullable(member)
+                .map(Member::getProfilePhoto)
                 .map(File::getUrl)
                 .orElse(null);
     }
@@ -0,0 +1,91 @@
+package balancetalk.module.comment.dto;
+
+import balancetalk.module.comment.domain.Comment;
+import balancetalk.module.file.domain.File;
+import balancetalk.module.member.domain.Member;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class CommentThreadResponse {
+
+    @Schema(description = "댓글 id", example = "1345")
+    private Long id;
+
+    @Schema(description = "부모 댓글 id", example = "2")
+    private Long parentCommentId;
+
+    @Schema(description = "댓글 깊이", example = "1")
+    private int depth;
+
+    @Schema(description = "댓글 내용", example = "댓글 내용...")
+    private String content;
+
+    @Schema(description = "댓글 작성자", example = "닉네임")
+    private String memberName;
+
+    @Schema(description = "해당 댓글에 맞는 선택지 id", example = "23")
+    private Long selectedOptionId;
+
+    @Schema(description = "댓글 추천 수", example = "24")
+    private long likesCount;
+
+    @Schema(description = "추천 여부", example = "true")
+    private boolean myLike;
+
+    @Schema(description = "댓글 생성 날짜")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "댓글 수정 날짜")
+    private LocalDateTime lastModifiedAt;
+
+    @Schema(description = "댓글 작성자 프로필 사진 경로", example = "https://balance-talk-static-files4df23447-2355-45h2-8783-7f6gd2ceb848_프로필.jpg")
+    private String profileImageUrl;
+
+    @Builder.Default
+    private List<CommentThreadResponse> replies = new ArrayList<>();
+
+    public static CommentThreadResponse fromEntity(Comment comment, Long balanceOptionId, long likesCount,
+                                                   boolean myLike) {
+        return CommentThreadResponse.builder()
+                .id(comment.getId())
+                .parentCommentId(getParentCommentId(comment))
+                .depth(comment.getDepth())
+                .content(getContent(comment))
+                .memberName(Optional.ofNullable(comment.getMember()).map(Member::getNickname).orElse(null))
+                .selectedOptionId(balanceOptionId)
+                .likesCount(likesCount)
+                .myLike(myLike)
+                .createdAt(comment.getCreatedAt())
+                .lastModifiedAt(comment.getLastModifiedAt())
+                .profileImageUrl(getProfileImageUrl(comment.getMember()))
+                .build();
+    }
+
+    // 블라인드된 댓글이 섞여 들어와도 내용은 내보내지 않는다.
+    private static String getContent(Comment comment) {
+        return comment.isBlind() ? null : comment.getContent();
+    }
+
+    private static String getProfileImageUrl(Member member) {
+        return Optional.ofNullable(member)
+                .map(Member::getProfilePhoto)
+                .map(File::getUrl)
+                .orElse(null);
+    }
+
+    private static Long getParentCommentId(Comment comment) {
+        return Optional.ofNullable(comment.getParent())
+                .map(Comment::getId)
+                .orElse(null);
+    }
+}
@@ -26,6 +26,8 @@ public class ReplyCreateRequest {
                 .content(content)
                 .member(member)
                 .parent(parentComment)
+                .depth(parentComment.getDepth() + 1)
+                .rootId(parentComment.getThreadRootId())
                 .post(post)
                 .viewStatus(ViewStatus.NORMAL)
                 .build();
@@ -53,7 +53,7 @@ public class ReplyResponse {
                 .id(comment.getId())
                 .parentCommentId(getParentCommentId(comment))
                 .content(comment.getContent())
-                .memberName(comment.getMember().getNickname())
+                .memberName(getNickname(comment.getMember()))
                 .postId(comment.getPost().getId())
                 .selectedOptionId(balanceOptionId)
                 .likesCount(comment.getLikes().size())
@@ -65,8 +65,15 @@ public class ReplyResponse {
     }
 
 
+    private static String getNickname(Member member) {
+        return Optional.ofNullable(member)
+                .map(Member::getNickname)
+                .orElse(null);
+    }
+
     private static String getProfileImageUrl(Member member) {
-        return Optional.ofNullable(member.getProfilePhoto())
+        return Optional.ofNullable(member)
+                .map(Member::getProfilePhoto)
                 .map(File::getUrl)
                 .orElse(null);
     }
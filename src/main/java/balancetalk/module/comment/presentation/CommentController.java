@@ -3,7 +3,10 @@ package balancetalk.module.comment.presentation;
 import balancetalk.module.comment.application.CommentService;
 import balancetalk.module.comment.dto.CommentRequest;
 import balancetalk.module.comment.dto.CommentResponse;
+import balancetalk.module.comment.dto.CommentThreadResponse;
 import balancetalk.module.comment.dto.ReplyCreateRequest;
+import balancetalk.module.like.application.LikeService;
+import balancetalk.module.like.dto.LikeResponse;
 import balancetalk.module.report.dto.ReportRequest;
 import balancetalk.module.comment.dto.ReplyResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final LikeService likeService;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
@@ -80,19 +84,26 @@ public class CommentController {
         return commentService.findAllReplies(postId, commentId, token);
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{commentId}/thread")
+    @Operation(summary = "댓글 스레드 조회", description = "comment-id에 해당하는 댓글과 하위 답글 전체를 트리 형태로 조회한다.")
+    public CommentThreadResponse findThread(@PathVariable Long postId, @PathVariable Long commentId,
+                                            @RequestHeader(value = "Authorization", required = false) String token) {
+        return commentService.findThread(postId, commentId, token);
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/{commentId}/likes")
-    @Operation(summary = "댓글 추천", description = "comment-id에 해당하는 댓글에 추천을 누른다.")
-    public String likeComment(@PathVariable Long postId, @PathVariable Long commentId) {
-        commentService.likeComment(postId, commentId);
-        return "요청이 정상적으로 처리되었습니다.";
+    @Operation(summary = "댓글 추천", description = "comment-id에 해당하는 댓글에 추천을 누른다. 이미 추천한 경우에도 성공으로 처리한다.")
+    public LikeResponse likeComment(@PathVariable Long postId, @PathVariable Long commentId) {
+        return likeService.likeComment(commentId);
     }
 
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.OK)
     @DeleteMapping("/{commentId}/likes")
     @Operation(summary = "댓글 추천 취소", description = "comment-id에 해당하는 댓글에 누른 추천을 취소한다.")
-    public void cancelLikeComment(@PathVariable Long commentId) {
-        commentService.cancelLikeComment(commentId);
+    public LikeResponse cancelLikeComment(@PathVariable Long commentId) {
+        return likeService.cancelLikeComment(commentId);
     }
 
     @ResponseStatus(HttpStatus.OK)
@@ -0,0 +1,147 @@
+package balancetalk.module.feed.application;
+
+import balancetalk.global.config.FeedConfig;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.bookmark.domain.BookmarkAddedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRemovedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.feed.domain.FeedPost;
+import balancetalk.module.feed.domain.TagAffinity;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/*
+    회원의 태그/카테고리 선호도를 Redis 해시에 유지한다.
+    투표/추천/북마크 이벤트(아웃박스 릴레이)마다 해당 게시글의 태그와 카테고리에 가중치를 더하고
+    피드를 오래된 것으로 표시한다. 해시가 없으면 최근 활동 이력으로 한 번 계산해 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedAffinityService {
+
+    private static final String CONSUMER = "feed-affinity";
+
+    // KEYS: 선호도, 오래됨 표시, (처리 기록) / ARGV: 선호도 TTL(ms), 오래됨 TTL(ms), 기록 TTL(ms), (필드, 증감량) 반복
+    // 이미 반영한 이벤트면 0 반환
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            if KEYS[3] and not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[3]) then
+                return 0
+            end
+            for i = 4, #ARGV, 2 do
+                redis.call('HINCRBYFLOAT', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final FeedPostFinder feedPostFinder;
+    private final VoteRepository voteRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RedisService redisService;
+    private final ProcessedEvents processedEvents;
+    private final FeedConfig feedConfig;
+
+    // 회원의 키가 클러스터에서 같은 슬롯에 놓이도록 회원 id 를 해시 태그로 감싼다.
+    static String affinityKey(Long memberId) {
+        return "feed:{" + memberId + "}:affinity";
+    }
+
+    static String staleKey(Long memberId) {
+        return "feed:{" + memberId + "}:stale";
+    }
+
+    @EventListener
+    public void onVoteCast(VoteCastEvent event) {
+        if (event.getMemberId() != null) {
+            record(event.getMemberId(), event.getPostId(), feedConfig.getVoteWeight());
+        }
+    }
+
+    @EventListener
+    public void onPostLiked(PostLikedEvent event) {
+        record(event.getMemberId(), event.getPostId(), feedConfig.getLikeWeight());
+    }
+
+    @EventListener
+    public void onPostLikeCanceled(PostLikeCanceledEvent event) {
+        record(event.getMemberId(), event.getPostId(), -feedConfig.getLikeWeight());
+    }
+
+    @EventListener
+    public void onBookmarkAdded(BookmarkAddedEvent event) {
+        record(event.getMemberId(), event.getPostId(), feedConfig.getBookmarkWeight());
+    }
+
+    @EventListener
+    public void onBookmarkRemoved(BookmarkRemovedEvent event) {
+        record(event.getMemberId(), event.getPostId(), -feedConfig.getBookmarkWeight());
+    }
+
+    private void record(Long memberId, Long postId, double weight) {
+        List<FeedPost> posts = feedPostFinder.findAllById(List.of(postId));
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(List.of(affinityKey(memberId), staleKey(memberId)));
+        String markerKey = processedEvents.markerKey(String.valueOf(memberId), CONSUMER);
+        if (markerKey != null) {
+            keys.add(markerKey);
+        }
+        List<String> args = new ArrayList<>(List.of(String.valueOf(feedConfig.getAffinityTtl().toMillis()),
+                String.valueOf(feedConfig.getTtl().toMillis()),
+                String.valueOf(markerKey == null ? 0 : processedEvents.retention().toMillis())));
+        TagAffinity.deltas(posts.get(0), weight).forEach((field, delta) -> {
+            args.add(field);
+            args.add(String.valueOf(delta));
+        });
+        // 증감, 오래됨 표시, 처리 기록을 한 번에 반영해 재전달 시 두 번 더하지 않는다.
+        redisService.executeScript(RECORD_SCRIPT, keys, args.toArray(String[]::new));
+    }
+
+    public TagAffinity findAffinity(Long memberId) {
+        TagAffinity affinity = TagAffinity.fromHash(redisService.getHashEntries(affinityKey(memberId)));
+        if (affinity.isInitialized()) {
+            return affinity;
+        }
+        TagAffinity calculated = calculateFromHistory(memberId);
+        redisService.deleteValues(affinityKey(memberId));
+        redisService.setHashOps(affinityKey(memberId), calculated.toHash(), feedConfig.getAffinityTtl());
+        return calculated;
+    }
+
+    /*
+        최근 투표/추천/북마크한 게시글에 행동별 가중치를 더해 선호도를 계산 (이력 수만큼만 읽음)
+     */
+    private TagAffinity calculateFromHistory(Long memberId) {
+        Pageable recent = PageRequest.of(0, feedConfig.getHistorySize());
+        Map<Long, Double> weights = new HashMap<>();
+        voteRepository.findRecentPostIdsByMemberId(memberId, recent)
+                .forEach(postId -> weights.merge(postId, feedConfig.getVoteWeight(), Double::sum));
+        postLikeRepository.findRecentPostIdsByMemberId(memberId, recent)
+                .forEach(postId -> weights.merge(postId, feedConfig.getLikeWeight(), Double::sum));
+        bookmarkRepository.findRecentPostIdsByMemberId(memberId, recent)
+                .forEach(postId -> weights.merge(postId, feedConfig.getBookmarkWeight(), Double::sum));
+
+        TagAffinity affinity = TagAffinity.empty();
+        for (FeedPost post : feedPostFinder.findAllById(List.copyOf(weights.keySet()))) {
+            affinity.add(post, weights.get(post.getPostId()));
+        }
+        return affinity;
+    }
+}
@@ -0,0 +1,59 @@
+package balancetalk.module.feed.application;
+
+import balancetalk.module.ViewStatus;
+import balancetalk.module.feed.domain.FeedPost;
+import balancetalk.module.post.domain.BalanceOptionRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.domain.PostSummary;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/*
+    피드 점수 계산용 게시글 정보를 엔티티 로딩 없이 쿼리 세 번(게시글, 태그, 투표 수)으로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedPostFinder {
+
+    private final PostRepository postRepository;
+    private final BalanceOptionRepository balanceOptionRepository;
+
+    public List<FeedPost> findCandidates(int size) {
+        return toFeedPosts(postRepository.findOpenPostSummaries(ViewStatus.NORMAL, LocalDateTime.now(),
+                PageRequest.of(0, size)));
+    }
+
+    public List<FeedPost> findAllById(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return toFeedPosts(postRepository.findSummariesByIdIn(postIds));
+    }
+
+    private List<FeedPost> toFeedPosts(List<PostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = summaries.stream().map(PostSummary::getId).toList();
+
+        Map<Long, List<Long>> tagIds = new HashMap<>();
+        for (Object[] row : postRepository.findTagIdsByPostIdIn(postIds)) {
+            tagIds.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        Map<Long, Long> votesCounts = new HashMap<>();
+        for (Object[] row : balanceOptionRepository.sumVotesCountByPostIdIn(postIds)) {
+            votesCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        return summaries.stream()
+                .map(summary -> FeedPost.of(summary, tagIds.getOrDefault(summary.getId(), List.of()),
+                        votesCounts.getOrDefault(summary.getId(), 0L)))
+                .toList();
+    }
+}
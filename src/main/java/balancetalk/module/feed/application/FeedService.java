@@ -0,0 +1,176 @@
+package balancetalk.module.feed.application;
+
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+
+import balancetalk.global.config.FeedConfig;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.feed.domain.FeedPost;
+import balancetalk.module.feed.domain.TagAffinity;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    회원별 추천 피드. 점수순 게시글 id 를 Redis 리스트(feed:{memberId}:posts)에 미리 만들어 두고
+    조회는 LRANGE 로 페이지만큼 잘라 읽는다. (요청마다 점수를 계산하지 않음)
+    리스트가 없거나(만료) 선호도가 바뀌어 오래된 것으로 표시되었으면 조회할 때 다시 만든다.
+    추천할 게시글이 없으면 빈 리스트는 저장되지 않으므로 빈 피드 표시(feed:{memberId}:empty)를 같은 TTL 로 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private final FeedAffinityService feedAffinityService;
+    private final FeedPostFinder feedPostFinder;
+    private final PostRepository postRepository;
+    private final VoteRepository voteRepository;
+    private final MemberRepository memberRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final RedisService redisService;
+    private final FeedConfig feedConfig;
+
+    static String postsKey(Long memberId) {
+        return "feed:{" + memberId + "}:posts";
+    }
+
+    static String emptyKey(Long memberId) {
+        return "feed:{" + memberId + "}:empty";
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostResponse> findFeed(Pageable pageable) {
+        Member member = getCurrentMember(memberRepository);
+        FeedSlice slice = findSlice(member.getId(), pageable);
+
+        // 피드를 만든 뒤 삭제되거나 블라인드된 게시글은 건너뛴다.
+        Map<Long, Post> posts = postRepository.findAllById(slice.postIds).stream()
+                .filter(post -> post.getViewStatus() == ViewStatus.NORMAL)
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        // 회원의 좋아요/북마크/투표 컬렉션을 읽지 않고, 페이지의 게시글 id 로 한 번씩만 조회
+        List<Long> postIds = List.copyOf(posts.keySet());
+        Set<Long> likedPostIds = posts.isEmpty() ? Set.of()
+                : new HashSet<>(postLikeRepository.findLikedPostIds(member.getId(), postIds));
+        Set<Long> bookmarkedPostIds = posts.isEmpty() ? Set.of()
+                : new HashSet<>(bookmarkRepository.findBookmarkedPostIds(member.getId(), postIds));
+        Set<Long> votedPostIds = posts.isEmpty() ? Set.of()
+                : new HashSet<>(voteRepository.findVotedPostIds(member.getId(), postIds));
+        List<PostResponse> responses = slice.postIds.stream()
+                .filter(posts::containsKey)
+                .map(posts::get)
+                .map(post -> PostResponse.fromEntity(post, member, likedPostIds.contains(post.getId()),
+                        bookmarkedPostIds.contains(post.getId()), votedPostIds.contains(post.getId())))
+                .toList();
+        return new PageImpl<>(responses, pageable, slice.total);
+    }
+
+    /*
+        오래됨 표시, 리스트 길이, 요청한 구간, 빈 피드 표시를 파이프라인 한 번으로 읽는다.
+     */
+    private FeedSlice findSlice(Long memberId, Pageable pageable) {
+        String postsKey = postsKey(memberId);
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+        List<Object> results = redisService.executePipelined(operations -> {
+            operations.hasKey(FeedAffinityService.staleKey(memberId));
+            operations.opsForList().size(postsKey);
+            operations.opsForList().range(postsKey, start, end);
+            operations.hasKey(emptyKey(memberId));
+        });
+
+        boolean stale = Boolean.TRUE.equals(results.get(0));
+        long total = results.get(1) == null ? 0 : (Long) results.get(1);
+        boolean empty = Boolean.TRUE.equals(results.get(3));
+        if (!stale && total == 0 && empty) {
+            return new FeedSlice(List.of(), 0);
+        }
+        if (!stale && total > 0) {
+            List<Long> postIds = ((List<?>) results.get(2)).stream()
+                    .map(postId -> Long.valueOf(String.valueOf(postId)))
+                    .toList();
+            return new FeedSlice(postIds, total);
+        }
+
+        List<Long> postIds = rebuild(memberId);
+        int from = (int) Math.min(start, postIds.size());
+        int to = (int) Math.min(end + 1, postIds.size());
+        return new FeedSlice(postIds.subList(from, to), postIds.size());
+    }
+
+    /*
+        후보 게시글(마감 전 최신순) 중 본인 글과 이미 투표한 글을 빼고 점수순으로 feed.size 개를 저장
+     */
+    List<Long> rebuild(Long memberId) {
+        // 만드는 도중 들어온 이벤트가 다시 표시할 수 있도록 먼저 지운다.
+        redisService.deleteValues(FeedAffinityService.staleKey(memberId));
+        TagAffinity affinity = feedAffinityService.findAffinity(memberId);
+
+        List<FeedPost> candidates = feedPostFinder.findCandidates(feedConfig.getCandidateSize());
+        Set<Long> votedPostIds = candidates.isEmpty() ? Set.of() : new HashSet<>(voteRepository.findVotedPostIds(
+                memberId, candidates.stream().map(FeedPost::getPostId).toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Double> scores = candidates.stream()
+                .filter(post -> !post.isWrittenBy(memberId) && !votedPostIds.contains(post.getPostId()))
+                .collect(Collectors.toMap(FeedPost::getPostId, post -> score(affinity, post, now)));
+        // 점수가 같으면 최신 게시글 먼저
+        List<Long> postIds = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(feedConfig.getSize())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        redisService.replaceList(postsKey(memberId), postIds.stream().map(String::valueOf).toList(),
+                feedConfig.getTtl());
+        if (postIds.isEmpty()) {
+            redisService.setValues(emptyKey(memberId), "1", feedConfig.getTtl());
+        } else {
+            redisService.deleteValues(emptyKey(memberId));
+        }
+        return postIds;
+    }
+
+    /*
+        (선호도 + 인기도) x 최신성. 최신성은 작성 후 freshness-half-life 마다 절반이 된다.
+     */
+    private double score(TagAffinity affinity, FeedPost post, LocalDateTime now) {
+        double relevance = affinity.score(post, feedConfig.getCategoryWeight())
+                + feedConfig.getPopularityWeight() * Math.log1p(post.getVotesCount());
+        double ageHours = Math.max(0, Duration.between(post.getCreatedAt(), now).toMinutes() / 60.0);
+        double halfLifeHours = Math.max(1, feedConfig.getFreshnessHalfLife().toHours());
+        return relevance * Math.pow(0.5, ageHours / halfLifeHours);
+    }
+
+    private static class FeedSlice {
+
+        private final List<Long> postIds;
+        private final long total;
+
+        private FeedSlice(List<Long> postIds, long total) {
+            this.postIds = postIds;
+            this.total = total;
+        }
+    }
+}
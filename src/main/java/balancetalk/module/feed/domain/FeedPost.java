@@ -0,0 +1,32 @@
+package balancetalk.module.feed.domain;
+
+import balancetalk.module.post.domain.PostCategory;
+import balancetalk.module.post.domain.PostSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    피드 점수 계산에 쓰는 게시글 정보 (카테고리, 태그, 작성 시각, 총 투표 수)
+ */
+@Getter
+@AllArgsConstructor
+public class FeedPost {
+
+    private final Long postId;
+    private final PostCategory category;
+    private final Long memberId;
+    private final LocalDateTime createdAt;
+    private final List<Long> tagIds;
+    private final long votesCount;
+
+    public static FeedPost of(PostSummary summary, List<Long> tagIds, long votesCount) {
+        return new FeedPost(summary.getId(), summary.getCategory(), summary.getMemberId(), summary.getCreatedAt(),
+                tagIds, votesCount);
+    }
+
+    public boolean isWrittenBy(Long memberId) {
+        return memberId.equals(this.memberId);
+    }
+}
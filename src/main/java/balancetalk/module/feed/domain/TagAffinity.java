@@ -0,0 +1,74 @@
+package balancetalk.module.feed.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    회원의 태그/카테고리 선호도. Redis 해시에 "tag:{tagId}", "category:{카테고리}" 필드로 저장된다.
+    initialized 필드는 활동 이력으로 한 번 계산된 해시인지 표시한다. (이벤트로 쌓인 증감분만 있는 해시와 구분)
+ */
+public class TagAffinity {
+
+    public static final String INITIALIZED_FIELD = "initialized";
+
+    private static final String TAG_PREFIX = "tag:";
+    private static final String CATEGORY_PREFIX = "category:";
+
+    private final Map<String, Double> scores;
+    private final boolean initialized;
+
+    private TagAffinity(Map<String, Double> scores, boolean initialized) {
+        this.scores = scores;
+        this.initialized = initialized;
+    }
+
+    public static TagAffinity empty() {
+        return new TagAffinity(new HashMap<>(), true);
+    }
+
+    public static TagAffinity fromHash(Map<Object, Object> entries) {
+        Map<String, Double> scores = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!INITIALIZED_FIELD.equals(field)) {
+                scores.put(String.valueOf(field), Double.valueOf(String.valueOf(value)));
+            }
+        });
+        return new TagAffinity(scores, entries.containsKey(INITIALIZED_FIELD));
+    }
+
+    // 게시글 하나에 대한 행동으로 바뀌는 필드별 증감분
+    public static Map<String, Double> deltas(FeedPost post, double weight) {
+        Map<String, Double> deltas = new HashMap<>();
+        deltas.put(CATEGORY_PREFIX + post.getCategory(), weight);
+        post.getTagIds().forEach(tagId -> deltas.merge(TAG_PREFIX + tagId, weight, Double::sum));
+        return deltas;
+    }
+
+    public void add(FeedPost post, double weight) {
+        deltas(post, weight).forEach((field, delta) -> scores.merge(field, delta, Double::sum));
+    }
+
+    public double score(FeedPost post, double categoryWeight) {
+        double score = categoryWeight * scoreOf(CATEGORY_PREFIX + post.getCategory());
+        for (Long tagId : post.getTagIds()) {
+            score += scoreOf(TAG_PREFIX + tagId);
+        }
+        return score;
+    }
+
+    // 취소로 음수가 된 선호도는 0으로 본다.
+    private double scoreOf(String field) {
+        return Math.max(0, scores.getOrDefault(field, 0.0));
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        scores.forEach((field, score) -> hash.put(field, String.valueOf(score)));
+        hash.put(INITIALIZED_FIELD, "1");
+        return hash;
+    }
+}
@@ -0,0 +1,31 @@
+package balancetalk.module.feed.presentation;
+
+import balancetalk.module.feed.application.FeedService;
+import balancetalk.module.post.dto.PostResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("feed")
+@Tag(name = "feed", description = "추천 피드 API")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping
+    @Operation(summary = "추천 피드 조회",
+            description = "회원이 투표/추천/북마크한 게시글의 태그와 카테고리를 바탕으로 고른 게시글을 추천 순서대로 조회한다.")
+    public Page<PostResponse> findFeed(Pageable pageable) {
+        return feedService.findFeed(pageable);
+    }
+}
@@ -0,0 +1,124 @@
+package balancetalk.module.like.application;
+
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_COMMENT;
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_POST;
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+import static balancetalk.module.like.domain.LikeTargetType.COMMENT;
+import static balancetalk.module.like.domain.LikeTargetType.POST;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.module.comment.domain.CommentLikeCanceledEvent;
+import balancetalk.module.comment.domain.CommentLikeRepository;
+import balancetalk.module.comment.domain.CommentLikedEvent;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.like.dto.LikeResponse;
+import balancetalk.module.like.dto.LikeToggleRequest;
+import balancetalk.module.like.dto.LikeToggleRequest.LikeAction;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    추천 중복 여부는 (member_id, post_id), (member_id, comment_id) 유니크 인덱스로 판단한다.
+    추천은 INSERT IGNORE 한 번으로 시도하고, 반영된 행이 없으면 이미 추천한 상태로 보고 그대로 둔다.
+    추천/취소마다 짧은 트랜잭션을 열고, 추천 상태가 실제로 바뀐 경우에만 같은 트랜잭션에서 도메인 이벤트를 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeResponse likePost(Long postId) {
+        return likePost(getCurrentMember(memberRepository), postId);
+    }
+
+    public LikeResponse cancelLikePost(Long postId) {
+        return cancelLikePost(getCurrentMember(memberRepository), postId);
+    }
+
+    public LikeResponse likeComment(Long commentId) {
+        return likeComment(getCurrentMember(memberRepository), commentId);
+    }
+
+    public LikeResponse cancelLikeComment(Long commentId) {
+        return cancelLikeComment(getCurrentMember(memberRepository), commentId);
+    }
+
+    public List<LikeResponse> toggleAll(LikeToggleRequest request) {
+        Member member = getCurrentMember(memberRepository);
+        return request.getActions().stream()
+                .map(action -> toggle(member, action))
+                .toList();
+    }
+
+    private LikeResponse toggle(Member member, LikeAction action) {
+        if (action.getTargetType() == POST) {
+            return action.isLiked() ? likePost(member, action.getTargetId())
+                    : cancelLikePost(member, action.getTargetId());
+        }
+        return action.isLiked() ? likeComment(member, action.getTargetId())
+                : cancelLikeComment(member, action.getTargetId());
+    }
+
+    private LikeResponse likePost(Member member, Long postId) {
+        Boolean liked = transactionTemplate.execute(status -> {
+            if (postLikeRepository.insertIgnore(member.getId(), postId) == 0) {
+                return false;
+            }
+            domainEventPublisher.publish(new PostLikedEvent(postId, member.getId()));
+            return true;
+        });
+        // 반영된 행이 없을 때만 이미 추천한 것인지, 게시글이 없는 것인지 구분
+        if (!Boolean.TRUE.equals(liked) && !postRepository.existsById(postId)) {
+            throw new BalanceTalkException(NOT_FOUND_POST);
+        }
+        return LikeResponse.of(POST, postId, true, postLikeRepository.countByPostId(postId));
+    }
+
+    private LikeResponse cancelLikePost(Member member, Long postId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (postLikeRepository.deleteByMemberIdAndPostId(member.getId(), postId) > 0) {
+                domainEventPublisher.publish(new PostLikeCanceledEvent(postId, member.getId()));
+            }
+        });
+        return LikeResponse.of(POST, postId, false, postLikeRepository.countByPostId(postId));
+    }
+
+    private LikeResponse likeComment(Member member, Long commentId) {
+        Boolean liked = transactionTemplate.execute(status -> {
+            if (commentLikeRepository.insertIgnore(member.getId(), commentId) == 0) {
+                return false;
+            }
+            domainEventPublisher.publish(new CommentLikedEvent(commentId, member.getId()));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(liked) && !commentRepository.existsById(commentId)) {
+            throw new BalanceTalkException(NOT_FOUND_COMMENT);
+        }
+        return LikeResponse.of(COMMENT, commentId, true, commentLikeRepository.countByCommentId(commentId));
+    }
+
+    private LikeResponse cancelLikeComment(Member member, Long commentId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (commentLikeRepository.deleteByMemberIdAndCommentId(member.getId(), commentId) > 0) {
+                domainEventPublisher.publish(new CommentLikeCanceledEvent(commentId, member.getId()));
+            }
+        });
+        return LikeResponse.of(COMMENT, commentId, false, commentLikeRepository.countByCommentId(commentId));
+    }
+}
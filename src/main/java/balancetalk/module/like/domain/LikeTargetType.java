@@ -0,0 +1,5 @@
+package balancetalk.module.like.domain;
+
+public enum LikeTargetType {
+    POST, COMMENT
+}
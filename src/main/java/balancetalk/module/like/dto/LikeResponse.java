@@ -0,0 +1,34 @@
+package balancetalk.module.like.dto;
+
+import balancetalk.module.like.domain.LikeTargetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class LikeResponse {
+
+    @Schema(description = "추천 대상 종류", example = "POST")
+    private LikeTargetType targetType;
+
+    @Schema(description = "추천 대상 id", example = "1")
+    private Long targetId;
+
+    @Schema(description = "추천 여부", example = "true")
+    private boolean liked;
+
+    @Schema(description = "처리 후 추천 수", example = "15")
+    private long likesCount;
+
+    public static LikeResponse of(LikeTargetType targetType, Long targetId, boolean liked, long likesCount) {
+        return LikeResponse.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .liked(liked)
+                .likesCount(likesCount)
+                .build();
+    }
+}
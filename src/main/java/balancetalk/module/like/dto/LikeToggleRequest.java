@@ -0,0 +1,41 @@
+package balancetalk.module.like.dto;
+
+import balancetalk.module.like.domain.LikeTargetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeToggleRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 100)
+    @Schema(description = "순서대로 적용할 추천/추천 취소 목록")
+    private List<LikeAction> actions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LikeAction {
+
+        @NotNull
+        @Schema(description = "추천 대상 종류", example = "COMMENT")
+        private LikeTargetType targetType;
+
+        @NotNull
+        @Schema(description = "추천 대상 id", example = "1")
+        private Long targetId;
+
+        @Schema(description = "true면 추천, false면 추천 취소", example = "true")
+        private boolean liked;
+    }
+}
@@ -0,0 +1,28 @@
+package balancetalk.module.like.presentation;
+
+import balancetalk.module.like.application.LikeService;
+import balancetalk.module.like.dto.LikeResponse;
+import balancetalk.module.like.dto.LikeToggleRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/likes")
+@Tag(name = "like", description = "추천 API")
+public class LikeController {
+
+    private final LikeService likeService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/batch")
+    @Operation(summary = "추천 일괄 처리", description = "게시글/댓글 추천과 추천 취소를 요청 순서대로 한 번에 처리한다.")
+    public List<LikeResponse> toggleAll(@Valid @RequestBody LikeToggleRequest request) {
+        return likeService.toggleAll(request);
+    }
+}
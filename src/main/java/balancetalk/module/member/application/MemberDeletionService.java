@@ -0,0 +1,190 @@
+package balancetalk.module.member.application;
+
+import static balancetalk.global.exception.ErrorCode.MEMBER_DELETION_IN_PROGRESS;
+import static balancetalk.module.member.domain.MemberDeletionStatus.*;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.comment.domain.CommentLikeRepository;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.file.domain.FileRepository;
+import balancetalk.module.member.domain.MemberDeletionStatus;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.MemberStatsRepository;
+import balancetalk.module.member.dto.MemberDeletionResponse;
+import balancetalk.module.notice.domain.NoticeRepository;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    회원 탈퇴 시 연관 데이터를 청크 단위 벌크 쿼리로 정리한다.
+    청크마다 별도 트랜잭션으로 처리하고, 진행 상황은 Redis에 기록한다.
+    탈퇴 처리 중인 회원의 쓰기 요청은 validateNotDeleting 으로 막고,
+    마지막 회원 삭제 트랜잭션에서 회원 행을 잠근 뒤 한 번 더 정리해서 그 사이 생긴 행도 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDeletionService {
+
+    private static final String DELETION_KEY_PREFIX = "member:deletion:";
+    private static final Duration STATUS_TTL = Duration.ofDays(1);
+
+    private final MemberRepository memberRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final VoteRepository voteRepository;
+    private final ReportRepository reportRepository;
+    private final NoticeRepository noticeRepository;
+    private final FileRepository fileRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${members.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    public void markPending(Long memberId) {
+        saveStatus(memberId, PENDING, null, 0);
+    }
+
+    /*
+        탈퇴 요청 이후(실패한 경우 제외)에는 게시글, 투표, 북마크 같은 쓰기를 막는다.
+        Redis 장애 시에는 쓰기를 막지 않는다. 마지막 회원 삭제 전에 다시 정리하므로 남는 행은 없다.
+     */
+    public void validateNotDeleting(Long memberId) {
+        String status;
+        try {
+            status = redisService.getHashOps(DELETION_KEY_PREFIX + memberId, "status");
+        } catch (RuntimeException e) {
+            log.warn("failed to read member deletion status. memberId={}, error={}", memberId, e.getMessage());
+            return;
+        }
+        if (status != null && !status.isEmpty() && !FAILED.name().equals(status)) {
+            throw new BalanceTalkException(MEMBER_DELETION_IN_PROGRESS);
+        }
+    }
+
+    @Async
+    public void delete(Long memberId) {
+        List<PurgeStep> steps = purgeSteps();
+        try {
+            long processed = 0;
+            for (PurgeStep step : steps) {
+                processed = purge(memberId, step, processed);
+            }
+
+            // 회원 행을 잠가서 회원을 참조하는 새 행이 들어오지 못하게 한 뒤, 청크 정리 중에 생긴 행을 다시 정리하고 삭제
+            Long swept = transactionTemplate.execute(status -> {
+                memberRepository.findWithLockById(memberId);
+                long count = 0;
+                for (PurgeStep step : steps) {
+                    count += sweep(memberId, step);
+                }
+                Optional<Long> profilePhotoId = memberRepository.findProfilePhotoIdById(memberId);
+                memberStatsRepository.deleteAllByIdInBatch(List.of(memberId));
+                memberRepository.deleteAllByIdInBatch(List.of(memberId));
+                profilePhotoId.ifPresent(fileId -> fileRepository.deleteAllByIdInBatch(List.of(fileId)));
+                return count;
+            });
+            saveStatus(memberId, COMPLETED, "MEMBER", processed + (swept == null ? 0 : swept) + 1);
+        } catch (RuntimeException e) {
+            log.error("회원 탈퇴 처리 실패 memberId={}", memberId, e);
+            saveStatus(memberId, FAILED, null, 0);
+        }
+    }
+
+    public Optional<MemberDeletionResponse> findStatus(Long memberId) {
+        Map<Object, Object> entries = redisService.getHashEntries(DELETION_KEY_PREFIX + memberId);
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(MemberDeletionResponse.fromHash(memberId, entries));
+    }
+
+    /*
+        조건에 맞는 행이 없을 때까지 id를 청크 크기만큼 조회해 벌크 처리한다.
+        처리된 행은 더 이상 조건에 맞지 않으므로 항상 첫 페이지를 조회한다.
+     */
+    private long purge(Long memberId, PurgeStep step, long processed) {
+        while (true) {
+            List<Long> ids = transactionTemplate.execute(status -> purgeChunk(memberId, step));
+            if (ids == null || ids.isEmpty()) {
+                return processed;
+            }
+            processed += ids.size();
+            saveStatus(memberId, IN_PROGRESS, step.getName(), processed);
+        }
+    }
+
+    /*
+        이미 열린 트랜잭션 안에서 남은 행이 없을 때까지 정리하고 처리한 행 수를 반환
+     */
+    private long sweep(Long memberId, PurgeStep step) {
+        long count = 0;
+        List<Long> ids;
+        while (!(ids = purgeChunk(memberId, step)).isEmpty()) {
+            count += ids.size();
+        }
+        return count;
+    }
+
+    private List<Long> purgeChunk(Long memberId, PurgeStep step) {
+        List<Long> found = step.getFindIds().apply(memberId, PageRequest.of(0, chunkSize));
+        if (!found.isEmpty()) {
+            step.getBulkAction().accept(found);
+        }
+        return found;
+    }
+
+    private List<PurgeStep> purgeSteps() {
+        return List.of(
+                new PurgeStep("POST_LIKES",
+                        postLikeRepository::findIdsByMemberId, postLikeRepository::deleteAllByIdInBatch),
+                new PurgeStep("COMMENT_LIKES",
+                        commentLikeRepository::findIdsByMemberId, commentLikeRepository::deleteAllByIdInBatch),
+                new PurgeStep("BOOKMARKS",
+                        bookmarkRepository::findIdsByMemberId, bookmarkRepository::deleteAllByIdInBatch),
+                new PurgeStep("VOTES", voteRepository::findIdsByMemberId, voteRepository::detachMember),
+                new PurgeStep("REPORTS", reportRepository::findIdsByReporterId, reportRepository::detachReporter),
+                new PurgeStep("COMMENTS", commentRepository::findIdsByMemberId, commentRepository::detachMember),
+                new PurgeStep("POSTS", postRepository::findIdsByMemberId, postRepository::detachMember),
+                new PurgeStep("NOTICES", noticeRepository::findIdsByMemberId, noticeRepository::detachMember));
+    }
+
+    private void saveStatus(Long memberId, MemberDeletionStatus status, String step, long processed) {
+        redisService.setHashOps(DELETION_KEY_PREFIX + memberId, Map.of(
+                "status", status.name(),
+                "step", step == null ? "" : step,
+                "processed", String.valueOf(processed)), STATUS_TTL);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PurgeStep {
+        private final String name;
+        private final BiFunction<Long, Pageable, List<Long>> findIds;
+        private final Consumer<List<Long>> bulkAction;
+    }
+}
@@ -3,30 +3,42 @@ package balancetalk.module.member.application;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
 import balancetalk.global.jwt.JwtTokenProvider;
-import balancetalk.global.redis.application.RedisService;
-import balancetalk.module.comment.domain.Comment;
+import balancetalk.global.jwt.RefreshTokenStore;
+import balancetalk.global.jwt.ReissuedToken;
+import balancetalk.global.jwt.TokenClaims;
+import balancetalk.global.utils.ClientUtils;
 import balancetalk.module.file.domain.File;
 import balancetalk.module.file.domain.FileRepository;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.MemberStats;
+import balancetalk.module.member.domain.MemberStatsRepository;
 import balancetalk.module.member.dto.*;
-import balancetalk.module.post.domain.Post;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static balancetalk.global.exception.ErrorCode.*;
+import static balancetalk.global.utils.SecurityUtils.getCurrentEmail;
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+import static balancetalk.module.member.domain.Role.ADMIN;
 
 @Slf4j
 @Service
@@ -34,11 +46,13 @@ import static balancetalk.global.exception.ErrorCode.*;
 public class MemberService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
     private final MemberRepository memberRepository;
     private final FileRepository fileRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberDeletionService memberDeletionService;
+    private final MemberStatsRepository memberStatsRepository;
+
     @Transactional
     public Long join(final JoinRequest joinRequest) {
         if (memberRepository.existsByEmail(joinRequest.getEmail())) {
@@ -59,18 +73,27 @@ public class MemberService {
 
 
     @Transactional
-    public String login(final LoginRequest loginRequest, HttpServletResponse response) {
+    public String login(final LoginRequest loginRequest, HttpServletRequest request, HttpServletResponse response) {
         Member member = memberRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD));
+        // 비밀번호 검증은 여기서 한 번만 (AuthenticationManager 를 거치면 회원 조회와 BCrypt 검증이 한 번씩 더 일어남)
         if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
             throw new BalanceTalkException(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD);
         }
+        // 비밀번호를 모르는 사람에게 탈퇴 처리 여부가 드러나지 않도록 비밀번호 검증 뒤에 확인
+        memberDeletionService.validateNotDeleting(member.getId());
+        // 해싱 강도 설정이 바뀌었으면 평문을 알고 있는 지금 다시 해싱
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.updatePassword(passwordEncoder.encode(loginRequest.getPassword()));
+        }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-        );
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(member.getEmail(), null, Collections.emptySet());
         String accessToken = jwtTokenProvider.createAccessToken(authentication, member.getId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
+        // 기기 ID가 없으면 로그인마다 새 기기로 취급 (기기 ID는 리프레시 토큰에 담겨 재발급 시 유지됨)
+        String deviceId = Optional.ofNullable(ClientUtils.getDeviceId(request))
+                .orElseGet(() -> UUID.randomUUID().toString());
+        String refreshToken = jwtTokenProvider.createRefreshToken(authentication, member.getId(), deviceId);
         Cookie cookie = jwtTokenProvider.createCookie(refreshToken);
         response.addCookie(cookie);
         return accessToken;
@@ -80,15 +103,35 @@ public class MemberService {
     public MemberResponse findById(Long id) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_MEMBER));
-        return MemberResponse.fromEntity(member);
+        MemberStats stats = memberStatsRepository.findById(id)
+                .orElseGet(() -> MemberStats.empty(id));
+        return MemberResponse.fromEntity(member, stats);
+    }
+
+    /*
+        관리자용 전체 회원 목록. 회원의 연관 컬렉션은 읽지 않고, 페이지마다 활동 수를 한 번에 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<MemberResponse> findAll(Pageable pageable) {
+        if (getCurrentMember(memberRepository).getRole() != ADMIN) {
+            throw new BalanceTalkException(FORBIDDEN_FIND_MEMBERS);
+        }
+        Page<Member> members = memberRepository.findAllWithProfilePhoto(pageable);
+        Map<Long, MemberStats> stats = memberStatsRepository.findAllById(
+                        members.map(Member::getId).getContent()).stream()
+                .collect(Collectors.toMap(MemberStats::getMemberId, Function.identity()));
+        return members.map(member -> MemberResponse.fromEntity(member,
+                stats.getOrDefault(member.getId(), MemberStats.empty(member.getId()))));
     }
 
+    /*
+        마이페이지 요약: 로그인한 회원의 활동 수와 등급 (회원 조회 없이 쿼리 한 번)
+     */
     @Transactional(readOnly = true)
-    public List<MemberResponse> findAll() {
-        List<Member> members = memberRepository.findAll();
-        return members.stream()
-                .map(MemberResponse::fromEntity)
-                .collect(Collectors.toList());
+    public MemberStatsResponse findSummary() {
+        MemberStats stats = memberStatsRepository.findByMemberEmail(getCurrentEmail())
+                .orElseGet(() -> MemberStats.empty(null));
+        return MemberStatsResponse.fromEntity(stats);
     }
 
     @Transactional
@@ -117,7 +160,7 @@ public class MemberService {
         member.updateImage(file);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public void delete(final LoginRequest loginRequest, HttpServletRequest request) {
         Member member = extractMember(request);
         if (!member.getEmail().equals(loginRequest.getEmail())) {
@@ -126,23 +169,41 @@ public class MemberService {
         if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
             throw new BalanceTalkException(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD);
         }
-        List<Post> posts = member.getPosts();
-        if (posts != null) {
-            for (Post post : posts) {
-                post.removeMember();
-            }
+        refreshTokenStore.revokeAll(member.getId());
+        memberDeletionService.markPending(member.getId());
+        memberDeletionService.delete(member.getId());
+    }
+
+    /*
+        탈퇴한 본인(회원 행이 지워진 뒤에도 토큰의 회원 ID로 확인) 또는 관리자만 조회할 수 있다.
+     */
+    public MemberDeletionResponse findDeletionStatus(Long memberId, HttpServletRequest request) {
+        TokenClaims claims = jwtTokenProvider.resolveClaims(request);
+        if (!memberId.equals(claims.getMemberId()) && memberRepository.findByEmail(claims.getEmail())
+                .filter(member -> member.getRole() == ADMIN)
+                .isEmpty()) {
+            throw new BalanceTalkException(ErrorCode.FORBIDDEN_FIND_MEMBER_DELETION);
         }
-        memberRepository.deleteByEmail(member.getEmail());
+        return memberDeletionService.findStatus(memberId)
+                .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_MEMBER_DELETION));
     }
 
+    /*
+        리프레시 토큰 쿠키가 있으면 해당 기기의 세션만, 없으면 회원의 모든 세션을 폐기
+     */
     @Transactional
-    public void logout(){
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
             throw new BalanceTalkException(ErrorCode.AUTHENTICATION_REQUIRED);
         }
-        String username = authentication.getName();
-        redisService.deleteValues(username);
+        String refreshToken = findRefreshToken(request);
+        if (refreshToken != null) {
+            jwtTokenProvider.revokeRefreshToken(refreshToken);
+        } else {
+            refreshTokenStore.revokeAll(jwtTokenProvider.resolveClaims(request).getMemberId());
+        }
+        response.addCookie(jwtTokenProvider.expireCookie());
     }
 
     public void verifyNickname(String nickname) {
@@ -152,23 +213,30 @@ public class MemberService {
     }
 
     private Member extractMember(HttpServletRequest request) {
-        String token = jwtTokenProvider.resolveToken(request);
-        String email = jwtTokenProvider.getPayload(token);
+        String email = jwtTokenProvider.resolveClaims(request).getEmail();
         return memberRepository.findByEmail(email)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_MEMBER));
     }
 
-    public String reissueAccessToken(HttpServletRequest request) {
+    public String reissueAccessToken(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = findRefreshToken(request);
+        if (refreshToken == null) {
+            throw new BalanceTalkException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        ReissuedToken reissuedToken = jwtTokenProvider.reissue(refreshToken);
+        response.addCookie(jwtTokenProvider.createCookie(reissuedToken.getRefreshToken()));
+        return reissuedToken.getAccessToken();
+    }
+
+    private String findRefreshToken(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
-        for (Cookie cookie : cookies) {
-            String name = cookie.getName();
-            if (name.equals("refreshToken")) {
-                String refreshToken = cookie.getValue();
-                jwtTokenProvider.validateToken(refreshToken);
-                Long memberId = jwtTokenProvider.getMemberId(refreshToken);
-                return jwtTokenProvider.reissueAccessToken(refreshToken, memberId);
-            }
-        }
-        return null;
+        if (cookies == null) {
+            return null;
+        }
+        return Arrays.stream(cookies)
+                .filter(cookie -> JwtTokenProvider.REFRESH_TOKEN_COOKIE.equals(cookie.getName()))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
     }
 }
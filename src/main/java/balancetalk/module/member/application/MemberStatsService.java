@@ -0,0 +1,151 @@
+package balancetalk.module.member.application;
+
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.bookmark.domain.BookmarkAddedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRemovedEvent;
+import balancetalk.module.comment.domain.CommentCreatedEvent;
+import balancetalk.module.comment.domain.CommentDeletedEvent;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.MemberStatsRepository;
+import balancetalk.module.post.domain.PostCreatedEvent;
+import balancetalk.module.post.domain.PostDeletedEvent;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    회원별 활동 수(게시글, 댓글, 투표, 북마크, 받은 좋아요)를 활동 이벤트마다 갱신한다.
+    게시글 삭제로 함께 지워진 다른 회원의 댓글/투표/북마크, 탈퇴 회원이 누른 좋아요는 이벤트가 없으므로
+    하루에 한 번 원본 테이블에서 다시 센다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    private static final String CONSUMER = "member-stats";
+    private static final String RECOUNT_LOCK_KEY = "members:stats:recount:lock";
+    private static final Duration RECOUNT_LOCK_TTL = Duration.ofHours(1);
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final ProcessedEvents processedEvents;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${members.stats.recount-chunk-size:1000}")
+    private int recountChunkSize;
+
+    @EventListener
+    @Transactional
+    public void onPostCreated(PostCreatedEvent event) {
+        addPosts(event.getMemberId(), 1);
+    }
+
+    @EventListener
+    @Transactional
+    public void onPostDeleted(PostDeletedEvent event) {
+        addPosts(event.getMemberId(), -1);
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentCreated(CommentCreatedEvent event) {
+        addComments(event.getMemberId(), 1);
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        addComments(event.getMemberId(), -1);
+    }
+
+    // 비회원 투표는 세지 않는다. 투표 변경은 투표 수가 그대로다.
+    @EventListener
+    @Transactional
+    public void onVoteCast(VoteCastEvent event) {
+        if (event.getMemberId() != null) {
+            addCounts(event.getMemberId(), 0, 0, 1, 0, 0);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onBookmarkAdded(BookmarkAddedEvent event) {
+        addCounts(event.getMemberId(), 0, 0, 0, 1, 0);
+    }
+
+    @EventListener
+    @Transactional
+    public void onBookmarkRemoved(BookmarkRemovedEvent event) {
+        addCounts(event.getMemberId(), 0, 0, 0, -1, 0);
+    }
+
+    // 좋아요는 누른 회원이 아니라 게시글 작성자의 받은 좋아요 수에 더한다.
+    @EventListener
+    @Transactional
+    public void onPostLiked(PostLikedEvent event) {
+        postRepository.findMemberIdById(event.getPostId())
+                .ifPresent(authorId -> addCounts(authorId, 0, 0, 0, 0, 1));
+    }
+
+    @EventListener
+    @Transactional
+    public void onPostLikeCanceled(PostLikeCanceledEvent event) {
+        postRepository.findMemberIdById(event.getPostId())
+                .ifPresent(authorId -> addCounts(authorId, 0, 0, 0, 0, -1));
+    }
+
+    private void addPosts(Long memberId, int delta) {
+        addCounts(memberId, delta, 0, 0, 0, 0);
+    }
+
+    private void addComments(Long memberId, int delta) {
+        addCounts(memberId, 0, delta, 0, 0, 0);
+    }
+
+    // 이벤트마다 한 번만 호출된다. 재전달된 이벤트는 반영하지 않는다.
+    private void addCounts(Long memberId, int posts, int comments, int votes, int bookmarks, int likes) {
+        if (processedEvents.markProcessed(CONSUMER)) {
+            memberStatsRepository.addCounts(memberId, posts, comments, votes, bookmarks, likes);
+        }
+    }
+
+    /*
+        회원 id 구간별로 나눠 다시 센다. 구간마다 별도 트랜잭션이라 오래 잠그지 않는다.
+     */
+    @Scheduled(cron = "${members.stats.recount-cron:0 0 5 * * *}")
+    public void recountAll() {
+        if (!redisService.setValuesIfAbsent(RECOUNT_LOCK_KEY, "1", RECOUNT_LOCK_TTL)) {
+            return;
+        }
+        try {
+            Long maxId = memberRepository.findMaxId();
+            if (maxId == null) {
+                return;
+            }
+            int recounted = 0;
+            for (long fromId = 0; fromId <= maxId; fromId += recountChunkSize) {
+                long chunkFrom = fromId;
+                Integer updated = transactionTemplate.execute(
+                        status -> memberStatsRepository.recount(chunkFrom, chunkFrom + recountChunkSize));
+                recounted += updated == null ? 0 : updated;
+            }
+            log.info("member stats recounted. rows={}", recounted);
+        } finally {
+            redisService.deleteValues(RECOUNT_LOCK_KEY);
+        }
+    }
+}
@@ -15,7 +15,6 @@ import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -125,33 +124,13 @@ public class Member extends BaseTimeEntity implements UserDetails {
         this.profilePhoto = profilePhoto;
     }
 
-    public int getPostCount() {
-        return Optional.ofNullable(posts)
-                .map(List::size).orElse(0);
-    }
-
-    public int getPostLikes() {
-        return Optional.ofNullable(postLikes)
-                .map(List::size).orElse(0);
-    }
-
     public boolean hasVoted(Post post) {
         return votes.stream()
                 .anyMatch(vote -> vote.getBalanceOption().getPost().equals(post));
     }
 
-    public boolean hasBookmarked(Post post) {
-        return bookmarks.stream()
-                .anyMatch(bookmark -> bookmark.getPost().equals(post));
-    }
-
     public boolean hasLiked(Post post) {
         return postLikes.stream()
                 .anyMatch(like -> like.getPost().equals(post));
     }
-
-    public boolean hasLikedComment(Comment comment) {
-        return commentLikes.stream()
-                .anyMatch(like -> like.getComment().equals(comment));
-    }
 }
@@ -0,0 +1,5 @@
+package balancetalk.module.member.domain;
+
+public enum MemberDeletionStatus {
+    PENDING, IN_PROGRESS, COMPLETED, FAILED
+}
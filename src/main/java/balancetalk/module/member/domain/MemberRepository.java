@@ -1,9 +1,14 @@
 package balancetalk.module.member.domain;
 
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String username);
@@ -14,4 +19,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("select m.id from Member m JOIN m.votes v WHERE v.balanceOption.id = :balanceOptionId")
     List<Long> findMemberIdsBySelectedOptionId(Long balanceOptionId);
+
+    // 탈퇴 마지막 단계: 회원을 참조하는 행이 새로 들어오지 못하게 회원 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Member m where m.id = :memberId")
+    Optional<Member> findWithLockById(@Param("memberId") Long memberId);
+
+    @Query("select m.profilePhoto.id from Member m where m.id = :memberId")
+    Optional<Long> findProfilePhotoIdById(@Param("memberId") Long memberId);
+
+    // 연관 컬렉션은 읽지 않고 프로필 사진만 함께 조회
+    @Query(value = "select m from Member m left join fetch m.profilePhoto",
+            countQuery = "select count(m) from Member m")
+    Page<Member> findAllWithProfilePhoto(Pageable pageable);
+
+    @Query("select max(m.id) from Member m")
+    Long findMaxId();
 }
@@ -0,0 +1,60 @@
+package balancetalk.module.member.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    회원별 활동 수. 회원 테이블과 분리해 자주 바뀌는 카운터가 회원 행을 잠그지 않도록 한다.
+    활동 이벤트마다 증감하고, 게시글/회원 삭제처럼 이벤트 없이 지워지는 행은 주기적으로 다시 센다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStats {
+
+    // 등급별 최소 활동 점수 (1등급부터)
+    private static final int[] LEVEL_THRESHOLDS = {0, 30, 150, 500, 2000};
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    private int postsCount;
+
+    private int commentsCount;
+
+    private int votesCount;
+
+    private int bookmarksCount;
+
+    // 작성한 게시글이 받은 좋아요 수
+    private int likesReceivedCount;
+
+    public static MemberStats empty(Long memberId) {
+        return MemberStats.builder()
+                .memberId(memberId)
+                .build();
+    }
+
+    // 활동 점수: 게시글 5, 받은 좋아요 3, 댓글 2, 투표 1
+    public int activityScore() {
+        return postsCount * 5 + likesReceivedCount * 3 + commentsCount * 2 + votesCount;
+    }
+
+    public int level() {
+        int score = activityScore();
+        int level = 1;
+        while (level < LEVEL_THRESHOLDS.length && score >= LEVEL_THRESHOLDS[level]) {
+            level++;
+        }
+        return level;
+    }
+}
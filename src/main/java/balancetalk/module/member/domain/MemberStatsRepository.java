@@ -0,0 +1,52 @@
+package balancetalk.module.member.domain;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    // 로그인한 회원의 이메일로 회원 조회 없이 바로 조회 (member.email 유니크 인덱스 → 기본 키)
+    @Query("select s from MemberStats s join Member m on m.id = s.memberId where m.email = :email")
+    Optional<MemberStats> findByMemberEmail(@Param("email") String email);
+
+    // 행이 없으면 만들고, 있으면 더한다. 이벤트 순서가 뒤바뀌어도 음수가 되지 않게 0에서 멈춘다.
+    @Modifying
+    @Query(value = "insert into member_stats "
+            + "(member_id, posts_count, comments_count, votes_count, bookmarks_count, likes_received_count) "
+            + "values (:memberId, greatest(:posts, 0), greatest(:comments, 0), greatest(:votes, 0), "
+            + "greatest(:bookmarks, 0), greatest(:likes, 0)) "
+            + "on duplicate key update "
+            + "posts_count = greatest(posts_count + :posts, 0), "
+            + "comments_count = greatest(comments_count + :comments, 0), "
+            + "votes_count = greatest(votes_count + :votes, 0), "
+            + "bookmarks_count = greatest(bookmarks_count + :bookmarks, 0), "
+            + "likes_received_count = greatest(likes_received_count + :likes, 0)", nativeQuery = true)
+    int addCounts(@Param("memberId") Long memberId,
+                  @Param("posts") int posts,
+                  @Param("comments") int comments,
+                  @Param("votes") int votes,
+                  @Param("bookmarks") int bookmarks,
+                  @Param("likes") int likes);
+
+    // 회원 id 구간 [fromId, toId) 의 활동 수를 원본 테이블에서 다시 센다.
+    @Modifying
+    @Query(value = "insert into member_stats "
+            + "(member_id, posts_count, comments_count, votes_count, bookmarks_count, likes_received_count) "
+            + "select m.member_id, "
+            + "(select count(*) from post p where p.member_id = m.member_id), "
+            + "(select count(*) from comment c where c.member_id = m.member_id), "
+            + "(select count(*) from vote v where v.member_id = m.member_id), "
+            + "(select count(*) from bookmark b where b.member_id = m.member_id), "
+            + "(select count(*) from post_like l join post p on p.post_id = l.post_id where p.member_id = m.member_id) "
+            + "from member m where m.member_id >= :fromId and m.member_id < :toId "
+            + "on duplicate key update "
+            + "posts_count = values(posts_count), "
+            + "comments_count = values(comments_count), "
+            + "votes_count = values(votes_count), "
+            + "bookmarks_count = values(bookmarks_count), "
+            + "likes_received_count = values(likes_received_count)", nativeQuery = true)
+    int recount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,35 @@
+package balancetalk.module.member.dto;
+
+import balancetalk.module.member.domain.MemberDeletionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MemberDeletionResponse {
+
+    @Schema(description = "회원 id", example = "1")
+    private Long memberId;
+
+    @Schema(description = "탈퇴 처리 상태", example = "IN_PROGRESS")
+    private MemberDeletionStatus status;
+
+    @Schema(description = "현재 처리 중인 단계", example = "COMMENTS")
+    private String step;
+
+    @Schema(description = "지금까지 처리된 행 수", example = "1500")
+    private long processedCount;
+
+    public static MemberDeletionResponse fromHash(Long memberId, Map<Object, Object> entries) {
+        return MemberDeletionResponse.builder()
+                .memberId(memberId)
+                .status(MemberDeletionStatus.valueOf((String) entries.get("status")))
+                .step((String) entries.get("step"))
+                .processedCount(Long.parseLong((String) entries.get("processed")))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package balancetalk.module.member.dto;
 
 import balancetalk.module.file.domain.File;
 import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberStats;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +36,7 @@ public class MemberResponse {
     @Schema(description = "회원 등급", example = "1")
     private int level;
 
-    public static MemberResponse fromEntity(Member member) {
+    public static MemberResponse fromEntity(Member member, MemberStats stats) {
         String profileImageUrl = Optional.ofNullable(member.getProfilePhoto())
                 .map(File::getUrl)
                 .orElse(null);
@@ -45,8 +46,9 @@ public class MemberResponse {
                 .nickname(member.getNickname())
                 .profileImageUrl(profileImageUrl)
                 .createdAt(member.getCreatedAt())
-                .postsCount(member.getPostCount())
-                .totalPostLike(member.getPostLikes())
+                .postsCount(stats.getPostsCount())
+                .totalPostLike(stats.getLikesReceivedCount())
+                .level(stats.level())
                 .build();
     }
 }
@@ -0,0 +1,42 @@
+package balancetalk.module.member.dto;
+
+import balancetalk.module.member.domain.MemberStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MemberStatsResponse {
+
+    @Schema(description = "작성한 게시글 수", example = "11")
+    private int postsCount;
+
+    @Schema(description = "작성한 댓글 수", example = "32")
+    private int commentsCount;
+
+    @Schema(description = "투표한 게시글 수", example = "57")
+    private int votesCount;
+
+    @Schema(description = "북마크한 게시글 수", example = "8")
+    private int bookmarksCount;
+
+    @Schema(description = "작성한 게시글이 받은 추천 수", example = "119")
+    private int likesReceivedCount;
+
+    @Schema(description = "회원 등급", example = "3")
+    private int level;
+
+    public static MemberStatsResponse fromEntity(MemberStats stats) {
+        return MemberStatsResponse.builder()
+                .postsCount(stats.getPostsCount())
+                .commentsCount(stats.getCommentsCount())
+                .votesCount(stats.getVotesCount())
+                .bookmarksCount(stats.getBookmarksCount())
+                .likesReceivedCount(stats.getLikesReceivedCount())
+                .level(stats.level())
+                .build();
+    }
+}
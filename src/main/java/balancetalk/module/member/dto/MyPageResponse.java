@@ -1,10 +1,10 @@
 package balancetalk.module.member.dto;
 
 
-import balancetalk.module.bookmark.domain.Bookmark;
-import balancetalk.module.comment.domain.Comment;
-import balancetalk.module.post.domain.Post;
-import balancetalk.module.vote.domain.Vote;
+import balancetalk.module.bookmark.domain.BookmarkHistory;
+import balancetalk.module.comment.domain.CommentHistory;
+import balancetalk.module.post.domain.PostHistory;
+import balancetalk.module.vote.domain.VoteHistory;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -47,36 +47,36 @@ public class MyPageResponse {
     @Schema(description = "댓글 작성 날짜", example = "2023-12-25T15:30:00")
     private LocalDateTime commentCreatedAt;
 
-    public static MyPageResponse fromEntity(Post post) {
+    public static MyPageResponse from(PostHistory post) {
         return MyPageResponse.builder()
-                .postId(post.getId())
-                .postTitle(post.getTitle())
+                .postId(post.getPostId())
+                .postTitle(post.getPostTitle())
                 .postCreatedAt(post.getCreatedAt())
                 .build();
     }
 
-    public static MyPageResponse fromEntity(Bookmark bookmark) {
+    public static MyPageResponse from(BookmarkHistory bookmark) {
         return MyPageResponse.builder()
-                .postId(bookmark.getPost().getId())
-                .postTitle(bookmark.getPost().getTitle())
+                .postId(bookmark.getPostId())
+                .postTitle(bookmark.getPostTitle())
                 .bookmarkedAt(bookmark.getCreatedAt())
                 .build();
     }
 
-    public static MyPageResponse fromEntity(Vote vote, Post post) {
+    public static MyPageResponse from(VoteHistory vote) {
         return MyPageResponse.builder()
-                .postId(post.getId())
-                .balanceOptionTitle(vote.getBalanceOption().getTitle())
+                .postId(vote.getPostId())
+                .balanceOptionTitle(vote.getBalanceOptionTitle())
                 .votedAt(vote.getCreatedAt())
-                .postTitle(post.getTitle())
+                .postTitle(vote.getPostTitle())
                 .build();
     }
 
-    public static MyPageResponse fromEntity(Comment comment) {
+    public static MyPageResponse from(CommentHistory comment) {
         return MyPageResponse.builder()
-                .postId(comment.getPost().getId())
+                .postId(comment.getPostId())
                 .commentContent(comment.getContent())
-                .postTitle(comment.getPost().getTitle())
+                .postTitle(comment.getPostTitle())
                 .commentCreatedAt(comment.getCreatedAt())
                 .build();
     }
@@ -1,5 +1,6 @@
 package balancetalk.module.member.presentation;
 
+import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.module.member.application.MemberService;
 import balancetalk.module.member.dto.*;
 import io.swagger.annotations.ApiImplicitParam;
@@ -14,10 +15,15 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+
+import static balancetalk.global.exception.ErrorCode.PAGE_NUMBER_ZERO;
+import static balancetalk.global.exception.ErrorCode.PAGE_SIZE_ZERO;
 
 @Slf4j
 @RestController
@@ -40,8 +46,9 @@ public class MemberController {
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "회원 가입 한 이메일과 패스워드를 사용하여 로그인 한다.")
-    public String login(@Valid @RequestBody LoginRequest loginRequest, HttpServletResponse response) {
-        return memberService.login(loginRequest, response);
+    public String login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request,
+                        HttpServletResponse response) {
+        return memberService.login(loginRequest, request, response);
     }
 
     @ResponseStatus(HttpStatus.OK)
@@ -53,9 +60,16 @@ public class MemberController {
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
-    @Operation(summary = "전체 회원 조회", description = "모든 회원 정보를 조회한다.")
-    public List<MemberResponse> findAllMemberInfo() {
-        return memberService.findAll();
+    @Operation(summary = "전체 회원 조회", description = "관리자가 전체 회원 정보를 가입순으로 페이지별 조회한다.")
+    public Page<MemberResponse> findAllMemberInfo(@RequestParam(value = "page", defaultValue = "0") int page,
+                                                  @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0) {
+            throw new BalanceTalkException(PAGE_NUMBER_ZERO);
+        }
+        if (size <= 0) {
+            throw new BalanceTalkException(PAGE_SIZE_ZERO);
+        }
+        return memberService.findAll(PageRequest.of(page, size, Sort.by("id").ascending()));
     }
 
     @ResponseStatus(HttpStatus.OK)
@@ -88,17 +102,25 @@ public class MemberController {
 
     @ResponseStatus(HttpStatus.OK)
     @DeleteMapping
-    @Operation(summary = "회원 삭제", description = "회원 정보를 삭제한다.")
+    @Operation(summary = "회원 삭제", description = "회원 탈퇴를 요청한다. 연관 데이터 정리는 비동기로 진행된다.")
     public String deleteMember(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         memberService.delete(loginRequest, request);
-        return "회원 탈퇴가 정상적으로 처리되었습니다.";
+        return "회원 탈퇴 요청이 정상적으로 접수되었습니다.";
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{memberId}/deletion")
+    @Operation(summary = "회원 탈퇴 진행 상태 조회", description = "memberId에 해당하는 회원 탈퇴 처리 진행 상태를 조회한다.")
+    public MemberDeletionResponse findDeletionStatus(@PathVariable("memberId") Long memberId,
+                                                     HttpServletRequest request) {
+        return memberService.findDeletionStatus(memberId, request);
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", description = "로그인 된 회원을 로그 아웃한다.")
-    public String logout() {
-        memberService.logout();
+    public String logout(HttpServletRequest request, HttpServletResponse response) {
+        memberService.logout(request, response);
         return "로그아웃이 정상적으로 처리되었습니다.";
     }
 
@@ -114,7 +136,7 @@ public class MemberController {
     @ResponseStatus(HttpStatus.CREATED)
     @GetMapping("/reissue")
     @Operation(summary = "액세스 토큰 재발급", description = "만료된 액세스 토큰을 재발급 받는다.")
-    public String reissueAccessToken(HttpServletRequest request) {
-        return memberService.reissueAccessToken(request);
+    public String reissueAccessToken(HttpServletRequest request, HttpServletResponse response) {
+        return memberService.reissueAccessToken(request, response);
     }
 }
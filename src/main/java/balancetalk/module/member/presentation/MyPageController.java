@@ -3,6 +3,8 @@ package balancetalk.module.member.presentation;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.module.comment.application.CommentService;
 import balancetalk.module.post.application.PostService;
+import balancetalk.module.member.application.MemberService;
+import balancetalk.module.member.dto.MemberStatsResponse;
 import balancetalk.module.member.dto.MyPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +30,14 @@ public class MyPageController {
 
     private final PostService postService;
     private final CommentService commentService;
+    private final MemberService memberService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/summary")
+    @Operation(summary = "활동 요약 조회", description = "해당 회원의 게시글/댓글/투표/북마크 수, 받은 추천 수, 등급을 조회한다.")
+    public MemberStatsResponse findSummary() {
+        return memberService.findSummary();
+    }
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/history/posts")
@@ -1,6 +1,18 @@
 package balancetalk.module.notice.domain;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
+
+    @Query("select n.id from Notice n where n.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("update Notice n set n.member = null where n.id in :ids")
+    int detachMember(@Param("ids") List<Long> ids);
 }
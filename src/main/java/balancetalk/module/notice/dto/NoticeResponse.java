@@ -1,6 +1,7 @@
 package balancetalk.module.notice.dto;
 
 import balancetalk.module.file.domain.File;
+import balancetalk.module.member.domain.Member;
 import balancetalk.module.notice.domain.Notice;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Data
 @Builder
@@ -39,7 +41,9 @@ public class NoticeResponse {
                 .title(notice.getTitle())
                 .content(notice.getContent())
                 .createdAt(notice.getCreatedAt())
-                .createdBy(notice.getMember().getNickname())
+                .createdBy(Optional.ofNullable(notice.getMember())
+                        .map(Member::getNickname)
+                        .orElse(null))
                 .storedFileNames(storedFileNames)
                 .build();
     }
@@ -0,0 +1,374 @@
+package balancetalk.module.post.application;
+
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+
+import balancetalk.global.config.HotPostConfig;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.comment.domain.CommentCreatedEvent;
+import balancetalk.module.comment.domain.CommentDeletedEvent;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostCreatedEvent;
+import balancetalk.module.post.domain.PostDeletedEvent;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.domain.PostSummary;
+import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    최근 게시글의 인기 순위를 Redis 정렬 집합으로 유지한다.
+    - 게시글별 활동 점수(points)와 작성 시각(created)을 해시에 두고, 추천/투표/댓글/조회마다
+      활동 점수를 더한 뒤 해당 게시글의 순위 점수만 다시 계산한다. (Lua 스크립트 한 번 왕복)
+    - 시간이 지나며 떨어지는 점수는 주기적으로 전체를 다시 계산하고, max-age 가 지난 게시글은 뺀다.
+    - 해시가 없으면(최초 실행, Redis 초기화) DB 집계로 다시 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotPostService {
+
+    // 세 키가 클러스터에서 같은 슬롯에 놓이도록 해시 태그로 묶는다.
+    static final String POINTS_KEY = "posts:{hot}:points";
+    static final String CREATED_KEY = "posts:{hot}:created";
+    static final String RANKING_KEY = "posts:{hot}:ranking";
+    private static final List<String> KEYS = List.of(POINTS_KEY, CREATED_KEY, RANKING_KEY);
+
+    private static final String CONSUMER = "hot-post";
+    private static final String DECAY_LOCK_KEY = "posts:hot:decay-lock";
+    private static final int REGISTER_BATCH_SIZE = 500;
+    private static final int DECAY_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_READS = 3;
+
+    // 순위 점수 = max(0, 활동 점수) / (경과 시간(h) + offset) ^ gravity
+    private static final String SCORE_FUNCTION = """
+            local function score(points, created, now, gravity, offset)
+                local ageHours = math.max(0, now - tonumber(created)) / 3600
+                return tostring(math.max(0, tonumber(points)) / ((ageHours + offset) ^ gravity))
+            end
+            """;
+
+    // KEYS: points, created, ranking / ARGV: 현재 시각(s), gravity, offset, (게시글 id, 작성 시각(s), 활동 점수) 반복
+    private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of(SCORE_FUNCTION + """
+            local now, gravity, offset = tonumber(ARGV[1]), tonumber(ARGV[2]), tonumber(ARGV[3])
+            for i = 4, #ARGV, 3 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2])
+                redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+                redis.call('ZADD', KEYS[3], score(ARGV[i + 2], ARGV[i + 1], now, gravity, offset), ARGV[i])
+            end
+            return (#ARGV - 3) / 3
+            """, Long.class);
+
+    // KEYS: points, created, ranking, (처리 기록) / ARGV: 게시글 id, 증감량, 현재 시각(s), gravity, offset, (기록 TTL(ms))
+    // 순위에 없는 게시글(오래되었거나 아직 등록 전)이나 이미 반영한 이벤트는 무시하고 0 반환
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of(SCORE_FUNCTION + """
+            local created = redis.call('HGET', KEYS[2], ARGV[1])
+            if not created then
+                return 0
+            end
+            if KEYS[4] and not redis.call('SET', KEYS[4], '1', 'NX', 'PX', ARGV[6]) then
+                return 0
+            end
+            local points = redis.call('HINCRBYFLOAT', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[3],
+                    score(points, created, tonumber(ARGV[3]), tonumber(ARGV[4]), tonumber(ARGV[5])), ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: points, created, ranking / ARGV: HSCAN 커서, 현재 시각(s), gravity, offset, max-age(s), 배치 크기
+    // 한 번에 배치 크기 정도만 다시 계산하고 다음 커서(끝이면 0)를 반환. 첫 호출에 해시가 없으면 -1 반환
+    private static final RedisScript<String> DECAY_SCRIPT = RedisScript.of(SCORE_FUNCTION + """
+            if ARGV[1] == '0' and redis.call('EXISTS', KEYS[2]) == 0 then
+                return '-1'
+            end
+            local now, gravity, offset, maxAge = tonumber(ARGV[2]), tonumber(ARGV[3]), tonumber(ARGV[4]), tonumber(ARGV[5])
+            local scan = redis.call('HSCAN', KEYS[2], ARGV[1], 'COUNT', ARGV[6])
+            local created = scan[2]
+            for i = 1, #created, 2 do
+                local postId = created[i]
+                if now - tonumber(created[i + 1]) > maxAge then
+                    redis.call('HDEL', KEYS[1], postId)
+                    redis.call('HDEL', KEYS[2], postId)
+                    redis.call('ZREM', KEYS[3], postId)
+                else
+                    local points = redis.call('HGET', KEYS[1], postId) or '0'
+                    redis.call('ZADD', KEYS[3], score(points, created[i + 1], now, gravity, offset), postId)
+                end
+            end
+            return scan[1]
+            """, String.class);
+
+    // KEYS: points, created, ranking / ARGV: 게시글 id... / 반환: 순위에서 뺀 게시글 수
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            redis.call('HDEL', KEYS[1], unpack(ARGV))
+            redis.call('HDEL', KEYS[2], unpack(ARGV))
+            return redis.call('ZREM', KEYS[3], unpack(ARGV))
+            """, Long.class);
+
+    // KEYS: ranking / ARGV: 시작, 끝 순위 / 반환: 전체 개수, 게시글 id...
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT = RedisScript.of("""
+            local postIds = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+            table.insert(postIds, 1, redis.call('ZCARD', KEYS[1]))
+            return postIds
+            """, List.class);
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final VoteRepository voteRepository;
+    private final RedisService redisService;
+    private final ProcessedEvents processedEvents;
+    private final HotPostConfig hotPostConfig;
+
+    /*
+        순위에 남아 있는 블라인드/삭제 게시글(순위 반영 실패 등)은 순위에서 지우고 구간을 다시 읽어,
+        페이지 크기와 전체 개수가 실제로 보이는 게시글 기준이 되도록 한다. 다시 읽는 횟수는 제한
+     */
+    @Transactional(readOnly = true)
+    public Page<PostResponse> findHotPosts(String token, Pageable pageable) {
+        for (int read = 1; ; read++) {
+            List<?> result = redisService.executeScript(PAGE_SCRIPT, List.of(RANKING_KEY),
+                    String.valueOf(pageable.getOffset()),
+                    String.valueOf(pageable.getOffset() + pageable.getPageSize() - 1));
+            long total = result.isEmpty() ? 0 : (Long) result.get(0);
+            List<Long> postIds = result.stream()
+                    .skip(1)
+                    .map(postId -> Long.valueOf(String.valueOf(postId)))
+                    .toList();
+            Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                    .filter(post -> post.getViewStatus() == ViewStatus.NORMAL)
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+            List<Long> hiddenPostIds = postIds.stream()
+                    .filter(postId -> !posts.containsKey(postId))
+                    .toList();
+            if (!hiddenPostIds.isEmpty()) {
+                removeFromRanking(hiddenPostIds);
+            }
+            if (hiddenPostIds.isEmpty() || read == MAX_PAGE_READS) {
+                return toPage(token, pageable, postIds, posts, total - hiddenPostIds.size());
+            }
+        }
+    }
+
+    private Page<PostResponse> toPage(String token, Pageable pageable, List<Long> postIds, Map<Long, Post> posts,
+                                      long total) {
+        Member member = token == null ? null : getCurrentMember(memberRepository);
+        // 회원의 좋아요/북마크/투표 컬렉션을 읽지 않고, 페이지의 게시글 id 로 한 번씩만 조회
+        boolean lookup = member != null && !posts.isEmpty();
+        List<Long> visiblePostIds = List.copyOf(posts.keySet());
+        Set<Long> likedPostIds = !lookup ? Set.of()
+                : new HashSet<>(postLikeRepository.findLikedPostIds(member.getId(), visiblePostIds));
+        Set<Long> bookmarkedPostIds = !lookup ? Set.of()
+                : new HashSet<>(bookmarkRepository.findBookmarkedPostIds(member.getId(), visiblePostIds));
+        Set<Long> votedPostIds = !lookup ? Set.of()
+                : new HashSet<>(voteRepository.findVotedPostIds(member.getId(), visiblePostIds));
+
+        List<PostResponse> responses = postIds.stream()
+                .filter(posts::containsKey)
+                .map(posts::get)
+                .map(post -> PostResponse.fromEntity(post, member, likedPostIds.contains(post.getId()),
+                        bookmarkedPostIds.contains(post.getId()), votedPostIds.contains(post.getId())))
+                .toList();
+        return new PageImpl<>(responses, pageable, total);
+    }
+
+    /*
+        게시글 조회는 요청 스레드에서 바로 반영하므로, Redis 장애가 조회를 실패시키지 않도록 한다.
+     */
+    public void recordView(Long postId) {
+        try {
+            record(postId, hotPostConfig.getViewWeight());
+        } catch (DataAccessException e) {
+            log.warn("failed to record hot post view. postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        List<PostSummary> summaries = postRepository.findSummariesByIdIn(List.of(event.getPostId()));
+        if (!summaries.isEmpty()) {
+            register(List.<String[]>of(registerArgs(event.getPostId(), summaries.get(0).getCreatedAt(), 0)));
+        }
+    }
+
+    @EventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        removeFromRanking(List.of(event.getPostId()));
+    }
+
+    /*
+        신고 평가로 블라인드되면 순위에서 빼고, 블라인드가 풀리면 현재 집계로 다시 등록한다.
+        집계는 호출한 트랜잭션 안에서 읽고, 순위 반영은 커밋된 뒤에 한다.
+        반영에 실패해도 조회할 때 블라인드 게시글을 순위에서 지우므로 경고만 남긴다.
+     */
+    public void updateViewStatus(Long postId, ViewStatus viewStatus) {
+        List<String[]> posts = viewStatus == ViewStatus.BLIND ? List.of()
+                : postRepository.findActivityCountsById(postId, ViewStatus.NORMAL, maxAgeStart()).stream()
+                        .map(this::activityArgs)
+                        .toList();
+        afterCommit(() -> {
+            try {
+                if (viewStatus == ViewStatus.BLIND) {
+                    removeFromRanking(List.of(postId));
+                } else {
+                    register(posts);
+                }
+            } catch (DataAccessException e) {
+                log.warn("failed to update hot post view status. postId={}, viewStatus={}, error={}",
+                        postId, viewStatus, e.getMessage());
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void removeFromRanking(List<Long> postIds) {
+        redisService.executeScript(REMOVE_SCRIPT, KEYS, postIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    @EventListener
+    public void onPostLiked(PostLikedEvent event) {
+        record(event.getPostId(), hotPostConfig.getLikeWeight());
+    }
+
+    @EventListener
+    public void onPostLikeCanceled(PostLikeCanceledEvent event) {
+        record(event.getPostId(), -hotPostConfig.getLikeWeight());
+    }
+
+    @EventListener
+    public void onVoteCast(VoteCastEvent event) {
+        record(event.getPostId(), hotPostConfig.getVoteWeight());
+    }
+
+    @EventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        record(event.getPostId(), hotPostConfig.getCommentWeight());
+    }
+
+    @EventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        record(event.getPostId(), -hotPostConfig.getCommentWeight());
+    }
+
+    private void record(Long postId, double delta) {
+        List<String> keys = new ArrayList<>(KEYS);
+        List<String> args = new ArrayList<>(List.of(String.valueOf(postId), String.valueOf(delta),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(hotPostConfig.getGravity()),
+                String.valueOf(hotPostConfig.getAgeOffsetHours())));
+        // 아웃박스 이벤트로 반영할 때만 처리 기록을 남긴다. (조회 수는 요청마다 반영)
+        String markerKey = processedEvents.markerKey("hot", CONSUMER);
+        if (markerKey != null) {
+            keys.add(markerKey);
+            args.add(String.valueOf(processedEvents.retention().toMillis()));
+        }
+        redisService.executeScript(RECORD_SCRIPT, keys, args.toArray(String[]::new));
+    }
+
+    /*
+        경과 시간에 따라 떨어진 점수를 다시 계산한다. 여러 인스턴스 중 한 곳에서만 실행
+        스크립트 하나가 Redis 를 오래 붙잡지 않도록 HSCAN 커서로 나눠서 계산하고, 한 번의 계산은 같은 시각 기준
+     */
+    @Scheduled(fixedDelayString = "${posts.hot.decay-interval-ms:600000}")
+    public void decay() {
+        if (!redisService.setValuesIfAbsent(DECAY_LOCK_KEY, "1", hotPostConfig.getDecayLockTtl())) {
+            return;
+        }
+        String now = String.valueOf(Instant.now().getEpochSecond());
+        String cursor = "0";
+        do {
+            cursor = redisService.executeScript(DECAY_SCRIPT, KEYS, cursor, now,
+                    String.valueOf(hotPostConfig.getGravity()), String.valueOf(hotPostConfig.getAgeOffsetHours()),
+                    String.valueOf(hotPostConfig.getMaxAge().toSeconds()), String.valueOf(DECAY_BATCH_SIZE));
+            if ("-1".equals(cursor)) {
+                rebuild();
+                return;
+            }
+        } while (cursor != null && !"0".equals(cursor));
+    }
+
+    /*
+        max-age 안에 작성된 노출 게시글의 추천/투표/댓글/조회 수로 활동 점수를 다시 채운다.
+     */
+    public void rebuild() {
+        List<String[]> posts = postRepository.findActivityCountsCreatedAfter(ViewStatus.NORMAL, maxAgeStart())
+                .stream()
+                .map(this::activityArgs)
+                .toList();
+        register(posts);
+        log.info("rebuilt hot post ranking. posts={}", posts.size());
+    }
+
+    private LocalDateTime maxAgeStart() {
+        return LocalDateTime.now().minus(hotPostConfig.getMaxAge());
+    }
+
+    // (id, 작성 시각, 조회수, 추천 수, 투표 수, 댓글 수) 행으로 활동 점수를 계산
+    private String[] activityArgs(Object[] row) {
+        double points = hotPostConfig.getViewWeight() * ((Number) row[2]).longValue()
+                + hotPostConfig.getLikeWeight() * ((Number) row[3]).longValue()
+                + hotPostConfig.getVoteWeight() * ((Number) row[4]).longValue()
+                + hotPostConfig.getCommentWeight() * ((Number) row[5]).longValue();
+        return registerArgs((Long) row[0], (LocalDateTime) row[1], points);
+    }
+
+    // 스크립트 하나가 Redis 를 오래 붙잡지 않도록 나눠서 등록
+    private void register(List<String[]> posts) {
+        for (int from = 0; from < posts.size(); from += REGISTER_BATCH_SIZE) {
+            List<String> args = new ArrayList<>(List.of(String.valueOf(Instant.now().getEpochSecond()),
+                    String.valueOf(hotPostConfig.getGravity()), String.valueOf(hotPostConfig.getAgeOffsetHours())));
+            posts.subList(from, Math.min(from + REGISTER_BATCH_SIZE, posts.size()))
+                    .forEach(post -> args.addAll(List.of(post)));
+            redisService.executeScript(REGISTER_SCRIPT, KEYS, args.toArray(String[]::new));
+        }
+    }
+
+    private String[] registerArgs(Long postId, LocalDateTime createdAt, double points) {
+        long createdEpochSecond = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return new String[]{String.valueOf(postId), String.valueOf(createdEpochSecond), String.valueOf(points)};
+    }
+}
@@ -0,0 +1,192 @@
+package balancetalk.module.post.application;
+
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_POST_RESULT;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.comment.application.CommentService;
+import balancetalk.module.post.domain.OptionResult;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostCreatedEvent;
+import balancetalk.module.post.domain.PostDeletedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.domain.PostResult;
+import balancetalk.module.post.domain.PostResultRepository;
+import balancetalk.module.post.dto.PostResultResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    마감 기한이 지난 게시글의 최종 결과(선택지별 득표 수, 전체 투표 수, 최다 득표 선택지, 베스트 댓글)를 저장한다.
+    - 마감 예정 게시글은 마감 시각을 점수로 하는 Redis 정렬 집합에 넣어 두고, 마감된 게시글부터 꺼내 처리한다.
+    - 저장한 결과는 바뀌지 않으므로 만료 시간 없이 캐시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostResultService {
+
+    private static final String DEADLINE_QUEUE_KEY = "posts:deadline-queue";
+    private static final String QUEUE_SEEDED_KEY = "posts:deadline-queue:seeded";
+    private static final String RESULT_KEY_PREFIX = "post:result:";
+
+    // 대기열이 Redis 초기화 등으로 사라졌거나 누락된 게시글이 있을 수 있어 주기적으로 DB에서 다시 채운다.
+    private static final Duration QUEUE_RESEED_INTERVAL = Duration.ofDays(1);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    private static final int ENQUEUE_BATCH_SIZE = 500;
+
+    // KEYS: 대기열 / ARGV: (마감 시각(ms), 게시글 id) 반복
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = RedisScript.of("""
+            for i = 1, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return #ARGV / 2
+            """, Long.class);
+
+    // KEYS: 대기열 / ARGV: 현재 시각(ms), 최대 개수
+    // 마감된 게시글을 꺼내면서 지우므로 여러 인스턴스가 같은 게시글을 중복 처리하지 않는다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local postIds = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #postIds > 0 then
+                redis.call('ZREM', KEYS[1], unpack(postIds))
+            end
+            return postIds
+            """, List.class);
+
+    // KEYS: 대기열 / ARGV: 게시글 id
+    private static final RedisScript<Long> DEQUEUE_SCRIPT = RedisScript.of("""
+            return redis.call('ZREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final PostRepository postRepository;
+    private final PostResultRepository postResultRepository;
+    private final CommentService commentService;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${posts.result.close-batch-size:100}")
+    private int closeBatchSize;
+
+    /*
+        마감된 게시글의 최종 결과. 아직 집계되지 않았으면 빈 값
+     */
+    public Optional<PostResultResponse> findResult(Long postId) {
+        String cached = redisService.getValues(resultKey(postId));
+        if (cached != null) {
+            return Optional.of(fromJson(cached));
+        }
+        Optional<PostResultResponse> result = postResultRepository.findById(postId)
+                .map(PostResultResponse::fromEntity);
+        result.ifPresent(response -> redisService.setValues(resultKey(postId), toJson(response)));
+        return result;
+    }
+
+    public PostResultResponse getResult(Long postId) {
+        return findResult(postId)
+                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_POST_RESULT));
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        postRepository.findById(event.getPostId())
+                .ifPresent(post -> enqueue(List.<Object[]>of(new Object[]{post.getId(), post.getDeadline()})));
+    }
+
+    @EventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        redisService.executeScript(DEQUEUE_SCRIPT, List.of(DEADLINE_QUEUE_KEY), String.valueOf(event.getPostId()));
+        if (postResultRepository.existsById(event.getPostId())) {
+            postResultRepository.deleteById(event.getPostId());
+        }
+        redisService.deleteValues(resultKey(event.getPostId()));
+    }
+
+    @Scheduled(fixedDelayString = "${posts.result.close-interval-ms:10000}")
+    public void closeExpiredPosts() {
+        if (redisService.setValuesIfAbsent(QUEUE_SEEDED_KEY, "1", QUEUE_RESEED_INTERVAL)) {
+            enqueue(postRepository.findDeadlinesWithoutResult());
+        }
+
+        List<?> postIds = redisService.executeScript(CLAIM_SCRIPT, List.of(DEADLINE_QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(closeBatchSize));
+        for (Object postId : postIds) {
+            Long id = Long.valueOf(String.valueOf(postId));
+            try {
+                transactionTemplate.executeWithoutResult(status -> close(id));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 대기열을 다시 채우는 사이 먼저 저장한 경우
+                log.info("post result already exists. postId={}", id);
+            } catch (RuntimeException e) {
+                log.warn("failed to close post. postId={}, error={}", id, e.getMessage());
+                enqueue(List.<Object[]>of(new Object[]{id, LocalDateTime.now().plus(RETRY_DELAY)}));
+            }
+        }
+    }
+
+    private void close(Long postId) {
+        if (postResultRepository.existsById(postId)) {
+            return;
+        }
+        Optional<Post> found = postRepository.findById(postId);
+        if (found.isEmpty()) {
+            return;
+        }
+        Post post = found.get();
+        List<OptionResult> options = post.getOptions().stream()
+                .map(option -> new OptionResult(option.getId(), option.getTitle(), option.voteCount(),
+                        commentService.findBestCommentIds(postId, option.getId())))
+                .toList();
+        postResultRepository.save(PostResult.of(postId, options, LocalDateTime.now()));
+    }
+
+    // (게시글 id, 마감 기한) 목록을 대기열에 넣는다. 스크립트 하나가 Redis 를 오래 붙잡지 않도록 나눠서 실행
+    private void enqueue(List<Object[]> deadlines) {
+        for (int from = 0; from < deadlines.size(); from += ENQUEUE_BATCH_SIZE) {
+            List<String> args = new ArrayList<>();
+            for (Object[] deadline : deadlines.subList(from, Math.min(from + ENQUEUE_BATCH_SIZE, deadlines.size()))) {
+                long deadlineMillis = ((LocalDateTime) deadline[1]).atZone(ZoneId.systemDefault())
+                        .toInstant().toEpochMilli();
+                args.add(String.valueOf(deadlineMillis));
+                args.add(String.valueOf(deadline[0]));
+            }
+            redisService.executeScript(ENQUEUE_SCRIPT, List.of(DEADLINE_QUEUE_KEY), args.toArray(String[]::new));
+        }
+    }
+
+    private static String resultKey(Long postId) {
+        return RESULT_KEY_PREFIX + postId;
+    }
+
+    private String toJson(PostResultResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize post result", e);
+        }
+    }
+
+    private PostResultResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, PostResultResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to deserialize post result", e);
+        }
+    }
+}
@@ -4,10 +4,12 @@ import static balancetalk.global.exception.ErrorCode.*;
 import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
 
 import balancetalk.global.exception.BalanceTalkException;
-import balancetalk.global.redis.application.RedisService;
+import balancetalk.global.jwt.RefreshTokenStore;
+import balancetalk.global.outbox.application.DomainEventPublisher;
 import balancetalk.module.bookmark.domain.BookmarkRepository;
 import balancetalk.module.file.domain.File;
 import balancetalk.module.file.domain.FileRepository;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
 import balancetalk.module.member.domain.Role;
@@ -16,16 +18,22 @@ import balancetalk.module.post.domain.*;
 import balancetalk.module.post.dto.BalanceOptionRequest;
 import balancetalk.module.post.dto.PostRequest;
 import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.ViewStatus;
 import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportCreatedEvent;
 import balancetalk.module.report.domain.ReportRepository;
 import balancetalk.module.report.dto.ReportRequest;
 import balancetalk.module.post.dto.*;
 import balancetalk.module.vote.domain.VoteRepository;
 import java.util.stream.Collectors;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -39,18 +47,24 @@ public class PostService {
     private static final int BEST_POSTS_SIZE = 5;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
-    private final PostLikeRepository postLikeRepository;
     private final FileRepository fileRepository;
     private final VoteRepository voteRepository;
+    private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
     private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher domainEventPublisher;
+    private final HotPostService hotPostService;
+    private final PostResultService postResultService;
+    private final MemberDeletionService memberDeletionService;
 
     public PostResponse save(final PostRequest request) {
         Member writer = getCurrentMember(memberRepository);
-        if (redisService.getValues(writer.getEmail()) == null) {
+        if (!refreshTokenStore.hasSession(writer.getId())) {
             throw new BalanceTalkException(FORBIDDEN_POST_CREATE);
         }
+        memberDeletionService.validateNotDeleting(writer.getId());
 
         List<File> images = getImages(request);
         Post post = request.toEntity(writer, images);
@@ -64,7 +78,9 @@ public class PostService {
             postTag.addPost(post);
         }
 
-        return PostResponse.fromEntity(postRepository.save(post), writer, false, false, false);
+        Post savedPost = postRepository.save(post);
+        domainEventPublisher.publish(new PostCreatedEvent(savedPost.getId(), writer.getId()));
+        return PostResponse.fromEntity(savedPost, writer, false, false, false);
     }
 
     private List<File> getImages(PostRequest postRequest) {
@@ -78,18 +94,13 @@ public class PostService {
 
     @Transactional(readOnly = true)
     public Page<PostResponse> findAll(String token, Pageable pageable) {
-        Page<Post> posts = postRepository.findAll(pageable);
+        Page<Post> posts = postRepository.findAllByViewStatus(ViewStatus.NORMAL, pageable);
 
         if (token == null) {
             return posts.map(post -> PostResponse.fromEntity(post, null, false, false, false));
         }
         Member member = getCurrentMember(memberRepository);
-
-        return posts.map(post -> PostResponse.fromEntity(post,
-                member,
-                member.hasLiked(post),
-                member.hasBookmarked(post),
-                member.hasVoted(post)));
+        return new PageImpl<>(toResponses(member, posts.getContent()), pageable, posts.getTotalElements());
     }
 
     @Transactional
@@ -98,40 +109,58 @@ public class PostService {
 
         if (token == null) {
             post.increaseViews();
-            return PostResponse.fromEntity(post, null, false, false, false);
+            hotPostService.recordView(postId);
+            return withResult(post, PostResponse.fromEntity(post, null, false, false, false));
         }
 
         Member member = getCurrentMember(memberRepository);
 
         if (member.getRole() == Role.USER) {
              post.increaseViews();
+             hotPostService.recordView(postId);
+        }
+        return withResult(post, PostResponse.fromEntity(post, member,
+                postLikeRepository.existsByMemberIdAndPostId(member.getId(), postId),
+                bookmarkRepository.existsByMemberIdAndPostId(member.getId(), postId),
+                voteRepository.existsByMemberIdAndPostId(member.getId(), postId)));
+    }
+
+    private PostResponse withResult(Post post, PostResponse response) {
+        if (!post.hasDeadlineExpired()) {
+            return response;
         }
-        return PostResponse.fromEntity(post, member, member.hasLiked(post), member.hasBookmarked(post),
-                member.hasVoted(post));
+        return postResultService.findResult(post.getId())
+                .map(response::applyResult)
+                .orElse(response);
+    }
+
+    @Transactional(readOnly = true)
+    public PostResultResponse findResult(Long postId) {
+        return postResultService.getResult(postId);
     }
 
     @Transactional(readOnly = true)
     public Page<MyPageResponse> findAllByCurrentMember(Pageable pageable) {
         Member currentMember = getCurrentMember(memberRepository);
 
-        return postRepository.findAllByMemberId(currentMember.getId(), pageable)
-                .map(MyPageResponse::fromEntity);
+        return postRepository.findHistoryByMemberId(currentMember.getId(), pageable)
+                .map(MyPageResponse::from);
     }
 
     @Transactional(readOnly = true)
     public Page<MyPageResponse> findAllVotedByCurrentMember(Pageable pageable) {
         Member currentMember = getCurrentMember(memberRepository);
 
-        return voteRepository.findAllByMemberId(currentMember.getId(), pageable)
-                .map(vote -> MyPageResponse.fromEntity(vote, vote.getBalanceOption().getPost()));
+        return voteRepository.findHistoryByMemberId(currentMember.getId(), pageable)
+                .map(MyPageResponse::from);
     }
 
     @Transactional(readOnly = true)
     public Page<MyPageResponse> findAllBookmarkedByCurrentMember(Pageable pageable) {
         Member currentMember = getCurrentMember(memberRepository);
 
-        return bookmarkRepository.findAllByMemberId(currentMember.getId(), pageable)
-                .map(MyPageResponse::fromEntity);
+        return bookmarkRepository.findHistoryByMemberId(currentMember.getId(), pageable)
+                .map(MyPageResponse::from);
     }
 
 
@@ -139,41 +168,31 @@ public class PostService {
     public void deleteById(Long postId) {
         Post post = getCurrentPost(postId);
         Member member = getCurrentMember(memberRepository);
-        if (!post.getMember().getEmail().equals(member.getEmail())) {
+        if (!member.equals(post.getMember())) {
             throw new BalanceTalkException(FORBIDDEN_POST_DELETE);
         }
         postRepository.deleteById(postId);
+        domainEventPublisher.publish(new PostDeletedEvent(postId, member.getId()));
     }
 
-    public Long likePost(Long postId) {
-        Post post = getCurrentPost(postId);
-        Member member = getCurrentMember(memberRepository);
-        if (postLikeRepository.existsByMemberAndPost(member, post)) {
-            throw new BalanceTalkException(ALREADY_LIKE_POST);
+    // 회원의 좋아요/북마크/투표 컬렉션을 읽지 않고, 목록의 게시글 id 로 한 번씩만 조회 (회원, 게시글 유니크 키)
+    private List<PostResponse> toResponses(Member member, List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
         }
-
-
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .member(member)
-                .build();
-        postLikeRepository.save(postLike);
-
-        return post.getId();
-    }
-
-    public void cancelLikePost(Long postId) {
-        Post post = getCurrentPost(postId);
-        Member member = getCurrentMember(memberRepository);
-        if (notExistsPostLikeBy(member, post)) {
-            throw new BalanceTalkException(NOT_FOUND_POST_LIKE);
-        }
-        postLikeRepository.deleteByMemberAndPost(member, post);
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Set<Long> likedPostIds = new HashSet<>(postLikeRepository.findLikedPostIds(member.getId(), postIds));
+        Set<Long> bookmarkedPostIds = new HashSet<>(bookmarkRepository.findBookmarkedPostIds(member.getId(), postIds));
+        Set<Long> votedPostIds = new HashSet<>(voteRepository.findVotedPostIds(member.getId(), postIds));
+        return posts.stream()
+                .map(post -> PostResponse.fromEntity(post,
+                        member,
+                        likedPostIds.contains(post.getId()),
+                        bookmarkedPostIds.contains(post.getId()),
+                        votedPostIds.contains(post.getId())))
+                .collect(Collectors.toList());
     }
 
-    private boolean notExistsPostLikeBy(Member member, Post post) {
-        return !postLikeRepository.existsByMemberAndPost(member, post);
-    }
     private Post getCurrentPost(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_POST));
@@ -182,7 +201,7 @@ public class PostService {
     @Transactional(readOnly = true)
     public List<PostResponse> findBestPosts(String token) {
         PageRequest limit = PageRequest.of(0, BEST_POSTS_SIZE);
-        List<Post> posts = postRepository.findBestPosts(limit);
+        List<Post> posts = postRepository.findBestPosts(ViewStatus.NORMAL, limit);
 
         if (token == null) {
             return posts.stream()
@@ -191,50 +210,31 @@ public class PostService {
         }
 
         Member member = getCurrentMember(memberRepository);
-
-        return posts.stream()
-                .map(post -> PostResponse.fromEntity(post,
-                        member,
-                        member.hasLiked(post),
-                        member.hasBookmarked(post),
-                        member.hasVoted(post)))
-                .collect(Collectors.toList());
+        return toResponses(member, posts);
     }
 
     @Transactional(readOnly = true)
     public List<PostResponse> findPostsByTitle(String token, String keyword) {
-        List<Post> posts = postRepository.findByTitleContaining(keyword);
+        List<Post> posts = postRepository.findByTitleContainingAndViewStatus(keyword, ViewStatus.NORMAL);
         if (token == null) {
             return posts.stream()
                     .map(post -> PostResponse.fromEntity(post, null, false, false, false))
                     .collect(Collectors.toList());
         }
         Member member = getCurrentMember(memberRepository);
-        return posts.stream()
-                .map(post -> PostResponse.fromEntity(post,
-                        member,
-                        member.hasLiked(post),
-                        member.hasBookmarked(post),
-                        member.hasVoted(post)))
-                .collect(Collectors.toList());
+        return toResponses(member, posts);
     }
 
     @Transactional(readOnly = true)
     public List<PostResponse> findPostsByTag(String token, String tagName) {
-        List<Post> posts = postRepository.findByPostTagsContaining(tagName);
+        List<Post> posts = postRepository.findByPostTagsContaining(tagName, ViewStatus.NORMAL);
         if (token == null) {
             return posts.stream()
                     .map(post -> PostResponse.fromEntity(post, null, false, false, false))
                     .collect(Collectors.toList());
         }
         Member member = getCurrentMember(memberRepository);
-        return posts.stream()
-                .map(post -> PostResponse.fromEntity(post,
-                        member,
-                        member.hasLiked(post),
-                        member.hasBookmarked(post),
-                        member.hasVoted(post)))
-                .collect(Collectors.toList());
+        return toResponses(member, posts);
     }
 
     public void reportPost(Long postId, ReportRequest reportRequest) {
@@ -251,5 +251,6 @@ public class PostService {
                 .category(reportRequest.getCategory())
                 .build();
         reportRepository.save(report);
+        eventPublisher.publishEvent(new ReportCreatedEvent(postId, null));
     }
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,8 +44,12 @@ public class BalanceOption {
     @OneToMany(mappedBy = "balanceOption", cascade = CascadeType.ALL)
     private List<Vote> votes = new ArrayList<>();
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int votesCount; // 투표 생성/수정 시 원자적 UPDATE로 갱신되는 집계값
+
     public int voteCount() {
-        return votes.size();
+        return votesCount;
     }
 
     public void addPost(Post post) {
@@ -1,6 +1,22 @@
 package balancetalk.module.post.domain;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BalanceOptionRepository extends JpaRepository<BalanceOption, Long> {
+
+    List<BalanceOption> findAllByPostIdOrderByIdAsc(Long postId);
+
+    boolean existsByIdAndPostId(Long id, Long postId);
+
+    // (게시글 id, 총 투표 수) 목록
+    @Query("select o.post.id, sum(o.votesCount) from BalanceOption o where o.post.id in :postIds group by o.post.id")
+    List<Object[]> sumVotesCountByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query("update BalanceOption o set o.votesCount = o.votesCount + :delta where o.id = :id")
+    int addVotesCount(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -0,0 +1,21 @@
+package balancetalk.module.post.domain;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    마감 시점의 선택지별 득표 수와 베스트 댓글 id
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OptionResult {
+
+    private Long optionId;
+    private String title;
+    private int votesCount;
+    private List<Long> bestCommentIds;
+}
@@ -0,0 +1,37 @@
+package balancetalk.module.post.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/*
+    선택지별 결과는 마감 후 바뀌지 않고 항상 통째로 읽으므로 JSON 문자열 하나로 저장한다.
+ */
+@Converter
+public class OptionResultsConverter implements AttributeConverter<List<OptionResult>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<OptionResult>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<OptionResult> options) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(options);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize option results", e);
+        }
+    }
+
+    @Override
+    public List<OptionResult> convertToEntityAttribute(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to deserialize option results", e);
+        }
+    }
+}
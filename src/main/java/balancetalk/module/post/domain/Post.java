@@ -16,6 +16,11 @@ import java.util.List;
 import org.hibernate.annotations.Formula;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_view_status_created_at", columnList = "view_status, created_at"),
+        @Index(name = "idx_post_view_status_deadline", columnList = "view_status, deadline"),
+        @Index(name = "idx_post_member_id_created_at", columnList = "member_id, created_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -105,10 +110,6 @@ public class Post extends BaseTimeEntity {
         this.member = null;
     }
 
-    public boolean notContainsBalanceOption(BalanceOption option) {
-        return !options.contains(option);
-    }
-
     public boolean hasDeadlineExpired() {
         return deadline.isBefore(LocalDateTime.now());
     }
@@ -116,4 +117,8 @@ public class Post extends BaseTimeEntity {
     public void increaseViews() {
         views++;
     }
+
+    public boolean isBlind() {
+        return viewStatus == ViewStatus.BLIND;
+    }
 }
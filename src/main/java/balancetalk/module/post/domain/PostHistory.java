@@ -0,0 +1,15 @@
+package balancetalk.module.post.domain;
+
+import java.time.LocalDateTime;
+
+/*
+    마이페이지 - 내가 쓴 게시글 한 줄 (엔티티를 읽지 않는 프로젝션)
+ */
+public interface PostHistory {
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    LocalDateTime getCreatedAt();
+}
@@ -9,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_like_member_post", columnNames = {"member_id", "post_id"}),
+        indexes = @Index(name = "idx_post_like_post_id_member_id", columnList = "post_id, member_id"))
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -16,7 +18,7 @@ import lombok.NoArgsConstructor;
 public class PostLike {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "post_like_id")
     private Long id;
 
@@ -1,11 +1,39 @@
 package balancetalk.module.post.domain;
 
-import balancetalk.module.member.domain.Member;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
-    boolean existsByMemberAndPost(Member member, Post post);
+    @Modifying
+    @Transactional
+    @Query("delete from PostLike l where l.member.id = :memberId and l.post.id = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
 
-    void deleteByMemberAndPost(Member member, Post post);
+    // 이미 추천했거나(uk_post_like_member_post) 게시글이 없으면(외래 키) 0
+    @Modifying
+    @Transactional
+    @Query(value = "insert ignore into post_like (member_id, post_id) values (:memberId, :postId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Query("select count(l) from PostLike l where l.post.id = :postId")
+    long countByPostId(@Param("postId") Long postId);
+
+    @Query("select count(l) > 0 from PostLike l where l.member.id = :memberId and l.post.id = :postId")
+    boolean existsByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Query("select l.post.id from PostLike l where l.member.id = :memberId and l.post.id in :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
+    @Query("select l.post.id from PostLike l where l.member.id = :memberId order by l.id desc")
+    List<Long> findRecentPostIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select l.id from PostLike l where l.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
@@ -1,28 +1,91 @@
 package balancetalk.module.post.domain;
 
+import balancetalk.module.ViewStatus;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAllByMemberId(Long id, Pageable pageable);
+    // 파생 쿼리는 member 테이블을 조인해 조건을 걸기 때문에 외래 키 컬럼으로 직접 조회 (idx_post_member_id_created_at)
+    @Query(value = "select p.id as postId, p.title as postTitle, p.createdAt as createdAt "
+            + "from Post p where p.member.id = :memberId",
+            countQuery = "select count(p) from Post p where p.member.id = :memberId")
+    Page<PostHistory> findHistoryByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 목록 조회는 블라인드된 게시글을 제외 (idx_post_view_status_created_at)
+    Page<Post> findAllByViewStatus(ViewStatus viewStatus, Pageable pageable);
 
     @Query("select p "
             + "from Post p left join p.likes l "
             + "where p.deadline > current_timestamp "
+            + "and p.viewStatus = :viewStatus "
             + "and function('month', p.createdAt) = function('month', current_timestamp) "
             + "group by p.id "
             + "order by count(l) desc, p.views desc")
-    List<Post> findBestPosts(Pageable pageable);
+    List<Post> findBestPosts(@Param("viewStatus") ViewStatus viewStatus, Pageable pageable);
 
-    List<Post> findByTitleContaining(String keyword);
+    List<Post> findByTitleContainingAndViewStatus(String keyword, ViewStatus viewStatus);
 
     @Query("SELECT p " +
             "FROM Post p " +
             "JOIN p.postTags pt " +
             "JOIN pt.tag t " +
-            "WHERE t.name = :tagName")
-    List<Post> findByPostTagsContaining(String tagName);
+            "WHERE t.name = :tagName " +
+            "AND p.viewStatus = :viewStatus")
+    List<Post> findByPostTagsContaining(@Param("tagName") String tagName, @Param("viewStatus") ViewStatus viewStatus);
+
+    @Modifying
+    @Query("update Post p set p.viewStatus = :viewStatus where p.id = :postId and p.viewStatus <> :viewStatus")
+    int updateViewStatus(@Param("postId") Long postId, @Param("viewStatus") ViewStatus viewStatus);
+
+    @Query("select p.member.id from Post p where p.id = :postId")
+    Optional<Long> findMemberIdById(@Param("postId") Long postId);
+
+    @Query("select p.id from Post p where p.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("update Post p set p.member = null where p.id in :ids")
+    int detachMember(@Param("ids") List<Long> ids);
+
+    // 피드 후보: 마감 전 노출 게시글을 최신순으로 (idx_post_view_status_deadline)
+    @Query("select p.id as id, p.category as category, p.member.id as memberId, p.createdAt as createdAt "
+            + "from Post p where p.viewStatus = :viewStatus and p.deadline > :now order by p.id desc")
+    List<PostSummary> findOpenPostSummaries(@Param("viewStatus") ViewStatus viewStatus,
+                                            @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("select p.id as id, p.category as category, p.member.id as memberId, p.createdAt as createdAt "
+            + "from Post p where p.id in :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // (게시글 id, 태그 id) 목록
+    @Query("select pt.post.id, pt.tag.id from PostTag pt where pt.post.id in :postIds")
+    List<Object[]> findTagIdsByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 인기 순위 재구성: 최근 노출 게시글의 (id, 작성 시각, 조회수, 추천 수, 투표 수, 댓글 수) (idx_post_view_status_created_at)
+    @Query("select p.id, p.createdAt, p.views, p.likesCount, "
+            + "(select coalesce(sum(o.votesCount), 0) from BalanceOption o where o.post = p), "
+            + "(select count(c) from Comment c where c.post = p) "
+            + "from Post p where p.viewStatus = :viewStatus and p.createdAt >= :since")
+    List<Object[]> findActivityCountsCreatedAfter(@Param("viewStatus") ViewStatus viewStatus,
+                                                   @Param("since") LocalDateTime since);
+
+    // 블라인드 해제된 게시글을 인기 순위에 다시 등록: 위와 같은 (id, 작성 시각, 조회수, 추천 수, 투표 수, 댓글 수)
+    @Query("select p.id, p.createdAt, p.views, p.likesCount, "
+            + "(select coalesce(sum(o.votesCount), 0) from BalanceOption o where o.post = p), "
+            + "(select count(c) from Comment c where c.post = p) "
+            + "from Post p where p.id = :postId and p.viewStatus = :viewStatus and p.createdAt >= :since")
+    List<Object[]> findActivityCountsById(@Param("postId") Long postId, @Param("viewStatus") ViewStatus viewStatus,
+                                          @Param("since") LocalDateTime since);
+
+    // 마감 처리 대기열 재구성: 최종 결과가 없는 게시글의 (id, 마감 기한)
+    @Query("select p.id, p.deadline from Post p "
+            + "where not exists (select r.postId from PostResult r where r.postId = p.id)")
+    List<Object[]> findDeadlinesWithoutResult();
 }
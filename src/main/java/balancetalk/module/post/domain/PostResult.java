@@ -0,0 +1,61 @@
+package balancetalk.module.post.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    마감된 게시글의 최종 투표 결과. 마감 후에는 투표와 투표 수정이 막히므로 한 번 저장하면 바뀌지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostResult {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private int totalVotesCount;
+
+    private Long winnerOptionId; // 최다 득표 선택지, 투표가 없거나 동률이면 null
+
+    @Convert(converter = OptionResultsConverter.class)
+    @Column(nullable = false, length = 4000)
+    private List<OptionResult> options;
+
+    @Column(nullable = false)
+    private LocalDateTime closedAt;
+
+    public static PostResult of(Long postId, List<OptionResult> options, LocalDateTime closedAt) {
+        return PostResult.builder()
+                .postId(postId)
+                .totalVotesCount(options.stream().mapToInt(OptionResult::getVotesCount).sum())
+                .winnerOptionId(findWinnerOptionId(options))
+                .options(options)
+                .closedAt(closedAt)
+                .build();
+    }
+
+    private static Long findWinnerOptionId(List<OptionResult> options) {
+        int maxVotesCount = options.stream().mapToInt(OptionResult::getVotesCount).max().orElse(0);
+        List<OptionResult> winners = options.stream()
+                .filter(option -> option.getVotesCount() == maxVotesCount)
+                .toList();
+        if (maxVotesCount == 0 || winners.size() != 1) {
+            return null;
+        }
+        return winners.get(0).getOptionId();
+    }
+}
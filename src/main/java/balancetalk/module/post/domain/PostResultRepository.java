@@ -0,0 +1,6 @@
+package balancetalk.module.post.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostResultRepository extends JpaRepository<PostResult, Long> {
+}
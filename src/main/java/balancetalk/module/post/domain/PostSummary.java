@@ -0,0 +1,17 @@
+package balancetalk.module.post.domain;
+
+import java.time.LocalDateTime;
+
+/*
+    연관 엔티티를 불러오지 않고 게시글의 분류 정보만 조회하는 프로젝션 (작성자가 탈퇴했으면 memberId 는 null)
+ */
+public interface PostSummary {
+
+    Long getId();
+
+    PostCategory getCategory();
+
+    Long getMemberId();
+
+    LocalDateTime getCreatedAt();
+}
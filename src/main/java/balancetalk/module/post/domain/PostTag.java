@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_tag_tag_id_post_id", columnList = "tag_id, post_id"))
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -7,6 +7,7 @@ import lombok.*;
 import java.util.ArrayList;
 import java.util.List;
 @Entity
+@Table(indexes = @Index(name = "idx_tag_name", columnList = "name"))
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
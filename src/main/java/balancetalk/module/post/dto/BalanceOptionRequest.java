@@ -10,8 +10,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.lang.Nullable;
-import java.util.List;
-import java.util.Optional;
 
 import static balancetalk.module.post.domain.BalanceOption.*;
 
@@ -50,15 +48,11 @@ public class BalanceOptionRequest {
     }
 
     public static BalanceOptionRequest fromEntity(BalanceOption balanceOption) {
-        int votesCount = Optional.ofNullable(balanceOption.getVotes())
-                .map(List::size)
-                .orElse(0);
-
         BalanceOptionRequestBuilder builder = BalanceOptionRequest.builder()
                 .balanceOptionId(balanceOption.getId())
                 .title(balanceOption.getTitle())
                 .description(balanceOption.getDescription())
-                .votesCount(votesCount);
+                .votesCount(balanceOption.voteCount());
 
         if (balanceOption.getFile() != null) {
             builder.storedImageName(balanceOption.getFile().getStoredName());
@@ -0,0 +1,37 @@
+package balancetalk.module.post.dto;
+
+import balancetalk.module.post.domain.OptionResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionResultResponse {
+
+    @Schema(description = "선택지 id", example = "1")
+    private Long optionId;
+
+    @Schema(description = "선택지 제목", example = "선택지 제목1")
+    private String title;
+
+    @Schema(description = "최종 득표 수", example = "3412")
+    private int votesCount;
+
+    @Schema(description = "베스트 댓글 id 목록", example = "[12, 7]")
+    private List<Long> bestCommentIds;
+
+    public static OptionResultResponse fromEntity(OptionResult option) {
+        return OptionResultResponse.builder()
+                .optionId(option.getOptionId())
+                .title(option.getTitle())
+                .votesCount(option.getVotesCount())
+                .bestCommentIds(option.getBestCommentIds())
+                .build();
+    }
+}
@@ -97,11 +97,19 @@ public class PostResponse {
                 .totalVotesCount(getTotalVotes(post))
                 .commentsCount(post.commentsCount())
                 .createdAt(post.getCreatedAt())
-                .createdBy(post.getMember().getNickname())
+                .createdBy(getNickname(post.getMember()))
                 .profileImageUrl(getProfileImageUrl(post.getMember()))
                 .build();
     }
 
+    /*
+        마감된 게시글의 집계값을 최종 결과로 바꾼다.
+     */
+    public PostResponse applyResult(PostResultResponse result) {
+        this.totalVotesCount = result.getTotalVotesCount();
+        return this;
+    }
+
     private static List<PostTagDto> getPostTags(Post post) {
         return post.getPostTags().stream()
                 .map(PostTagDto::fromEntity)
@@ -114,8 +122,15 @@ public class PostResponse {
                 .collect(Collectors.toList());
     }
 
+    private static String getNickname(Member member) {
+        return Optional.ofNullable(member)
+                .map(Member::getNickname)
+                .orElse(null);
+    }
+
     private static String getProfileImageUrl(Member member) {
-        return Optional.ofNullable(member.getProfilePhoto())
+        return Optional.ofNullable(member)
+                .map(Member::getProfilePhoto)
                 .map(File::getUrl)
                 .orElse(null);
     }
@@ -139,7 +154,7 @@ public class PostResponse {
         private static int getTotalVotes (Post post){
             return Optional.ofNullable(post.getOptions())
                     .map(options -> options.stream()
-                            .mapToInt(option -> Optional.ofNullable(option.getVotes()).map(List::size).orElse(0))
+                            .mapToInt(BalanceOption::voteCount)
                             .sum())
                     .orElse(0);
     }
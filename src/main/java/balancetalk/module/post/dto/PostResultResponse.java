@@ -0,0 +1,45 @@
+package balancetalk.module.post.dto;
+
+import balancetalk.module.post.domain.PostResult;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostResultResponse {
+
+    @Schema(description = "게시글 id", example = "1")
+    private Long postId;
+
+    @Schema(description = "전체 투표 수", example = "15")
+    private int totalVotesCount;
+
+    @Schema(description = "최다 득표 선택지 id (투표가 없거나 동률이면 null)", example = "1")
+    private Long winnerOptionId;
+
+    private List<OptionResultResponse> options;
+
+    @JsonFormat(pattern = "yyyy/MM/dd HH:mm:ss")
+    @Schema(description = "결과 집계 시각", example = "2024/12/25 15:30:05")
+    private LocalDateTime closedAt;
+
+    public static PostResultResponse fromEntity(PostResult result) {
+        return PostResultResponse.builder()
+                .postId(result.getPostId())
+                .totalVotesCount(result.getTotalVotesCount())
+                .winnerOptionId(result.getWinnerOptionId())
+                .options(result.getOptions().stream()
+                        .map(OptionResultResponse::fromEntity)
+                        .toList())
+                .closedAt(result.getClosedAt())
+                .build();
+    }
+}
@@ -1,8 +1,12 @@
 package balancetalk.module.post.presentation;
 
+import balancetalk.module.like.application.LikeService;
+import balancetalk.module.like.dto.LikeResponse;
+import balancetalk.module.post.application.HotPostService;
 import balancetalk.module.post.application.PostService;
 import balancetalk.module.post.dto.PostRequest;
 import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.post.dto.PostResultResponse;
 import balancetalk.module.report.dto.ReportRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final LikeService likeService;
+    private final HotPostService hotPostService;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
@@ -47,6 +53,14 @@ public class PostController {
         return postService.findById(postId, token);
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{postId}/result")
+    @Operation(summary = "최종 투표 결과 조회",
+            description = "마감된 게시글의 선택지별 득표 수, 최다 득표 선택지, 베스트 댓글을 조회한다.")
+    public PostResultResponse findPostResult(@PathVariable("postId") Long postId) {
+        return postService.findResult(postId);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/best")
     @Operation(summary = "인기 게시글 조회", description = "월별 추천 수가 가장 많은 게시글 5개를 조회한다.")
@@ -54,6 +68,15 @@ public class PostController {
         return postService.findBestPosts(token);
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/hot")
+    @Operation(summary = "실시간 인기 게시글 조회",
+            description = "최근 게시글을 추천/투표/댓글/조회 수와 작성 후 경과 시간으로 매긴 점수순으로 조회한다.")
+    public Page<PostResponse> findHotPosts(@RequestHeader(value = "Authorization", required = false) String token,
+                                           Pageable pageable) {
+        return hotPostService.findHotPosts(token, pageable);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/title")
     @Operation(summary = "게시글 제목 검색 기능", description = "키워드에 맞는 모든 게시글을 조회한다.")
@@ -80,18 +103,16 @@ public class PostController {
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/{postId}/likes")
-    @Operation(summary = "게시글 추천", description = "post-id에 해당하는 게시글에 추천을 누른다.")
-    public String likePost(@PathVariable Long postId) {
-        postService.likePost(postId);
-        return "요청이 정상적으로 처리되었습니다.";
+    @Operation(summary = "게시글 추천", description = "post-id에 해당하는 게시글에 추천을 누른다. 이미 추천한 경우에도 성공으로 처리한다.")
+    public LikeResponse likePost(@PathVariable Long postId) {
+        return likeService.likePost(postId);
     }
 
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.OK)
     @DeleteMapping("/{postId}/likes")
     @Operation(summary = "게시글 추천 취소", description = "post-id에 해당하는 게시글에 누른 추천을 취소한다.")
-    public String cancelLikePost(@PathVariable Long postId) {
-        postService.cancelLikePost(postId);
-        return "요청이 정상적으로 처리되었습니다.";
+    public LikeResponse cancelLikePost(@PathVariable Long postId) {
+        return likeService.cancelLikePost(postId);
     }
 
     @ResponseStatus(HttpStatus.OK)
@@ -0,0 +1,75 @@
+package balancetalk.module.report.application;
+
+import static balancetalk.module.report.domain.ReportStatus.ACCEPTED;
+import static balancetalk.module.report.domain.ReportStatus.REJECTED;
+
+import balancetalk.global.config.ReportConfig;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.post.application.HotPostService;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.report.domain.ReportCategoryCount;
+import balancetalk.module.report.domain.ReportCreatedEvent;
+import balancetalk.module.report.domain.ReportRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    신고 상태로 게시글/댓글의 블라인드 여부를 결정한다.
+    승인된 신고가 있거나, 한 카테고리의 반려되지 않은 신고자 수가 기준 이상이면 BLIND, 아니면 NORMAL
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportEvaluator {
+
+    private final ReportRepository reportRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReportConfig reportConfig;
+    private final HotPostService hotPostService;
+
+    // 신고가 커밋된 뒤 별도 스레드에서 평가해 신고 요청의 응답 시간에 영향을 주지 않음
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReportCreated(ReportCreatedEvent event) {
+        if (event.getPostId() != null) {
+            evaluatePost(event.getPostId());
+        } else {
+            evaluateComment(event.getCommentId());
+        }
+    }
+
+    @Transactional
+    public void evaluatePost(Long postId) {
+        boolean blind = reportRepository.existsByPostIdAndStatus(postId, ACCEPTED)
+                || exceedsThreshold(reportRepository.countPostReportsByCategory(postId, REJECTED));
+        ViewStatus viewStatus = blind ? ViewStatus.BLIND : ViewStatus.NORMAL;
+        if (postRepository.updateViewStatus(postId, viewStatus) > 0) {
+            log.info("post view status changed. postId={}, viewStatus={}", postId, viewStatus);
+            hotPostService.updateViewStatus(postId, viewStatus);
+        }
+    }
+
+    @Transactional
+    public void evaluateComment(Long commentId) {
+        boolean blind = reportRepository.existsByCommentIdAndStatus(commentId, ACCEPTED)
+                || exceedsThreshold(reportRepository.countCommentReportsByCategory(commentId, REJECTED));
+        ViewStatus viewStatus = blind ? ViewStatus.BLIND : ViewStatus.NORMAL;
+        if (commentRepository.updateViewStatus(commentId, viewStatus) > 0) {
+            log.info("comment view status changed. commentId={}, viewStatus={}", commentId, viewStatus);
+        }
+    }
+
+    private boolean exceedsThreshold(List<ReportCategoryCount> counts) {
+        return counts.stream()
+                .anyMatch(count -> count.getReporterCount() >= reportConfig.blindThresholdOf(count.getCategory()));
+    }
+}
@@ -0,0 +1,64 @@
+package balancetalk.module.report.application;
+
+import static balancetalk.global.exception.ErrorCode.FORBIDDEN_MANAGE_REPORT;
+import static balancetalk.global.exception.ErrorCode.INVALID_REPORT_STATUS;
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_REPORT;
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+import static balancetalk.module.member.domain.Role.ADMIN;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.report.domain.ReportStatus;
+import balancetalk.module.report.dto.ReportProcessRequest;
+import balancetalk.module.report.dto.ReportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private final ReportRepository reportRepository;
+    private final MemberRepository memberRepository;
+    private final ReportEvaluator reportEvaluator;
+
+    @Transactional(readOnly = true)
+    public Page<ReportResponse> findReports(ReportStatus status, Pageable pageable) {
+        validateAdmin();
+        return reportRepository.findAllByStatus(status, pageable)
+                .map(ReportResponse::fromEntity);
+    }
+
+    /*
+        신고를 승인/반려하고 대상의 블라인드 여부를 다시 평가
+        (승인하면 바로 블라인드, 반려로 기준 미만이 되면 블라인드 해제)
+     */
+    @Transactional
+    public ReportResponse processReport(Long reportId, ReportProcessRequest request) {
+        validateAdmin();
+        if (request.getStatus() == ReportStatus.PENDING) {
+            throw new BalanceTalkException(INVALID_REPORT_STATUS);
+        }
+        Report report = reportRepository.findById(reportId)
+                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_REPORT));
+        report.updateStatus(request.getStatus());
+
+        if (report.isPostReport()) {
+            reportEvaluator.evaluatePost(report.getPost().getId());
+        } else {
+            reportEvaluator.evaluateComment(report.getComment().getId());
+        }
+        return ReportResponse.fromEntity(report);
+    }
+
+    private void validateAdmin() {
+        if (getCurrentMember(memberRepository).getRole() != ADMIN) {
+            throw new BalanceTalkException(FORBIDDEN_MANAGE_REPORT);
+        }
+    }
+}
@@ -11,13 +11,18 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_report_status_created_at", columnList = "status, created_at"))
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -49,4 +54,24 @@ public class Report extends BaseTimeEntity {
     @Enumerated(value = EnumType.STRING)
     @Column(nullable = false)
     private ReportCategory category;
+
+    @Enumerated(value = EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    @Column(nullable = false)
+    private ReportStatus status;
+
+    @PrePersist
+    public void init() {
+        if (status == null) {
+            status = ReportStatus.PENDING;
+        }
+    }
+
+    public void updateStatus(ReportStatus status) {
+        this.status = status;
+    }
+
+    public boolean isPostReport() {
+        return post != null;
+    }
 }
@@ -0,0 +1,8 @@
+package balancetalk.module.report.domain;
+
+public interface ReportCategoryCount {
+
+    ReportCategory getCategory();
+
+    long getReporterCount();
+}
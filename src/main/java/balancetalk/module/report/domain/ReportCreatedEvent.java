@@ -0,0 +1,15 @@
+package balancetalk.module.report.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    게시글 또는 댓글이 신고되었음을 알리는 이벤트 (둘 중 하나만 값이 있음)
+ */
+@Getter
+@AllArgsConstructor
+public class ReportCreatedEvent {
+
+    private final Long postId;
+    private final Long commentId;
+}
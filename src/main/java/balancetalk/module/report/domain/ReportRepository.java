@@ -1,6 +1,37 @@
 package balancetalk.module.report.domain;
 
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
-}
\ No newline at end of file
+
+    // 관리자 신고 처리 대기열 (idx_report_status_created_at)
+    Page<Report> findAllByStatus(ReportStatus status, Pageable pageable);
+
+    // 반려되지 않은 신고의 카테고리별 신고자 수 (같은 회원의 중복 신고는 한 번만 셈)
+    @Query("select r.category as category, count(distinct r.reporter.id) as reporterCount "
+            + "from Report r where r.post.id = :postId and r.status <> :excluded group by r.category")
+    List<ReportCategoryCount> countPostReportsByCategory(@Param("postId") Long postId,
+                                                        @Param("excluded") ReportStatus excluded);
+
+    @Query("select r.category as category, count(distinct r.reporter.id) as reporterCount "
+            + "from Report r where r.comment.id = :commentId and r.status <> :excluded group by r.category")
+    List<ReportCategoryCount> countCommentReportsByCategory(@Param("commentId") Long commentId,
+                                                           @Param("excluded") ReportStatus excluded);
+
+    boolean existsByPostIdAndStatus(Long postId, ReportStatus status);
+
+    boolean existsByCommentIdAndStatus(Long commentId, ReportStatus status);
+
+    @Query("select r.id from Report r where r.reporter.id = :memberId")
+    List<Long> findIdsByReporterId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("update Report r set r.reporter = null where r.id in :ids")
+    int detachReporter(@Param("ids") List<Long> ids);
+}
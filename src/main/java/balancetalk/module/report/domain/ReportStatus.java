@@ -0,0 +1,12 @@
+package balancetalk.module.report.domain;
+
+public enum ReportStatus {
+
+    PENDING("처리 대기"), ACCEPTED("신고 승인"), REJECTED("신고 반려");
+
+    private final String description;
+
+    ReportStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,20 @@
+package balancetalk.module.report.dto;
+
+import balancetalk.module.report.domain.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportProcessRequest {
+
+    @NotNull
+    @Schema(description = "처리 결과 (ACCEPTED: 승인 후 블라인드, REJECTED: 반려)", example = "ACCEPTED")
+    private ReportStatus status;
+}
@@ -0,0 +1,58 @@
+package balancetalk.module.report.dto;
+
+import balancetalk.module.comment.domain.Comment;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportCategory;
+import balancetalk.module.report.domain.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ReportResponse {
+
+    @Schema(description = "신고 id", example = "1")
+    private Long id;
+
+    @Schema(description = "신고 이유", example = "ABUSE")
+    private ReportCategory category;
+
+    @Schema(description = "신고 설명", example = "게시글 / 댓글 신고한 이유")
+    private String description;
+
+    @Schema(description = "처리 상태", example = "PENDING")
+    private ReportStatus status;
+
+    @Schema(description = "신고한 회원 id (탈퇴한 회원이면 null)", example = "1")
+    private Long reporterId;
+
+    @Schema(description = "신고된 게시글 id (댓글 신고면 null)", example = "1")
+    private Long postId;
+
+    @Schema(description = "신고된 댓글 id (게시글 신고면 null)", example = "1")
+    private Long commentId;
+
+    @Schema(description = "신고일", example = "2024-03-12T12:00:00")
+    private LocalDateTime createdAt;
+
+    // 연관 엔티티는 id만 사용하므로 지연 로딩 프록시를 초기화하지 않음
+    public static ReportResponse fromEntity(Report report) {
+        return ReportResponse.builder()
+                .id(report.getId())
+                .category(report.getCategory())
+                .description(report.getContent())
+                .status(report.getStatus())
+                .reporterId(Optional.ofNullable(report.getReporter()).map(Member::getId).orElse(null))
+                .postId(Optional.ofNullable(report.getPost()).map(Post::getId).orElse(null))
+                .commentId(Optional.ofNullable(report.getComment()).map(Comment::getId).orElse(null))
+                .createdAt(report.getCreatedAt())
+                .build();
+    }
+}
@@ -1,12 +1,61 @@
 package balancetalk.module.report.presentation;
 
+import static balancetalk.global.exception.ErrorCode.PAGE_NUMBER_ZERO;
+import static balancetalk.global.exception.ErrorCode.PAGE_SIZE_ZERO;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.module.report.application.ReportService;
+import balancetalk.module.report.domain.ReportStatus;
+import balancetalk.module.report.dto.ReportProcessRequest;
+import balancetalk.module.report.dto.ReportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/admin")
+@Tag(name = "report", description = "신고 관리 API")
 public class ReportController {
 
+    private final ReportService reportService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/reports")
+    @Operation(summary = "신고 목록 조회", description = "관리자가 처리 상태별 신고를 오래된 순으로 조회한다.")
+    public Page<ReportResponse> findReports(@RequestParam(value = "status", defaultValue = "PENDING") ReportStatus status,
+                                            @RequestParam(value = "page", defaultValue = "0") int page,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0) {
+            throw new BalanceTalkException(PAGE_NUMBER_ZERO);
+        }
+        if (size <= 0) {
+            throw new BalanceTalkException(PAGE_SIZE_ZERO);
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").ascending());
+        return reportService.findReports(status, pageable);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PutMapping("/reports/{reportId}")
+    @Operation(summary = "신고 처리", description = "관리자가 신고를 승인(블라인드)하거나 반려한다.")
+    public ReportResponse processReport(@PathVariable Long reportId,
+                                        @Valid @RequestBody ReportProcessRequest request) {
+        return reportService.processReport(reportId, request);
+    }
 }
@@ -4,21 +4,34 @@ import static balancetalk.global.exception.ErrorCode.*;
 import static balancetalk.global.utils.SecurityUtils.*;
 
 import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.application.PostResultService;
 import balancetalk.module.post.domain.BalanceOption;
 import balancetalk.module.post.domain.BalanceOptionRepository;
 import balancetalk.module.post.domain.Post;
 import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.dto.PostResultResponse;
 import balancetalk.module.vote.domain.Vote;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteChangedEvent;
 import balancetalk.module.vote.domain.VoteRepository;
 import balancetalk.module.vote.dto.VoteRequest;
 import balancetalk.module.vote.dto.VotingStatusResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -29,20 +42,24 @@ public class VoteService {
     private final MemberRepository memberRepository;
     private final BalanceOptionRepository balanceOptionRepository;
     private final PostRepository postRepository;
+    private final RedisService redisService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final PostResultService postResultService;
+    private final MemberDeletionService memberDeletionService;
 
-    public Vote createVote(Long postId, VoteRequest voteRequest, String token) {
+    private static final String GUEST_VOTE_KEY_PREFIX = "vote:guest:";
+    private static final Duration GUEST_VOTE_KEY_MARGIN = Duration.ofMinutes(1);
+
+    public Vote createVote(Long postId, VoteRequest voteRequest, String token, String guestFingerprint) {
         Post post = getPost(postId);
         if (post.hasDeadlineExpired()) {
             throw new BalanceTalkException(EXPIRED_POST_DEADLINE);
         }
 
-        BalanceOption balanceOption = getBalanceOption(voteRequest);
-        if (post.notContainsBalanceOption(balanceOption)) {
-            throw new BalanceTalkException(MISMATCHED_BALANCE_OPTION);
-        }
+        BalanceOption balanceOption = getBalanceOption(post, voteRequest);
 
         if (token == null) {
-            return voteForGuest(voteRequest, balanceOption);
+            return voteForGuest(voteRequest, post, balanceOption, guestFingerprint);
         }
         return voteForMember(voteRequest, post, balanceOption);
     }
@@ -52,38 +69,94 @@ public class VoteService {
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_POST));
     }
 
-    private BalanceOption getBalanceOption(VoteRequest voteRequest) {
-        return balanceOptionRepository.findById(voteRequest.getSelectedOptionId())
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_BALANCE_OPTION));
+    /*
+        선택지 엔티티를 조회하지 않고 존재 여부 쿼리로만 게시글 소속을 검증한 뒤 프록시를 반환
+     */
+    private BalanceOption getBalanceOption(Post post, VoteRequest voteRequest) {
+        Long optionId = voteRequest.getSelectedOptionId();
+        if (!balanceOptionRepository.existsByIdAndPostId(optionId, post.getId())) {
+            if (!balanceOptionRepository.existsById(optionId)) {
+                throw new BalanceTalkException(NOT_FOUND_BALANCE_OPTION);
+            }
+            throw new BalanceTalkException(MISMATCHED_BALANCE_OPTION);
+        }
+        return balanceOptionRepository.getReferenceById(optionId);
     }
 
     private Vote voteForMember(VoteRequest voteRequest, Post post, BalanceOption balanceOption) {
         Member member = getCurrentMember(memberRepository);
+        memberDeletionService.validateNotDeleting(member.getId());
 
-        if (member.hasVoted(post)) {
+        if (voteRepository.existsByMemberIdAndPostId(member.getId(), post.getId())) {
             throw new BalanceTalkException(ALREADY_VOTE);
         }
 
-        return voteRepository.save(voteRequest.toEntityWithMember(balanceOption, member));
+        Vote vote;
+        try {
+            vote = voteRepository.saveAndFlush(voteRequest.toEntityWithMember(post, balanceOption, member));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 투표는 (member_id, post_id) 유니크 인덱스에서 걸러진다.
+            throw new BalanceTalkException(ALREADY_VOTE);
+        }
+        balanceOptionRepository.addVotesCount(balanceOption.getId(), 1);
+        domainEventPublisher.publish(
+                new VoteCastEvent(post.getId(), member.getId(), balanceOption.getId(), vote.getCreatedAt()));
+        return vote;
     }
 
-    private Vote voteForGuest(VoteRequest voteRequest, BalanceOption balanceOption) {
-        return voteRepository.save(voteRequest.toEntity(balanceOption));
+    /*
+        비회원은 게시글마다 한 번만 투표하도록 기기 지문으로 마감 기한까지 유지되는 키를 두어 중복을 막는다.
+        요청 횟수 제한은 RateLimitFilter 의 vote 정책(접속 IP 단위)이 회원과 함께 맡는다.
+        키는 동시 요청을 막기 위해 저장 전에 잡고, 투표가 저장되지 않으면(삽입 실패, 롤백) 지워서 다시 투표할 수 있게 한다.
+     */
+    private Vote voteForGuest(VoteRequest voteRequest, Post post, BalanceOption balanceOption,
+                              String guestFingerprint) {
+        Duration untilDeadline = Duration.between(LocalDateTime.now(), post.getDeadline());
+        String guestVoteKey = GUEST_VOTE_KEY_PREFIX + post.getId() + ":" + guestFingerprint;
+        if (!redisService.setValuesIfAbsent(guestVoteKey, String.valueOf(balanceOption.getId()),
+                untilDeadline.plus(GUEST_VOTE_KEY_MARGIN))) {
+            throw new BalanceTalkException(ALREADY_VOTE);
+        }
+        releaseOnRollback(guestVoteKey);
+
+        Vote vote = voteRepository.save(voteRequest.toEntity(post, balanceOption));
+        balanceOptionRepository.addVotesCount(balanceOption.getId(), 1);
+        domainEventPublisher.publish(new VoteCastEvent(post.getId(), null, balanceOption.getId(), vote.getCreatedAt()));
+        return vote;
+    }
+
+    private void releaseOnRollback(String guestVoteKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisService.deleteValues(guestVoteKey);
+                }
+            }
+        });
     }
 
     @Transactional(readOnly = true)
     public List<VotingStatusResponse> votingStatus(Long postId) {
         Post post = getPost(postId);
+        // 마감된 게시글은 바뀌지 않는 최종 결과로 응답 (아직 집계 전이면 현재 집계값)
+        if (post.hasDeadlineExpired()) {
+            Optional<PostResultResponse> result = postResultService.findResult(postId);
+            if (result.isPresent()) {
+                return result.get().getOptions().stream()
+                        .map(VotingStatusResponse::fromResult)
+                        .toList();
+            }
+        }
 
         List<BalanceOption> options = post.getOptions();
         List<VotingStatusResponse> responses = new ArrayList<>();
 
         for (BalanceOption option : options) {
-            VotingStatusResponse votingStatusResponse = VotingStatusResponse.builder()
-                    .optionTitle(option.getTitle())
-                    .voteCount(option.voteCount())
-                    .build();
-            responses.add(votingStatusResponse);
+            responses.add(VotingStatusResponse.fromEntity(option));
         }
 
         return responses;
@@ -91,20 +164,36 @@ public class VoteService {
 
     public Vote updateVote(Long postId, VoteRequest voteRequest) {
         Post post = getPost(postId);
+        if (post.hasDeadlineExpired()) {
+            throw new BalanceTalkException(EXPIRED_POST_DEADLINE);
+        }
         if (post.isCasual()) {
             throw new BalanceTalkException(UNMODIFIABLE_VOTE);
         }
-        BalanceOption newSelectedOption = getBalanceOption(voteRequest);
+        BalanceOption newSelectedOption = getBalanceOption(post, voteRequest);
         Member member = getCurrentMember(memberRepository);
-        Vote participatedVote = getParticipatedVote(post, member);
+        memberDeletionService.validateNotDeleting(member.getId());
+        Vote participatedVote = voteRepository.findByMemberIdAndPostId(member.getId(), post.getId())
+                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_VOTE));
 
-        return participatedVote.changeBalanceOption(newSelectedOption);
-    }
+        Long oldSelectedOptionId = participatedVote.getBalanceOption().getId();
+        if (oldSelectedOptionId.equals(newSelectedOption.getId())) {
+            return participatedVote;
+        }
 
-    private Vote getParticipatedVote(Post post, Member member) {
-        return member.getVotes().stream()
-                .filter(vote -> vote.getBalanceOption().getPost().equals(post))
-                .findFirst()
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_VOTE));
+        // 투표 행을 조건부 UPDATE 로 바꾼 요청만 집계를 옮긴다.
+        // 동시에 들어온 변경이 먼저 반영됐다면 0건이 갱신되므로 집계를 건드리지 않고 충돌로 응답
+        if (voteRepository.changeBalanceOption(member.getId(), post.getId(), oldSelectedOptionId,
+                newSelectedOption) != 1) {
+            throw new BalanceTalkException(CONFLICT_VOTE_CHANGE);
+        }
+
+        // 이전 선택지 -1, 새 선택지 +1 을 각각 단일 UPDATE 문으로 반영
+        balanceOptionRepository.addVotesCount(oldSelectedOptionId, -1);
+        balanceOptionRepository.addVotesCount(newSelectedOption.getId(), 1);
+        domainEventPublisher.publish(
+                new VoteChangedEvent(postId, member.getId(), oldSelectedOptionId, newSelectedOption.getId(),
+                        participatedVote.getCreatedAt(), LocalDateTime.now()));
+        return participatedVote.changeBalanceOption(newSelectedOption);
     }
 }
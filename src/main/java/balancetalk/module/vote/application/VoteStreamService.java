@@ -0,0 +1,210 @@
+package balancetalk.module.vote.application;
+
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_POST;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.post.domain.BalanceOptionRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteChangedEvent;
+import balancetalk.module.vote.dto.VotingStatusResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+    게시글별 투표 현황을 SSE로 전달한다.
+    투표 이벤트는 아웃박스 릴레이를 거쳐 한 서버에서만 수신되므로 Redis pub/sub으로 모든 서버에 전파하고,
+    각 서버는 변경된 게시글을 모아 주기마다 한 번만 집계해 해당 게시글의 구독자 전체에게 보낸다.
+    전송은 스케줄러 스레드가 아닌 전용 스레드 풀에서 구독자별로 실행해서, 느린 클라이언트가 다른 구독자나
+    다른 @Scheduled 작업을 막지 않게 한다. 구독자마다 보낼 현황은 최신 값 하나만 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteStreamService {
+
+    private static final String VOTE_CHANGED_CHANNEL = "vote:changed";
+    private static final String VOTING_STATUS_EVENT = "voting-status";
+
+    private final BalanceOptionRepository balanceOptionRepository;
+    private final PostRepository postRepository;
+    private final RedisService redisService;
+
+    private final Map<Long, List<Subscriber>> emitters = new ConcurrentHashMap<>();
+    private final Set<Long> changedPostIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${votes.stream.timeout-ms:1800000}")
+    private long timeout;
+
+    @Value("${votes.stream.sender-threads:8}")
+    private int senderThreads;
+
+    @Value("${votes.stream.send-queue-capacity:10000}")
+    private int sendQueueCapacity;
+
+    private ExecutorService sender;
+
+    @PostConstruct
+    void subscribeVoteChanges() {
+        redisService.subscribe(VOTE_CHANGED_CHANNEL, this::markChanged);
+    }
+
+    @PostConstruct
+    void startSender() {
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity), new CustomizableThreadFactory("vote-stream-"));
+    }
+
+    @PreDestroy
+    void stopSender() {
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new BalanceTalkException(NOT_FOUND_POST);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        List<Subscriber> postEmitters = emitters.computeIfAbsent(postId, id -> new CopyOnWriteArrayList<>());
+        postEmitters.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 현재 투표 현황을 한 번 보낸다.
+        subscriber.offer(findVotingStatus(postId));
+        return emitter;
+    }
+
+    @EventListener
+    public void onVoteCast(VoteCastEvent event) {
+        publishChanged(event.getPostId());
+    }
+
+    @EventListener
+    public void onVoteChanged(VoteChangedEvent event) {
+        publishChanged(event.getPostId());
+    }
+
+    private void publishChanged(Long postId) {
+        redisService.publish(VOTE_CHANGED_CHANNEL, String.valueOf(postId));
+    }
+
+    void markChanged(String postId) {
+        Long id = Long.valueOf(postId);
+        if (emitters.containsKey(id)) {
+            changedPostIds.add(id);
+        }
+    }
+
+    /*
+        변경된 게시글마다 집계 쿼리를 한 번만 실행해 구독자 전체에 전송 (게시글당 주기마다 최대 1회)
+     */
+    @Scheduled(fixedDelayString = "${votes.stream.flush-interval-ms:250}")
+    public void flush() {
+        Iterator<Long> iterator = changedPostIds.iterator();
+        while (iterator.hasNext()) {
+            Long postId = iterator.next();
+            iterator.remove();
+
+            List<Subscriber> postEmitters = emitters.get(postId);
+            if (postEmitters == null || postEmitters.isEmpty()) {
+                continue;
+            }
+            List<VotingStatusResponse> votingStatus = findVotingStatus(postId);
+            for (Subscriber subscriber : postEmitters) {
+                subscriber.offer(votingStatus);
+            }
+        }
+    }
+
+    private List<VotingStatusResponse> findVotingStatus(Long postId) {
+        return balanceOptionRepository.findAllByPostIdOrderByIdAsc(postId).stream()
+                .map(VotingStatusResponse::fromEntity)
+                .toList();
+    }
+
+    private void remove(Subscriber subscriber) {
+        emitters.computeIfPresent(subscriber.postId, (id, postEmitters) -> {
+            postEmitters.remove(subscriber);
+            return postEmitters.isEmpty() ? null : postEmitters;
+        });
+    }
+
+    /*
+        전송 대기 중인 현황이 없을 때만 전송 작업을 제출하고, 전송 중에 들어온 현황은 최신 값으로 덮어써서
+        구독자마다 동시에 실행되는 전송 작업이 하나뿐이도록 한다. (전송 순서 보장, 밀린 현황은 버림)
+     */
+    private class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final AtomicReference<List<VotingStatusResponse>> pending = new AtomicReference<>();
+
+        Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        void offer(List<VotingStatusResponse> votingStatus) {
+            if (pending.getAndSet(votingStatus) != null) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 전송 큐가 가득 차면 이번 현황은 건너뛰고, 다음 변경 때 다시 보낸다.
+                pending.set(null);
+                log.warn("vote stream send queue is full. postId={}", postId);
+            }
+        }
+
+        private void drain() {
+            List<VotingStatusResponse> votingStatus;
+            do {
+                votingStatus = pending.get();
+                if (!send(votingStatus)) {
+                    pending.set(null);
+                    return;
+                }
+            } while (!pending.compareAndSet(votingStatus, null));
+        }
+
+        private boolean send(List<VotingStatusResponse> votingStatus) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(VOTING_STATUS_EVENT)
+                        .data(votingStatus));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("투표 현황 전송 실패 postId={}", postId, e);
+                remove(this);
+                return false;
+            }
+        }
+    }
+}
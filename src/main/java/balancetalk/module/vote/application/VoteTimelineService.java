@@ -0,0 +1,285 @@
+package balancetalk.module.vote.application;
+
+import static balancetalk.global.exception.ErrorCode.ALREADY_BACKFILL_VOTE_TIMELINE;
+import static balancetalk.global.exception.ErrorCode.FORBIDDEN_BACKFILL_VOTE_TIMELINE;
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_POST;
+import static balancetalk.global.utils.SecurityUtils.getCurrentMember;
+import static balancetalk.module.member.domain.Role.ADMIN;
+import static balancetalk.module.vote.domain.VoteBucketResolution.HOUR;
+import static balancetalk.module.vote.domain.VoteBucketResolution.MINUTE;
+
+import balancetalk.global.config.VoteTimelineConfig;
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteBucket;
+import balancetalk.module.vote.domain.VoteBucketRepository;
+import balancetalk.module.vote.domain.VoteBucketResolution;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteChangedEvent;
+import balancetalk.module.vote.domain.VoteRepository;
+import balancetalk.module.vote.dto.VoteTimelinePoint;
+import balancetalk.module.vote.dto.VoteTimelineResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    게시글별 투표 추이를 분/시/일 구간으로 집계한다.
+    - 투표/투표 변경 이벤트마다 이벤트에 담긴 시각의 세 단위 구간 행에 증감을 더한다. (조회 시 vote 테이블을 훑지 않음)
+    - 실시간 집계 시작 시각(live_since) 이전에 생성된 투표는 이벤트로 세지 않고, 관리자가 재집계(backfill)로 채운다.
+      재집계는 그 투표를 현재 선택지로 세므로, 이런 투표의 선택지 변경도 이벤트로 반영하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteTimelineService {
+
+    private static final String CONSUMER = "vote-timeline";
+    private static final String BACKFILL_LOCK_KEY = "votes:timeline:backfill:lock";
+    private static final int BACKFILL_MAX_ATTEMPTS = 3;
+
+    // 여러 구간을 한 번에 쓸 때 잠금 순서를 맞춰 교착 상태를 피한다. (유니크 인덱스 컬럼 순서)
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator.comparing(BucketKey::getPostId)
+            .thenComparing(BucketKey::getResolution)
+            .thenComparing(BucketKey::getBucketStart)
+            .thenComparing(BucketKey::getOptionId);
+
+    private final VoteBucketRepository voteBucketRepository;
+    private final VoteRepository voteRepository;
+    private final ProcessedEvents processedEvents;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteTimelineConfig config;
+
+    private volatile LocalDateTime liveSince;
+
+    @Transactional(readOnly = true)
+    public VoteTimelineResponse findTimeline(Long postId, VoteBucketResolution resolution,
+                                             LocalDateTime from, LocalDateTime to) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_POST));
+        List<Long> optionIds = post.getOptions().stream()
+                .map(BalanceOption::getId)
+                .toList();
+
+        LocalDateTime start = resolution.truncate(from != null ? from : post.getCreatedAt());
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+
+        Map<LocalDateTime, Integer[]> points = new LinkedHashMap<>();
+        for (VoteBucket bucket : voteBucketRepository.findSeries(postId, resolution, start, end)) {
+            int index = optionIds.indexOf(bucket.getOptionId());
+            if (index < 0) {
+                continue;
+            }
+            points.computeIfAbsent(bucket.getBucketStart(), at -> zeros(optionIds.size()))[index] =
+                    bucket.getVotesCount();
+        }
+
+        return VoteTimelineResponse.builder()
+                .resolution(resolution)
+                .optionIds(optionIds)
+                .points(points.entrySet().stream()
+                        .map(point -> new VoteTimelinePoint(point.getKey(), List.of(point.getValue())))
+                        .toList())
+                .build();
+    }
+
+    @EventListener
+    @Transactional
+    public void onVoteCast(VoteCastEvent event) {
+        LocalDateTime votedAt = orNow(event.getVotedAt());
+        if (isBackfillTarget(votedAt) || !processedEvents.markProcessed(CONSUMER)) {
+            return;
+        }
+        record(event.getPostId(), event.getOptionId(), 1, votedAt);
+    }
+
+    @EventListener
+    @Transactional
+    public void onVoteChanged(VoteChangedEvent event) {
+        if (isBackfillTarget(event.getVotedAt()) || !processedEvents.markProcessed(CONSUMER)) {
+            return;
+        }
+        LocalDateTime changedAt = orNow(event.getChangedAt());
+        record(event.getPostId(), event.getPreviousOptionId(), -1, changedAt);
+        record(event.getPostId(), event.getOptionId(), 1, changedAt);
+    }
+
+    // 재집계가 세는 투표 (이벤트 시각이 없는 이전 형식의 이벤트는 실시간 집계 이후로 본다.)
+    private boolean isBackfillTarget(LocalDateTime votedAt) {
+        return votedAt != null && votedAt.isBefore(liveSince());
+    }
+
+    private static LocalDateTime orNow(LocalDateTime time) {
+        return time != null ? time : LocalDateTime.now();
+    }
+
+    private void record(Long postId, Long optionId, int delta, LocalDateTime time) {
+        for (VoteBucketResolution resolution : VoteBucketResolution.values()) {
+            voteBucketRepository.addVotesCount(postId, optionId, resolution.name(), resolution.truncate(time), delta);
+        }
+    }
+
+    /*
+        관리자 권한과 실행 여부를 확인한 뒤 재집계를 백그라운드에서 시작한다.
+        실시간 집계 시작 시각 이전에 생성된 투표만 센다. 이미 마친 구간은 건너뛰므로 실패한 뒤 다시 실행해도 된다.
+     */
+    public void startBackfill() {
+        if (getCurrentMember(memberRepository).getRole() != ADMIN) {
+            throw new BalanceTalkException(FORBIDDEN_BACKFILL_VOTE_TIMELINE);
+        }
+        if (!redisService.setValuesIfAbsent(BACKFILL_LOCK_KEY, "1", config.getBackfillLockTtl())) {
+            throw new BalanceTalkException(ALREADY_BACKFILL_VOTE_TIMELINE);
+        }
+
+        LocalDateTime cutoff = liveSince();
+        backfill(cutoff).whenComplete((result, e) -> {
+            if (e == null) {
+                log.info("vote timeline backfill completed. before={}", cutoff);
+            } else {
+                log.error("vote timeline backfill failed. before={}", cutoff, e);
+            }
+            redisService.deleteValues(BACKFILL_LOCK_KEY);
+        });
+    }
+
+    /*
+        투표 id 범위를 나눠 병렬로 집계한다. 구간마다 별도 트랜잭션이므로 실패한 구간만 다시 시도한다.
+        구간 경계는 구간 크기의 배수로 고정해, 다시 실행해도 마친 구간과 같은 경계로 나뉜다.
+     */
+    CompletableFuture<Void> backfill(LocalDateTime before) {
+        Long minId = voteRepository.findMinId();
+        Long maxId = voteRepository.findMaxId();
+        if (minId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Integer previousChunkSize = voteBucketRepository.findBackfillChunkSize();
+        int chunkSize = previousChunkSize != null ? previousChunkSize : config.getBackfillChunkSize();
+        Set<Long> completed = new HashSet<>(voteBucketRepository.findBackfilledChunkStarts());
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.getBackfillParallelism());
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (long fromId = minId / chunkSize * chunkSize; fromId <= maxId; fromId += chunkSize) {
+            if (completed.contains(fromId)) {
+                continue;
+            }
+            long chunkFrom = fromId;
+            chunks.add(CompletableFuture.runAsync(
+                    () -> backfillChunk(chunkFrom, chunkSize, before), executor));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .whenComplete((result, e) -> executor.shutdown());
+    }
+
+    private void backfillChunk(long fromId, int chunkSize, LocalDateTime before) {
+        long toId = fromId + chunkSize;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    writeBuckets(aggregate(fromId, toId, before));
+                    voteBucketRepository.insertBackfilledChunk(fromId, chunkSize);
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= BACKFILL_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("vote timeline backfill chunk failed. fromId={}, toId={}, attempt={}, error={}",
+                        fromId, toId, attempt, e.getMessage());
+            }
+        }
+    }
+
+    // 구간 행마다 한 번만 쓰도록 메모리에서 먼저 합친다. 보관 기간이 지난 분/시 단위 구간은 만들지 않는다.
+    private Map<BucketKey, Integer> aggregate(long fromId, long toId, LocalDateTime before) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minuteSince = now.minus(config.getMinuteRetention());
+        LocalDateTime hourSince = now.minus(config.getHourRetention());
+
+        Map<BucketKey, Integer> deltas = new HashMap<>();
+        for (Object[] row : voteRepository.findVoteTimes(fromId, toId, before)) {
+            Long postId = (Long) row[0];
+            Long optionId = (Long) row[1];
+            LocalDateTime votedAt = (LocalDateTime) row[2];
+            for (VoteBucketResolution resolution : VoteBucketResolution.values()) {
+                if ((resolution == MINUTE && votedAt.isBefore(minuteSince))
+                        || (resolution == HOUR && votedAt.isBefore(hourSince))) {
+                    continue;
+                }
+                deltas.merge(new BucketKey(postId, optionId, resolution, resolution.truncate(votedAt)), 1,
+                        Integer::sum);
+            }
+        }
+        return deltas;
+    }
+
+    private void writeBuckets(Map<BucketKey, Integer> deltas) {
+        List<BucketKey> keys = new ArrayList<>(deltas.keySet());
+        keys.sort(BUCKET_ORDER);
+        for (BucketKey key : keys) {
+            voteBucketRepository.addVotesCount(key.getPostId(), key.getOptionId(), key.getResolution().name(),
+                    key.getBucketStart(), deltas.get(key));
+        }
+    }
+
+    // 바뀌지 않는 값이므로 처음 읽은 값을 계속 쓴다.
+    private LocalDateTime liveSince() {
+        LocalDateTime since = liveSince;
+        if (since == null) {
+            since = voteBucketRepository.findLiveSince();
+            liveSince = since;
+        }
+        return since;
+    }
+
+    @Scheduled(cron = "${votes.timeline.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void deleteExpiredBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        voteBucketRepository.deleteOlderThan(MINUTE, now.minus(config.getMinuteRetention()));
+        voteBucketRepository.deleteOlderThan(HOUR, now.minus(config.getHourRetention()));
+    }
+
+    private static Integer[] zeros(int size) {
+        Integer[] votes = new Integer[size];
+        Arrays.fill(votes, 0);
+        return votes;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class BucketKey {
+        private Long postId;
+        private Long optionId;
+        private VoteBucketResolution resolution;
+        private LocalDateTime bucketStart;
+    }
+}
@@ -2,11 +2,18 @@ package balancetalk.module.vote.domain;
 
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.Post;
 import balancetalk.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_vote_member_post", columnNames = {"member_id", "post_id"}),
+        indexes = {
+                @Index(name = "idx_vote_post_id_member_id", columnList = "post_id, member_id, balance_option_id"),
+                @Index(name = "idx_vote_balance_option_id_member_id", columnList = "balance_option_id, member_id"),
+                @Index(name = "idx_vote_member_id_created_at", columnList = "member_id, created_at")
+        })
 @Builder
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -26,6 +33,10 @@ public class Vote extends BaseTimeEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post; // 회원당 게시글 하나에 한 번만 투표하도록 유니크 인덱스에 사용
+
     public Vote changeBalanceOption(BalanceOption newSelectedOption) {
         this.balanceOption = newSelectedOption;
         return this;
@@ -0,0 +1,51 @@
+package balancetalk.module.vote.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    게시글/선택지별로 한 구간(분, 시, 일) 동안 늘어난 투표 수. 투표 변경으로 빠져나간 표는 음수로 더해진다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_vote_bucket_post_resolution_start_option",
+        columnNames = {"post_id", "resolution", "bucket_start", "balance_option_id"}))
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoteBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "vote_bucket_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "balance_option_id", nullable = false)
+    private Long optionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private VoteBucketResolution resolution;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private int votesCount;
+}
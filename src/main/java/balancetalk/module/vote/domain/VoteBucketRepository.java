@@ -0,0 +1,52 @@
+package balancetalk.module.vote.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VoteBucketRepository extends JpaRepository<VoteBucket, Long> {
+
+    // 구간 행이 없으면 만들고, 있으면 투표 수를 더한다. (uk_vote_bucket_post_resolution_start_option)
+    @Modifying
+    @Query(value = "insert into vote_bucket (post_id, balance_option_id, resolution, bucket_start, votes_count) "
+            + "values (:postId, :optionId, :resolution, :bucketStart, :delta) "
+            + "on duplicate key update votes_count = votes_count + :delta", nativeQuery = true)
+    int addVotesCount(@Param("postId") Long postId,
+                      @Param("optionId") Long optionId,
+                      @Param("resolution") String resolution,
+                      @Param("bucketStart") LocalDateTime bucketStart,
+                      @Param("delta") int delta);
+
+    @Query("select b from VoteBucket b "
+            + "where b.postId = :postId and b.resolution = :resolution "
+            + "and b.bucketStart >= :from and b.bucketStart < :to "
+            + "order by b.bucketStart")
+    List<VoteBucket> findSeries(@Param("postId") Long postId,
+                                @Param("resolution") VoteBucketResolution resolution,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    @Query(value = "select live_since from vote_timeline_live_since where id = 1", nativeQuery = true)
+    LocalDateTime findLiveSince();
+
+    // 재집계를 마친 구간의 시작 id
+    @Query(value = "select chunk_start from vote_timeline_backfill", nativeQuery = true)
+    List<Long> findBackfilledChunkStarts();
+
+    // 이전 재집계의 구간 크기 (구간 경계를 맞추기 위해 다시 실행할 때 같은 크기를 쓴다.)
+    @Query(value = "select max(chunk_size) from vote_timeline_backfill", nativeQuery = true)
+    Integer findBackfillChunkSize();
+
+    @Modifying
+    @Query(value = "insert into vote_timeline_backfill (chunk_start, chunk_size, completed_at) "
+            + "values (:chunkStart, :chunkSize, current_timestamp)", nativeQuery = true)
+    int insertBackfilledChunk(@Param("chunkStart") long chunkStart, @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Query("delete from VoteBucket b where b.resolution = :resolution and b.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") VoteBucketResolution resolution,
+                        @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package balancetalk.module.vote.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    게시글에 투표했음을 알리는 이벤트 (비회원 투표면 memberId 는 null)
+    votedAt 은 투표 행의 생성 시각. 전달이 늦어지거나 재시도되어도 이 시각으로 집계한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class VoteCastEvent implements DomainEvent {
+
+    private Long postId;
+    private Long memberId;
+    private Long optionId;
+    private LocalDateTime votedAt;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.POST;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,36 @@
+package balancetalk.module.vote.domain;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEvent;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    회원이 투표한 선택지를 변경했음을 알리는 이벤트
+    votedAt 은 처음 투표한 시각(투표 행의 생성 시각), changedAt 은 선택지를 바꾼 시각
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class VoteChangedEvent implements DomainEvent {
+
+    private Long postId;
+    private Long memberId;
+    private Long previousOptionId;
+    private Long optionId;
+    private LocalDateTime votedAt;
+    private LocalDateTime changedAt;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.POST;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,17 @@
+package balancetalk.module.vote.domain;
+
+import java.time.LocalDateTime;
+
+/*
+    마이페이지 - 투표한 게시글 한 줄 (엔티티를 읽지 않는 프로젝션)
+ */
+public interface VoteHistory {
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    String getBalanceOptionTitle();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,13 +1,65 @@
 package balancetalk.module.vote.domain;
 
+import balancetalk.module.post.domain.BalanceOption;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
-    Optional<Vote> findByMemberIdAndBalanceOption_PostId(Long memberId, Long postId);
+    // 연관 엔티티 조인 없이 외래 키 컬럼으로 조회 (uk_vote_member_post)
+    // 게시글/선택지 제목까지 한 번에 조회 (idx_vote_member_id_created_at)
+    @Query(value = "select p.id as postId, p.title as postTitle, o.title as balanceOptionTitle, "
+            + "v.createdAt as createdAt "
+            + "from Vote v join v.post p join v.balanceOption o where v.member.id = :memberId",
+            countQuery = "select count(v) from Vote v where v.member.id = :memberId")
+    Page<VoteHistory> findHistoryByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    Page<Vote> findAllByMemberId(Long memberId, Pageable pageable);
+    @Query("select count(v) > 0 from Vote v where v.member.id = :memberId and v.post.id = :postId")
+    boolean existsByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Query("select v from Vote v where v.member.id = :memberId and v.post.id = :postId")
+    Optional<Vote> findByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Query("select v.member.id, v.balanceOption.id from Vote v "
+            + "where v.post.id = :postId and v.member.id in :memberIds")
+    List<Object[]> findSelectedOptionIds(@Param("postId") Long postId, @Param("memberIds") List<Long> memberIds);
+
+    // 조회한 선택지에서 그대로일 때만 변경 (동시 변경 요청은 한 건만 1을 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Vote v set v.balanceOption = :newOption, v.lastModifiedAt = current_timestamp "
+            + "where v.member.id = :memberId and v.post.id = :postId and v.balanceOption.id = :oldOptionId")
+    int changeBalanceOption(@Param("memberId") Long memberId, @Param("postId") Long postId,
+                            @Param("oldOptionId") Long oldOptionId, @Param("newOption") BalanceOption newOption);
+
+    @Query("select v.post.id from Vote v where v.member.id = :memberId order by v.id desc")
+    List<Long> findRecentPostIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select v.post.id from Vote v where v.member.id = :memberId and v.post.id in :postIds")
+    List<Long> findVotedPostIds(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
+
+    @Query("select v.id from Vote v where v.member.id = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("update Vote v set v.member = null where v.id in :ids")
+    int detachMember(@Param("ids") List<Long> ids);
+
+    @Query("select min(v.id) from Vote v")
+    Long findMinId();
+
+    @Query("select max(v.id) from Vote v")
+    Long findMaxId();
+
+    // 투표 추이 재집계: id 구간 [fromId, toId) 에서 before 이전 투표의 (게시글 id, 선택지 id, 투표 시각)
+    @Query("select v.post.id, v.balanceOption.id, v.createdAt from Vote v "
+            + "where v.id >= :fromId and v.id < :toId and v.createdAt < :before")
+    List<Object[]> findVoteTimes(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                 @Param("before") LocalDateTime before);
 }
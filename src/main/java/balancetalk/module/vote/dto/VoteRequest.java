@@ -2,6 +2,7 @@ package balancetalk.module.vote.dto;
 
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.Post;
 import balancetalk.module.vote.domain.Vote;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -18,14 +19,16 @@ public class VoteRequest {
     @Schema(description = "투표한 선택지 id", example = "23")
     private Long selectedOptionId;
 
-    public Vote toEntity(BalanceOption balanceOption) {
+    public Vote toEntity(Post post, BalanceOption balanceOption) {
         return Vote.builder()
+                .post(post)
                 .balanceOption(balanceOption)
                 .build();
     }
 
-    public Vote toEntityWithMember(BalanceOption balanceOption, Member member) {
+    public Vote toEntityWithMember(Post post, BalanceOption balanceOption, Member member) {
         return Vote.builder()
+                .post(post)
                 .balanceOption(balanceOption)
                 .member(member)
                 .build();
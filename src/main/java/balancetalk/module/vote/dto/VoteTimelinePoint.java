@@ -0,0 +1,21 @@
+package balancetalk.module.vote.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class VoteTimelinePoint {
+
+    @JsonFormat(pattern = "yyyy/MM/dd HH:mm:ss")
+    @Schema(description = "구간 시작 시각", example = "2024/03/30 11:00:00")
+    private LocalDateTime at;
+
+    @Schema(description = "구간 동안 늘어난 선택지별 투표 수 (optionIds 순서, 투표 변경으로 빠져나가면 음수)",
+            example = "[12, -1]")
+    private List<Integer> votes;
+}
@@ -0,0 +1,23 @@
+package balancetalk.module.vote.dto;
+
+import balancetalk.module.vote.domain.VoteBucketResolution;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class VoteTimelineResponse {
+
+    @Schema(description = "구간 단위", example = "HOUR")
+    private VoteBucketResolution resolution;
+
+    @Schema(description = "선택지 id 목록 (points.votes 의 순서)", example = "[1, 2]")
+    private List<Long> optionIds;
+
+    @Schema(description = "투표가 있었던 구간만 시간순으로")
+    private List<VoteTimelinePoint> points;
+}
@@ -1,5 +1,7 @@
 package balancetalk.module.vote.dto;
 
+import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.dto.OptionResultResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,4 +17,18 @@ public class VotingStatusResponse {
 
     @Schema(description = "회원 득표 수" , example = "3412")
     private int voteCount;
+
+    public static VotingStatusResponse fromEntity(BalanceOption option) {
+        return VotingStatusResponse.builder()
+                .optionTitle(option.getTitle())
+                .voteCount(option.voteCount())
+                .build();
+    }
+
+    public static VotingStatusResponse fromResult(OptionResultResponse option) {
+        return VotingStatusResponse.builder()
+                .optionTitle(option.getTitle())
+                .voteCount(option.getVotesCount())
+                .build();
+    }
 }
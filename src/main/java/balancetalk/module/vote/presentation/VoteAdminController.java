@@ -0,0 +1,29 @@
+package balancetalk.module.vote.presentation;
+
+import balancetalk.module.vote.application.VoteTimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+@Tag(name = "vote", description = "선택지 투표 API")
+public class VoteAdminController {
+
+    private final VoteTimelineService voteTimelineService;
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/vote-timeline/backfill")
+    @Operation(summary = "투표 추이 재집계", description = "관리자가 실시간 집계 이전에 쌓인 투표를 구간별 투표 수로 재집계한다. "
+            + "이미 마친 구간은 건너뛰므로 실패한 경우 다시 실행한다.")
+    public String backfillVoteTimeline() {
+        voteTimelineService.startBackfill();
+        return "투표 추이 재집계를 시작했습니다.";
+    }
+}
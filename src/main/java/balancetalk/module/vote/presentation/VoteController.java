@@ -2,15 +2,25 @@ package balancetalk.module.vote.presentation;
 
 import static org.springframework.http.HttpStatus.*;
 
+import balancetalk.global.utils.ClientUtils;
 import balancetalk.module.vote.application.VoteService;
+import balancetalk.module.vote.application.VoteStreamService;
+import balancetalk.module.vote.application.VoteTimelineService;
+import balancetalk.module.vote.domain.VoteBucketResolution;
 import balancetalk.module.vote.dto.VoteRequest;
+import balancetalk.module.vote.dto.VoteTimelineResponse;
 import balancetalk.module.vote.dto.VotingStatusResponse;
+import java.time.LocalDateTime;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 public class VoteController {
 
     private final VoteService voteService;
+    private final VoteStreamService voteStreamService;
+    private final VoteTimelineService voteTimelineService;
 
     @ResponseStatus(CREATED)
     @PostMapping
@@ -26,8 +38,9 @@ public class VoteController {
     @ApiResponse(responseCode = "201", description = "투표가 정상적으로 처리되었습니다.")
     public String createVote(@PathVariable Long postId,
                              @RequestBody VoteRequest voteRequest,
-                             @RequestHeader(value = "Authorization", required = false) String token) {
-        voteService.createVote(postId, voteRequest, token);
+                             @RequestHeader(value = "Authorization", required = false) String token,
+                             HttpServletRequest request) {
+        voteService.createVote(postId, voteRequest, token, ClientUtils.getFingerprint(request));
         return "투표가 정상적으로 처리되었습니다.";
     }
 
@@ -38,6 +51,24 @@ public class VoteController {
         return voteService.votingStatus(postId);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "투표 현황 실시간 구독", description = "post-id에 해당하는 게시글의 투표 현황이 바뀔 때마다 SSE로 전달받는다.")
+    public SseEmitter streamVotingStatus(@PathVariable Long postId) {
+        return voteStreamService.subscribe(postId);
+    }
+
+    @ResponseStatus(OK)
+    @GetMapping("/timeline")
+    @Operation(summary = "투표 추이 조회", description = "post-id에 해당하는 게시글의 선택지별 투표 수를 분/시/일 구간별로 조회한다.")
+    public VoteTimelineResponse voteTimeline(@PathVariable Long postId,
+                                             @RequestParam(value = "resolution", defaultValue = "HOUR") VoteBucketResolution resolution,
+                                             @RequestParam(value = "from", required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                             @RequestParam(value = "to", required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return voteTimelineService.findTimeline(postId, resolution, from, to);
+    }
+
     @ResponseStatus(OK)
     @PutMapping
     @Operation(summary = "선택지 투표 변경", description = "post-id에 해당하는 게시글에서 선택했던 투표를 변경한다.")
@@ -0,0 +1,11 @@
+-- 리스너별 아웃박스 이벤트 처리 기록 (재전달 시 같은 증감을 두 번 반영하지 않도록)
+create table processed_event (
+    consumer varchar(50) not null,
+    outbox_event_id bigint not null,
+    processed_at datetime(6) not null,
+    primary key (consumer, outbox_event_id)
+) engine=InnoDB;
+
+-- 보관 기간이 지난 기록 정리
+create index idx_processed_event_processed_at
+   on processed_event (processed_at);
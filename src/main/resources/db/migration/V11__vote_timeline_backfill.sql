@@ -0,0 +1,19 @@
+-- 투표 추이 실시간 집계 시작 시각 (행 하나)
+-- 이전에 생성된 투표는 재집계가, 이후에 생성된 투표는 투표 이벤트가 센다.
+-- 이벤트 집계는 vote_bucket 테이블을 만든 V6 적용 시점부터 시작되었다.
+create table vote_timeline_live_since (
+    id integer not null,
+    live_since datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+insert into vote_timeline_live_since (id, live_since)
+select 1, coalesce(max(installed_on), current_timestamp) from flyway_schema_history where version = '6';
+
+-- 재집계를 마친 투표 id 구간. 구간의 버킷 반영과 같은 트랜잭션에 기록해, 다시 실행해도 두 번 더하지 않는다.
+create table vote_timeline_backfill (
+    chunk_start bigint not null,
+    chunk_size integer not null,
+    completed_at datetime(6) not null,
+    primary key (chunk_start)
+) engine=InnoDB;
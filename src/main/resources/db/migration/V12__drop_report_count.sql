@@ -0,0 +1,3 @@
+-- 신고 누적 수는 읽는 곳이 없다. 블라인드 여부는 신고 테이블을 카테고리별로 다시 세어 정한다.
+alter table post drop column report_count;
+alter table comment drop column report_count;
@@ -0,0 +1,6 @@
+-- 추천은 insert ignore 한 문장으로 넣으므로 id 는 DB 가 채운다. (MySQL 은 기존 최댓값 다음부터 발급)
+alter table post_like modify post_like_id bigint not null auto_increment;
+alter table comment_like modify comment_like_id bigint not null auto_increment;
+
+drop table post_like_seq;
+drop table comment_like_seq;
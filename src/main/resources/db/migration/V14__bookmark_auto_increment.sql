@@ -0,0 +1,4 @@
+-- 북마크도 insert ignore 한 문장으로 넣으므로 id 는 DB 가 채운다. (V13 과 같은 방식)
+alter table bookmark modify bookmark_id bigint not null auto_increment;
+
+drop table bookmark_seq;
@@ -0,0 +1,12 @@
+-- 같은 애그리거트에 이벤트를 남기는 트랜잭션을 커밋까지 줄 세우는 잠금 행
+-- (잠금을 잡은 뒤 아웃박스 id 를 받으므로, 같은 애그리거트 안에서는 id 순서가 커밋 순서와 같다.)
+create table outbox_aggregate_lock (
+    aggregate_type enum ('POST','COMMENT') not null,
+    aggregate_id bigint not null,
+    locked_at datetime(6) not null,
+    primary key (aggregate_type, aggregate_id)
+) engine=InnoDB;
+
+-- 보관 기간이 지난 잠금 행 정리
+create index idx_outbox_aggregate_lock_locked_at
+   on outbox_aggregate_lock (locked_at);
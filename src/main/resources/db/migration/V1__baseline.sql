@@ -0,0 +1,329 @@
+-- 마이그레이션 도입 이전 스키마 (엔티티 기준으로 생성되던 운영 스키마와 동일)
+-- 이미 운영 중인 DB는 이 버전으로 baseline 처리되고 V2부터 적용된다.
+
+create table balance_option_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into balance_option_seq values ( 1 );
+
+create table balance_option (
+    balance_option_id bigint not null,
+    file_id bigint,
+    post_id bigint,
+    title varchar(50) not null,
+    description varchar(100) not null,
+    primary key (balance_option_id)
+) engine=InnoDB;
+
+create table bookmark (
+    bookmark_id bigint not null,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    member_id bigint,
+    post_id bigint,
+    primary key (bookmark_id)
+) engine=InnoDB;
+
+create table bookmark_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into bookmark_seq values ( 1 );
+
+create table comment (
+    comment_id bigint not null,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    member_id bigint,
+    parent_id bigint,
+    post_id bigint,
+    content varchar(100),
+    view_status enum ('NORMAL','BLIND') not null,
+    primary key (comment_id)
+) engine=InnoDB;
+
+create table comment_like_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into comment_like_seq values ( 1 );
+
+create table comment_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into comment_seq values ( 1 );
+
+create table comment_like (
+    comment_id bigint,
+    comment_like_id bigint not null,
+    member_id bigint,
+    primary key (comment_like_id)
+) engine=InnoDB;
+
+create table file (
+    file_id bigint not null,
+    notice_id bigint,
+    size bigint not null,
+    original_name varchar(50) not null,
+    stored_name varchar(100),
+    path varchar(209) not null,
+    type enum ('JPEG','PNG','GIF','BMP','TIFF','PDF','TXT') not null,
+    primary key (file_id)
+) engine=InnoDB;
+
+create table file_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into file_seq values ( 1 );
+
+create table member (
+    created_at datetime(6),
+    file_id bigint,
+    last_modified_at datetime(6),
+    member_id bigint not null,
+    nickname varchar(10) not null,
+    email varchar(30) not null,
+    password varchar(255) not null,
+    role enum ('ADMIN','USER') not null,
+    primary key (member_id)
+) engine=InnoDB;
+
+create table member_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into member_seq values ( 1 );
+
+create table notice (
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    member_id bigint,
+    notice_id bigint not null,
+    title varchar(50) not null,
+    content varchar(2000) not null,
+    primary key (notice_id)
+) engine=InnoDB;
+
+create table notice_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into notice_seq values ( 1 );
+
+create table post (
+    created_at datetime(6),
+    deadline datetime(6) not null,
+    last_modified_at datetime(6),
+    member_id bigint,
+    post_id bigint not null,
+    views bigint default 0 not null,
+    title varchar(50) not null,
+    category enum ('CASUAL','DISCUSSION') not null,
+    view_status enum ('NORMAL','BLIND') default 'NORMAL' not null,
+    primary key (post_id)
+) engine=InnoDB;
+
+create table post_like_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into post_like_seq values ( 1 );
+
+create table post_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into post_seq values ( 1 );
+
+create table post_tag_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into post_tag_seq values ( 1 );
+
+create table post_like (
+    member_id bigint,
+    post_id bigint,
+    post_like_id bigint not null,
+    primary key (post_like_id)
+) engine=InnoDB;
+
+create table post_tag (
+    post_id bigint,
+    post_tag_id bigint not null,
+    tag_id bigint,
+    primary key (post_tag_id)
+) engine=InnoDB;
+
+create table report (
+    comment_id bigint,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    member_id bigint,
+    post_id bigint,
+    report_id bigint not null,
+    content varchar(300),
+    category enum ('ADVERTISEMENT','FRAUD','ABUSE','ETC') not null,
+    primary key (report_id)
+) engine=InnoDB;
+
+create table report_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into report_seq values ( 1 );
+
+create table tag (
+    tag_id bigint not null,
+    name varchar(255) not null,
+    primary key (tag_id)
+) engine=InnoDB;
+
+create table tag_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into tag_seq values ( 1 );
+
+create table vote (
+    balance_option_id bigint,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    member_id bigint,
+    vote_id bigint not null,
+    primary key (vote_id)
+) engine=InnoDB;
+
+create table vote_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into vote_seq values ( 1 );
+
+alter table balance_option
+   add constraint UK_nmvx9reuc80b1shs5rwgvvvkv unique (file_id);
+
+alter table file
+   add constraint UK_2ffdk6gwq7xly8yg1aifsmlpx unique (stored_name);
+
+alter table member
+   add constraint UK_4lf4av273jjrmt85b99wop8wo unique (file_id);
+
+alter table member
+   add constraint UK_hh9kg6jti4n1eoiertn2k6qsc unique (nickname);
+
+alter table member
+   add constraint UK_mbmcqelty0fbrvxp1q58dn57t unique (email);
+
+alter table balance_option
+   add constraint FKk2g85be9gwx5deloc3vqds9uf
+   foreign key (file_id)
+   references file (file_id);
+
+alter table balance_option
+   add constraint FKix6bgdq0tofx84kfxvx9eouhr
+   foreign key (post_id)
+   references post (post_id);
+
+alter table bookmark
+   add constraint FK5bm7rup91j277mc7gg63akie2
+   foreign key (member_id)
+   references member (member_id);
+
+alter table bookmark
+   add constraint FKkm47dr0i09mor5ks9aaebx15u
+   foreign key (post_id)
+   references post (post_id);
+
+alter table comment
+   add constraint FKmrrrpi513ssu63i2783jyiv9m
+   foreign key (member_id)
+   references member (member_id);
+
+alter table comment
+   add constraint FKde3rfu96lep00br5ov0mdieyt
+   foreign key (parent_id)
+   references comment (comment_id);
+
+alter table comment
+   add constraint FKs1slvnkuemjsq2kj4h3vhx7i1
+   foreign key (post_id)
+   references post (post_id);
+
+alter table comment_like
+   add constraint FKqlv8phl1ibeh0efv4dbn3720p
+   foreign key (comment_id)
+   references comment (comment_id);
+
+alter table comment_like
+   add constraint FKjtrao5djvpcj49cxcmbenif3g
+   foreign key (member_id)
+   references member (member_id);
+
+alter table file
+   add constraint FK9sue39n4ky49ha47ujunh07b4
+   foreign key (notice_id)
+   references notice (notice_id);
+
+alter table member
+   add constraint FKc870gn1n4m2c717bi9i1mkydy
+   foreign key (file_id)
+   references file (file_id);
+
+alter table notice
+   add constraint FKnriaekshh15qoqnlhvqkj931e
+   foreign key (member_id)
+   references member (member_id);
+
+alter table post
+   add constraint FK83s99f4kx8oiqm3ro0sasmpww
+   foreign key (member_id)
+   references member (member_id);
+
+alter table post_like
+   add constraint FKqjxwr6kkv6pw2e4pwy4yktxyk
+   foreign key (member_id)
+   references member (member_id);
+
+alter table post_like
+   add constraint FKj7iy0k7n3d0vkh8o7ibjna884
+   foreign key (post_id)
+   references post (post_id);
+
+alter table post_tag
+   add constraint FKc2auetuvsec0k566l0eyvr9cs
+   foreign key (post_id)
+   references post (post_id);
+
+alter table post_tag
+   add constraint FKac1wdchd2pnur3fl225obmlg0
+   foreign key (tag_id)
+   references tag (tag_id);
+
+alter table report
+   add constraint FK1dw2gwqqspkllnye2ylaiabqx
+   foreign key (comment_id)
+   references comment (comment_id);
+
+alter table report
+   add constraint FKnuqod1y014fp5bmqjeoffcgqy
+   foreign key (post_id)
+   references post (post_id);
+
+alter table report
+   add constraint FKel7y5wyx42a6njav1dbe2torl
+   foreign key (member_id)
+   references member (member_id);
+
+alter table vote
+   add constraint FK78s7yol4datn0dtw4tpmip6lb
+   foreign key (balance_option_id)
+   references balance_option (balance_option_id);
+
+alter table vote
+   add constraint FKgkbgl6xp2rpgwghb7mtyuv48h
+   foreign key (member_id)
+   references member (member_id);
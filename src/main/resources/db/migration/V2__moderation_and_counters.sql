@@ -0,0 +1,85 @@
+-- 기존 데이터 보정 후 제약 조건을 추가한다. (중복 제거 → 유니크, 역정규화 컬럼 채우기 → 인덱스)
+
+-- 댓글 depth / root_id (스레드 단위 조회)
+alter table comment add column depth integer default 0 not null;
+alter table comment add column root_id bigint;
+alter table comment add column report_count integer default 0 not null;
+
+update comment set depth = 1, root_id = parent_id where parent_id is not null;
+
+-- 답글의 답글은 부모의 값을 따라 한 단계씩 내려간다. (comments.max-depth 3 까지 보정)
+update comment c
+set depth = (select p.depth + 1 from (select comment_id, depth from comment) p where p.comment_id = c.parent_id),
+    root_id = (select coalesce(p.root_id, p.comment_id) from (select comment_id, root_id from comment) p where p.comment_id = c.parent_id)
+where c.parent_id is not null;
+
+update comment c
+set depth = (select p.depth + 1 from (select comment_id, depth from comment) p where p.comment_id = c.parent_id),
+    root_id = (select coalesce(p.root_id, p.comment_id) from (select comment_id, root_id from comment) p where p.comment_id = c.parent_id)
+where c.parent_id is not null;
+
+create index idx_comment_root_id_depth
+   on comment (root_id, depth);
+
+create index idx_comment_post_id_view_status
+   on comment (post_id, view_status, parent_id);
+
+-- 게시글 신고 누적 수
+alter table post add column report_count integer default 0 not null;
+
+create index idx_post_view_status_created_at
+   on post (view_status, created_at);
+
+-- 좋아요는 회원당 한 번 (중복 행 정리 후 유니크)
+delete from post_like
+where member_id is not null and post_id is not null
+  and post_like_id not in (select keep_id from (
+        select min(post_like_id) as keep_id from post_like
+        where member_id is not null and post_id is not null
+        group by member_id, post_id) k);
+
+alter table post_like
+   add constraint uk_post_like_member_post unique (member_id, post_id);
+
+delete from comment_like
+where member_id is not null and comment_id is not null
+  and comment_like_id not in (select keep_id from (
+        select min(comment_like_id) as keep_id from comment_like
+        where member_id is not null and comment_id is not null
+        group by member_id, comment_id) k);
+
+alter table comment_like
+   add constraint uk_comment_like_member_comment unique (member_id, comment_id);
+
+-- 투표는 회원당 게시글 하나에 한 번 (post_id 역정규화, 가장 최근 투표만 남김)
+alter table vote add column post_id bigint;
+
+update vote v
+set post_id = (select o.post_id from balance_option o where o.balance_option_id = v.balance_option_id);
+
+delete from vote
+where member_id is not null and post_id is not null
+  and vote_id not in (select keep_id from (
+        select max(vote_id) as keep_id from vote
+        where member_id is not null and post_id is not null
+        group by member_id, post_id) k);
+
+alter table vote
+   add constraint uk_vote_member_post unique (member_id, post_id);
+
+alter table vote
+   add constraint FKl3c067ewaw5xktl5cjvniv3e9
+   foreign key (post_id)
+   references post (post_id);
+
+-- 선택지별 투표 수 집계 컬럼
+alter table balance_option add column votes_count integer default 0 not null;
+
+update balance_option o
+set votes_count = (select count(*) from vote v where v.balance_option_id = o.balance_option_id);
+
+-- 신고 처리 상태 (기존 신고는 대기 상태)
+alter table report add column status enum ('PENDING','ACCEPTED','REJECTED') default 'PENDING' not null;
+
+create index idx_report_status_created_at
+   on report (status, created_at);
@@ -0,0 +1,40 @@
+-- 조회 빈도가 높은 리포지토리 쿼리용 복합/커버링 인덱스
+-- 외래 키 컬럼으로 시작하는 인덱스가 생기면 MySQL은 외래 키용으로 자동 생성했던 인덱스를 대신 사용한다.
+
+-- 인기 게시글 (view_status = ? and deadline > now)
+create index idx_post_view_status_deadline
+   on post (view_status, deadline);
+
+-- 내가 쓴 게시글 / 탈퇴 회원 게시글 분리
+create index idx_post_member_id_created_at
+   on post (member_id, created_at);
+
+-- 내가 쓴 댓글 / 탈퇴 회원 댓글 분리
+create index idx_comment_member_id_created_at
+   on comment (member_id, created_at);
+
+-- 게시글/댓글별 좋아요 수 집계 (커버링)
+create index idx_post_like_post_id_member_id
+   on post_like (post_id, member_id);
+
+create index idx_comment_like_comment_id_member_id
+   on comment_like (comment_id, member_id);
+
+-- 댓글 작성자들의 선택지 조회 (커버링)
+create index idx_vote_post_id_member_id
+   on vote (post_id, member_id, balance_option_id);
+
+-- 선택지별 투표한 회원 조회 (커버링)
+create index idx_vote_balance_option_id_member_id
+   on vote (balance_option_id, member_id);
+
+-- 내 북마크 목록 / 북마크 여부
+create index idx_bookmark_member_id_post_id
+   on bookmark (member_id, post_id);
+
+-- 태그 이름으로 게시글 검색
+create index idx_tag_name
+   on tag (name);
+
+create index idx_post_tag_tag_id_post_id
+   on post_tag (tag_id, post_id);
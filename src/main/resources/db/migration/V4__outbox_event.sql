@@ -0,0 +1,18 @@
+-- 도메인 이벤트 아웃박스 (비즈니스 데이터와 같은 트랜잭션에 저장, OutboxRelay 가 id 순서대로 전달)
+-- 이벤트 종류를 추가하면 event_type 에 값을 추가하는 마이그레이션도 함께 작성한다.
+create table outbox_event (
+    attempts integer default 0 not null,
+    aggregate_id bigint not null,
+    created_at datetime(6) not null,
+    next_attempt_at datetime(6),
+    outbox_event_id bigint not null auto_increment,
+    published_at datetime(6),
+    payload varchar(2000) not null,
+    aggregate_type enum ('POST','COMMENT') not null,
+    event_type enum ('POST_CREATED','POST_DELETED','POST_LIKED','POST_LIKE_CANCELED','COMMENT_CREATED','COMMENT_DELETED','COMMENT_LIKED','COMMENT_LIKE_CANCELED','VOTE_CAST','VOTE_CHANGED','BOOKMARK_ADDED','BOOKMARK_REMOVED') not null,
+    primary key (outbox_event_id)
+) engine=InnoDB;
+
+-- 미전달 이벤트 조회 (published_at is null order by outbox_event_id)
+create index idx_outbox_event_published_at_id
+   on outbox_event (published_at, outbox_event_id);
@@ -0,0 +1,10 @@
+-- 마감된 게시글의 최종 투표 결과 (PostResultService 가 마감 시각에 한 번 저장하고 바꾸지 않음)
+-- options: 선택지별 득표 수와 베스트 댓글 id (JSON)
+create table post_result (
+    total_votes_count integer not null,
+    closed_at datetime(6) not null,
+    post_id bigint not null,
+    winner_option_id bigint,
+    options varchar(4000) not null,
+    primary key (post_id)
+) engine=InnoDB;
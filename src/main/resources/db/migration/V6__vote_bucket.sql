@@ -0,0 +1,14 @@
+-- 게시글/선택지별 구간(분, 시, 일) 투표 수 (VoteTimelineService 가 투표 이벤트마다 증감을 더함)
+-- 유니크 키로 구간 행을 upsert 하고, 같은 인덱스로 게시글의 구간 범위를 조회한다.
+create table vote_bucket (
+    votes_count integer not null,
+    balance_option_id bigint not null,
+    bucket_start datetime(6) not null,
+    post_id bigint not null,
+    vote_bucket_id bigint not null auto_increment,
+    resolution enum ('MINUTE','HOUR','DAY') not null,
+    primary key (vote_bucket_id)
+) engine=InnoDB;
+
+alter table vote_bucket
+   add constraint uk_vote_bucket_post_resolution_start_option unique (post_id, resolution, bucket_start, balance_option_id);
@@ -0,0 +1,6 @@
+-- 마이페이지 투표/북마크 기록 (member_id = ? order by created_at desc)
+create index idx_vote_member_id_created_at
+   on vote (member_id, created_at);
+
+create index idx_bookmark_member_id_created_at
+   on bookmark (member_id, created_at);
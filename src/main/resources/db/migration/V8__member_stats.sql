@@ -0,0 +1,21 @@
+-- 회원별 활동 수 (MemberStatsService 가 활동 이벤트마다 증감하고, 매일 원본 테이블에서 다시 셈)
+create table member_stats (
+    bookmarks_count integer not null,
+    comments_count integer not null,
+    likes_received_count integer not null,
+    posts_count integer not null,
+    votes_count integer not null,
+    member_id bigint not null,
+    primary key (member_id)
+) engine=InnoDB;
+
+-- 기존 회원의 활동 수 채우기
+insert into member_stats
+    (member_id, posts_count, comments_count, votes_count, bookmarks_count, likes_received_count)
+select m.member_id,
+       (select count(*) from post p where p.member_id = m.member_id),
+       (select count(*) from comment c where c.member_id = m.member_id),
+       (select count(*) from vote v where v.member_id = m.member_id),
+       (select count(*) from bookmark b where b.member_id = m.member_id),
+       (select count(*) from post_like l join post p on p.post_id = l.post_id where p.member_id = m.member_id)
+from member m;
@@ -0,0 +1,17 @@
+-- 북마크는 회원당 게시글 하나에 한 번 (중복 행 정리 후 유니크)
+delete from bookmark
+where member_id is not null and post_id is not null
+  and bookmark_id not in (select keep_id from (
+        select min(bookmark_id) as keep_id from bookmark
+        where member_id is not null and post_id is not null
+        group by member_id, post_id) k);
+
+alter table bookmark
+   add constraint uk_bookmark_member_post unique (member_id, post_id);
+
+-- 같은 컬럼의 일반 인덱스는 유니크 인덱스로 대체
+drop index idx_bookmark_member_id_post_id on bookmark;
+
+-- 정리한 중복 행만큼 회원별 북마크 수 보정
+update member_stats s
+set bookmarks_count = (select count(*) from bookmark b where b.member_id = s.member_id);
@@ -0,0 +1,213 @@
+package balancetalk.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.comment.domain.CommentLikeRepository;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+    db/migration 스크립트로 만든 스키마에서 리포지토리 쿼리가 실제로 실행하는 SQL의 실행 계획을 확인한다.
+    쿼리나 인덱스가 바뀌어 지정한 인덱스를 타지 않게 되면 실패한다. (H2 MySQL 모드 + MySQLDialect)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-index;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "balancetalk.global.config.QueryIndexTest$SqlCaptor"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryIndexTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    VoteRepository voteRepository;
+
+    @Autowired
+    BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PostLikeRepository postLikeRepository;
+
+    @Autowired
+    CommentLikeRepository commentLikeRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptor.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 목록과 인기 게시글은 view_status 로 시작하는 인덱스를 사용한다.")
+    void postList() {
+        postRepository.findAllByViewStatus(ViewStatus.NORMAL, PAGE);
+        assertUsesIndex("post", "view_status", "created_at");
+
+        postRepository.findBestPosts(ViewStatus.NORMAL, PageRequest.of(0, 5));
+        assertUsesIndex("post", "view_status", "deadline");
+    }
+
+    @Test
+    @DisplayName("마이페이지 기록(게시글/댓글/투표/북마크)은 member_id 인덱스를 사용한다.")
+    void myPageHistory() {
+        postRepository.findHistoryByMemberId(1L, PAGE);
+        assertUsesIndex("post", "member_id");
+
+        commentRepository.findHistoryByMemberId(1L, PAGE);
+        assertUsesIndex("comment", "member_id");
+
+        voteRepository.findHistoryByMemberId(1L, PAGE);
+        assertUsesIndex("vote", "member_id");
+
+        bookmarkRepository.findHistoryByMemberId(1L, PAGE);
+        assertUsesIndex("bookmark", "member_id");
+
+        commentRepository.findIdsByMemberId(1L, PageRequest.of(0, 100));
+        assertUsesIndex("comment", "member_id");
+    }
+
+    @Test
+    @DisplayName("댓글 목록과 답글 조회는 (post_id, view_status, parent_id) 인덱스를 사용한다.")
+    void comments() {
+        commentRepository.findAllByPostIdAndViewStatusAndParentIsNull(1L, ViewStatus.NORMAL, PAGE);
+        assertUsesIndex("comment", "post_id", "view_status", "parent_id");
+
+        commentRepository.findAllByPostIdAndViewStatusAndParentId(1L, ViewStatus.NORMAL, 2L);
+        assertUsesIndex("comment", "post_id", "view_status", "parent_id");
+    }
+
+    @Test
+    @DisplayName("좋아요 수 집계와 좋아요 여부는 커버링 인덱스를 사용한다.")
+    void likes() {
+        postLikeRepository.countByPostId(1L);
+        assertUsesIndex("post_like", "post_id");
+
+        commentLikeRepository.countByCommentIds(List.of(1L, 2L));
+        assertUsesIndex("comment_like", "comment_id");
+
+        // (member_id, comment_id) 유니크 인덱스와 (comment_id, member_id) 인덱스 모두 조건을 다 덮는다.
+        // H2 는 V13 에서 테이블을 다시 만든 뒤 뒤의 것을 고른다.
+        commentLikeRepository.findLikedCommentIds(1L, List.of(1L, 2L));
+        assertUsesIndex("comment_like", "comment_id", "member_id");
+    }
+
+    @Test
+    @DisplayName("투표 조회는 회원+게시글 유니크 인덱스와 선택지 커버링 인덱스를 사용한다.")
+    void votes() {
+        voteRepository.findByMemberIdAndPostId(1L, 1L);
+        assertUsesIndex("vote", "member_id", "post_id");
+
+        voteRepository.existsByMemberIdAndPostId(1L, 1L);
+        assertUsesIndex("vote", "member_id", "post_id");
+
+        voteRepository.findSelectedOptionIds(1L, List.of(1L, 2L));
+        assertUsesIndex("vote", "post_id", "member_id", "balance_option_id");
+
+        memberRepository.findMemberIdsBySelectedOptionId(1L);
+        assertUsesIndex("vote", "balance_option_id", "member_id");
+    }
+
+    @Test
+    @DisplayName("북마크 여부 조회는 회원+게시글 유니크 인덱스를 사용한다.")
+    void bookmarks() {
+        bookmarkRepository.existsByMemberIdAndPostId(1L, 1L);
+        assertUsesIndex("bookmark", "member_id", "post_id");
+
+        bookmarkRepository.findBookmarkedPostIds(1L, List.of(1L, 2L));
+        assertUsesIndex("bookmark", "member_id", "post_id");
+    }
+
+    @Test
+    @DisplayName("태그 검색은 태그 이름과 (tag_id, post_id) 인덱스를 사용한다.")
+    void tags() {
+        postRepository.findByPostTagsContaining("tag", ViewStatus.NORMAL);
+        String plan = explainLastQuery();
+        assertIndexed(plan, "tag", "name");
+        assertIndexed(plan, "post_tag", "tag_id", "post_id");
+    }
+
+    private void assertUsesIndex(String table, String... leadingColumns) {
+        assertIndexed(explainLastQuery(), table, leadingColumns);
+    }
+
+    // 직전 리포지토리 호출의 첫 번째 조회 쿼리 실행 계획
+    private String explainLastQuery() {
+        String sql = SqlCaptor.firstSelect();
+        SqlCaptor.clear();
+        String plan = jdbcTemplate.query(con -> con.prepareStatement("explain " + sql),
+                rs -> rs.next() ? rs.getString(1) : "");
+        return sql + "\n" + plan;
+    }
+
+    /*
+        테이블을 읽을 때 고른 인덱스가 주어진 컬럼들로 시작하는지 확인
+        H2는 외래 키마다 별도 인덱스를 만들기 때문에 인덱스 이름 대신 선두 컬럼으로 비교한다.
+        (MySQL은 외래 키 컬럼으로 시작하는 인덱스가 생기면 자동 생성한 외래 키 인덱스를 제거한다.)
+     */
+    private void assertIndexed(String plan, String table, String... leadingColumns) {
+        Matcher matcher = Pattern.compile("\"public\"\\.\"" + table + "\" \"\\w+\"\\s*/\\* public\\.([\\w.]+)")
+                .matcher(plan);
+        assertThat(matcher.find()).as(plan).isTrue();
+
+        List<String> indexColumns = jdbcTemplate.queryForList(
+                "select column_name from information_schema.index_columns "
+                        + "where table_name = ? and index_name = ? order by ordinal_position",
+                String.class, table, matcher.group(1));
+        assertThat(indexColumns).as(plan).startsWith(leadingColumns);
+    }
+
+    public static class SqlCaptor implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String firstSelect() {
+            return STATEMENTS.stream()
+                    .filter(statement -> statement.startsWith("select"))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package balancetalk.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import balancetalk.global.redis.application.RedisService;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+@SpringBootTest(classes = {RedisConfig.class, RedisClientConfig.class, RedisService.class,
+        RedisConfigTest.RedisPropertiesConfig.class})
+class RedisConfigTest {
+
+    private static final int PORT = findAvailablePort();
+    private static RedisServer redisServer = startRedis();
+
+    @Autowired
+    LettuceConnectionFactory connectionFactory;
+
+    @Autowired
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    RedisService redisService;
+
+    @Configuration
+    @EnableConfigurationProperties(RedisProperties.class)
+    static class RedisPropertiesConfig {
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> PORT);
+        registry.add("spring.data.redis.timeout", () -> "2s");
+        registry.add("spring.data.redis.lettuce.pool.max-active", () -> 4);
+        registry.add("redis.client.reject-commands-when-disconnected", () -> false);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("commons-pool2 커넥션 풀과 명령 타임아웃, 재연결 옵션이 적용된다.")
+    void connectionFactory_PoolingAndClientOptions() {
+        assertThat(connectionFactory.getClientConfiguration()).isInstanceOf(LettucePoolingClientConfiguration.class);
+        LettucePoolingClientConfiguration clientConfig =
+                (LettucePoolingClientConfiguration) connectionFactory.getClientConfiguration();
+
+        assertThat(clientConfig.getPoolConfig().getMaxTotal()).isEqualTo(4);
+        assertThat(clientConfig.getPoolConfig().getMaxWaitDuration()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(clientConfig.getCommandTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(clientConfig.getClientOptions()).hasValueSatisfying(options ->
+                assertThat(options.isAutoReconnect()).isTrue());
+    }
+
+    @Test
+    @DisplayName("설정된 커넥션으로 단건, 다건, 파이프라인 명령이 실행된다.")
+    void redisService_Commands() {
+        redisService.setValues("config:test:single", "value", Duration.ofMinutes(1));
+        redisService.multiSet(Map.of("config:test:a", "1", "config:test:b", "2"), Duration.ofMinutes(1));
+
+        assertThat(redisService.getValues("config:test:single")).isEqualTo("value");
+        assertThat(redisService.multiGet(List.of("config:test:a", "config:test:b", "config:test:none")))
+                .containsExactly("1", "2", null);
+        assertThat(redisService.checkExistsValue("config:test:single")).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 트랜잭션은 풀의 전용 커넥션에서 각각 처리된다.")
+    void transaction_UsePooledConnections() throws Exception {
+        String key = "config:test:tx";
+        redisTemplate.delete(key);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 25; j++) {
+                    redisTemplate.execute(new SessionCallback<List<Object>>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                            RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                            ops.multi();
+                            ops.opsForValue().increment(key);
+                            return ops.exec();
+                        }
+                    });
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(redisService.multiGet(List.of(key))).containsExactly("200");
+    }
+
+    @Test
+    @DisplayName("Redis 서버가 재시작되면 자동으로 재연결된다.")
+    void autoReconnect() {
+        redisService.setValues("config:test:before", "1");
+        redisServer.stop();
+        redisServer = startRedis();
+
+        await().atMost(Duration.ofSeconds(10)).pollInterval(Duration.ofMillis(200)).untilAsserted(() -> {
+            try {
+                redisService.setValues("config:test:after", "ok");
+                assertThat(redisService.getValues("config:test:after")).isEqualTo("ok");
+            } catch (DataAccessException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("sentinel, cluster 설정 유무에 따라 연결 토폴로지가 결정된다.")
+    void redisConfiguration_Topology() {
+        RedisProperties standalone = new RedisProperties();
+        RedisProperties sentinel = new RedisProperties();
+        sentinel.setSentinel(new RedisProperties.Sentinel());
+        sentinel.getSentinel().setMaster("mymaster");
+        sentinel.getSentinel().setNodes(List.of("localhost:26379", "localhost:26380"));
+        RedisProperties cluster = new RedisProperties();
+        cluster.setCluster(new RedisProperties.Cluster());
+        cluster.getCluster().setNodes(List.of("localhost:7000", "localhost:7001"));
+
+        assertThat(new RedisConfig(standalone, new RedisClientConfig()).redisConfiguration())
+                .isInstanceOf(RedisStandaloneConfiguration.class);
+        assertThat(new RedisConfig(sentinel, new RedisClientConfig()).redisConfiguration())
+                .isInstanceOfSatisfying(RedisSentinelConfiguration.class,
+                        config -> assertThat(config.getSentinels()).hasSize(2));
+        assertThat(new RedisConfig(cluster, new RedisClientConfig()).redisConfiguration())
+                .isInstanceOfSatisfying(RedisClusterConfiguration.class,
+                        config -> assertThat(config.getClusterNodes()).hasSize(2));
+    }
+
+    private static RedisServer startRedis() {
+        RedisServer server = new RedisServer(PORT);
+        server.start();
+        return server;
+    }
+
+    private static int findAvailablePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package balancetalk.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    H2(MySQL 모드) 인스턴스 두 개를 프라이머리/레플리카로 두고, 각 DB의 node 테이블에 저장된 이름으로 라우팅 결과를 확인한다.
+ */
+class RoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds from replica_lag";
+
+    SimpleMeterRegistry meterRegistry;
+    ReplicaDataSource replica;
+    RoutingDataSource routingDataSource;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate writeTransaction;
+    TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("primary");
+        DataSource replicaDataSource = h2("replica-1");
+        new JdbcTemplate(replicaDataSource).execute("create table replica_lag (seconds int)");
+        new JdbcTemplate(replicaDataSource).update("insert into replica_lag values (0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        replica = new ReplicaDataSource("replica-1", replicaDataSource);
+        routingDataSource = new RoutingDataSource(primaryDataSource, List.of(replica),
+                new ReadAfterWriteGuard(Duration.ofSeconds(2)), Duration.ofSeconds(1), LAG_QUERY, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리로 보낸다.")
+    void routeByReadOnly() {
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica-1");
+        assertThat(meterRegistry.counter("datasource.routing", "pool", "replica-1").count()).isEqualTo(1.0);
+
+        double primaryCount = meterRegistry.counter("datasource.routing", "pool", "primary").count();
+        assertThat(currentNode(writeTransaction)).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing", "pool", "primary").count()).isEqualTo(primaryCount + 1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 레플리카에 연결할 수 없으면 프라이머리에서 읽는다.")
+    void fallbackToPrimary() {
+        new JdbcTemplate(replica.getDataSource()).update("update replica_lag set seconds = 5");
+        routingDataSource.checkReplicas();
+
+        assertThat(replica.getLagMillis()).isEqualTo(5000L);
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+
+        new JdbcTemplate(replica.getDataSource()).execute("drop table replica_lag");
+        routingDataSource.checkReplicas();
+
+        assertThat(replica.isAvailable()).isFalse();
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing.fallback", "reason", "no-replica").count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원은 잠시 프라이머리에서 읽고, 다른 회원은 레플리카에서 읽는다.")
+    void readAfterWrite() {
+        login("writer@gmail.com");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+
+        login("reader@gmail.com");
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica-1");
+    }
+
+    private String currentNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static DataSource h2(String node) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + node + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", node);
+        return dataSource;
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, "", Collections.emptySet()));
+    }
+}
@@ -0,0 +1,196 @@
+package balancetalk.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "YmFsYW5jZS10YWxrLWp3dC10ZXN0LXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25hdHVyZS0wMTIzNDU2Nzg5YWI=";
+
+    @Mock
+    RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    HttpServletRequest request;
+
+    @Mock
+    Authentication authentication;
+
+    @InjectMocks
+    JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessExpirationTime", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpirationTime", 600_000L);
+        jwtTokenProvider.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰을 한 번 파싱하면 이메일과 회원 ID를 모두 얻고, 회원 조회 없이 인증 객체를 만든다.")
+    void parse_AccessToken() {
+        when(authentication.getName()).thenReturn("member@gmail.com");
+        String token = jwtTokenProvider.createAccessToken(authentication, 1L);
+
+        TokenClaims claims = jwtTokenProvider.parse(token);
+        Authentication result = jwtTokenProvider.getAuthentication(claims);
+
+        assertThat(claims.getEmail()).isEqualTo("member@gmail.com");
+        assertThat(claims.getMemberId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo("member@gmail.com");
+    }
+
+    @Test
+    @DisplayName("기존 방식(문자열 시크릿)으로 서명된 토큰도 그대로 검증된다.")
+    void parse_LegacySignedToken() {
+        Date now = new Date();
+        String legacyToken = Jwts.builder()
+                .setSubject("member@gmail.com")
+                .claim("memberId", 1L)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60_000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+
+        assertThat(jwtTokenProvider.getPayload(legacyToken)).isEqualTo("member@gmail.com");
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 INVALID_JWT_TOKEN 예외가 발생한다.")
+    void parse_Failure_InvalidSignature() {
+        String otherSecret = SECRET.replace('Y', 'Z');
+        String forged = Jwts.builder()
+                .setSubject("member@gmail.com")
+                .signWith(SignatureAlgorithm.HS512, otherSecret)
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.parse(forged))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_JWT_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("필터가 보관한 클레임이 있으면 서비스는 토큰을 다시 파싱하지 않는다.")
+    void resolveClaims_StoredByFilter() {
+        TokenClaims claims = new TokenClaims("member@gmail.com", 1L, null, null, TokenType.ACCESS);
+        when(request.getAttribute(TokenClaims.class.getName())).thenReturn(claims);
+
+        assertThat(jwtTokenProvider.resolveClaims(request)).isSameAs(claims);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 Authorization 헤더로 보내면 필터에서 인증하지 않는다.")
+    void filter_RejectRefreshToken() throws Exception {
+        when(authentication.getName()).thenReturn("member@gmail.com");
+        String refreshToken = jwtTokenProvider.createRefreshToken(authentication, 1L, "device");
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.addHeader("Authorization", "Bearer " + refreshToken);
+
+        new JwtAuthenticationFilter(jwtTokenProvider)
+                .doFilter(httpRequest, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(httpRequest.getAttribute("exception")).isEqualTo(ErrorCode.INVALID_JWT_TOKEN.getMessage());
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(refreshToken))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_JWT_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰으로는 토큰을 재발급할 수 없다.")
+    void reissue_Failure_AccessToken() {
+        when(authentication.getName()).thenReturn("member@gmail.com");
+        String accessToken = jwtTokenProvider.createAccessToken(authentication, 1L);
+
+        assertThatThrownBy(() -> jwtTokenProvider.reissue(accessToken))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+        verify(refreshTokenStore, never()).rotate(anyLong(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("typ 클레임이 없는 기존 리프레시 토큰은 수명으로 구분해서 재발급에 사용할 수 있다.")
+    void reissue_LegacyRefreshToken() {
+        Date now = new Date();
+        String legacyRefreshToken = Jwts.builder()
+                .setSubject("member@gmail.com")
+                .claim("memberId", 1L)
+                .claim("deviceId", "device")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 600_000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+
+        ReissuedToken reissued = jwtTokenProvider.reissue(legacyRefreshToken);
+
+        assertThat(jwtTokenProvider.parseAccessToken(reissued.getAccessToken()).getMemberId()).isEqualTo(1L);
+        assertThat(jwtTokenProvider.parse(reissued.getRefreshToken()).getType()).isEqualTo(TokenType.REFRESH);
+    }
+
+    @Test
+    @DisplayName("기기 ID 도 typ 클레임도 없는 기존 리프레시 토큰은 액세스 토큰으로 쓸 수 없다.")
+    void parseAccessToken_Failure_LegacyRefreshTokenWithoutDeviceId() {
+        Date now = new Date();
+        String legacyRefreshToken = Jwts.builder()
+                .setSubject("member@gmail.com")
+                .claim("memberId", 1L)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 600_000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(legacyRefreshToken))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_JWT_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("typ 클레임과 발급 시각이 모두 없는 토큰은 받지 않는다.")
+    void parseAccessToken_Failure_NoTypeAndIssuedAt() {
+        String token = Jwts.builder()
+                .setSubject("member@gmail.com")
+                .claim("memberId", 1L)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(token))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_JWT_TOKEN.getMessage());
+    }
+}
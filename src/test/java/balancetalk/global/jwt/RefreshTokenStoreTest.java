@@ -0,0 +1,115 @@
+package balancetalk.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import balancetalk.global.config.RedisClientConfig;
+import balancetalk.global.config.RedisConfig;
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.redis.application.RedisService;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+@SpringBootTest(classes = {RedisConfig.class, RedisClientConfig.class, RedisService.class, RefreshTokenStore.class,
+        RefreshTokenStoreTest.RedisPropertiesConfig.class})
+class RefreshTokenStoreTest {
+
+    private static final int PORT = findAvailablePort();
+    private static final RedisServer redisServer = startRedis();
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+    @Configuration
+    @EnableConfigurationProperties(RedisProperties.class)
+    static class RedisPropertiesConfig {
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("저장된 토큰으로 재발급하면 새 토큰으로 교체되고, 새 토큰으로 다시 재발급할 수 있다.")
+    void rotate_Success() {
+        refreshTokenStore.save(1L, "device-a", "token-1", TTL);
+
+        refreshTokenStore.rotate(1L, "device-a", "token-1", "token-2", TTL);
+        refreshTokenStore.rotate(1L, "device-a", "token-2", "token-3", TTL);
+
+        assertThat(refreshTokenStore.hasSession(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 재사용하면 회원의 모든 기기 세션이 폐기된다.")
+    void rotate_Failure_ReusedToken() {
+        refreshTokenStore.save(2L, "device-a", "token-1", TTL);
+        refreshTokenStore.save(2L, "device-b", "token-b", TTL);
+        refreshTokenStore.rotate(2L, "device-a", "token-1", "token-2", TTL);
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(2L, "device-a", "token-1", "token-x", TTL))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.REUSED_REFRESH_TOKEN.getMessage());
+        assertThatThrownBy(() -> refreshTokenStore.rotate(2L, "device-a", "token-2", "token-3", TTL))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+        assertThatThrownBy(() -> refreshTokenStore.rotate(2L, "device-b", "token-b", "token-b2", TTL))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+        assertThat(refreshTokenStore.hasSession(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기기 하나를 로그아웃해도 다른 기기 세션은 유지되고, 전체 폐기 시 모두 사라진다.")
+    void revoke_PerDeviceAndAll() {
+        refreshTokenStore.save(3L, "device-a", "token-a", TTL);
+        refreshTokenStore.save(3L, "device-b", "token-b", TTL);
+
+        refreshTokenStore.revoke(3L, "device-a");
+        assertThatThrownBy(() -> refreshTokenStore.rotate(3L, "device-a", "token-a", "token-a2", TTL))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+        refreshTokenStore.rotate(3L, "device-b", "token-b", "token-b2", TTL);
+
+        refreshTokenStore.revokeAll(3L);
+        assertThat(refreshTokenStore.hasSession(3L)).isFalse();
+        assertThatThrownBy(() -> refreshTokenStore.rotate(3L, "device-b", "token-b2", "token-b3", TTL))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+    }
+
+    private static RedisServer startRedis() {
+        RedisServer server = new RedisServer(PORT);
+        server.start();
+        return server;
+    }
+
+    private static int findAvailablePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package balancetalk.global.outbox.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEventType;
+import balancetalk.global.outbox.domain.OutboxEvent;
+import balancetalk.global.outbox.domain.OutboxEventRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventPublisherTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    DomainEventPublisher domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        domainEventPublisher = new DomainEventPublisher(outboxEventRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("애그리거트 잠금 행을 잡은 뒤에 아웃박스에 저장해 같은 애그리거트의 이벤트는 커밋 순서대로 id 를 받는다.")
+    void publish_LockAggregateBeforeSave() {
+        // when
+        domainEventPublisher.publish(new PostLikedEvent(1L, 2L));
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        InOrder inOrder = inOrder(outboxEventRepository);
+        inOrder.verify(outboxEventRepository).lockAggregate("POST", 1L);
+        inOrder.verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(DomainEventType.POST_LIKED);
+        assertThat(captor.getValue().getAggregateType()).isEqualTo(AggregateType.POST);
+        assertThat(captor.getValue().getAggregateId()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,182 @@
+package balancetalk.global.outbox.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.OutboxConfig;
+import balancetalk.global.outbox.domain.AggregateType;
+import balancetalk.global.outbox.domain.DomainEventType;
+import balancetalk.global.outbox.domain.OutboxEvent;
+import balancetalk.global.outbox.domain.OutboxEventRepository;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    RedisService redisService;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    OutboxConfig outboxConfig = new OutboxConfig();
+    SimpleMeterRegistry meterRegistry;
+    OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, applicationEventPublisher, redisService,
+                objectMapper, outboxConfig, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("미전달 이벤트를 id 순서대로 애플리케이션 이벤트와 Redis 채널로 전달하고 전달 완료로 표시한다.")
+    void relay_DeliverInOrder() throws Exception {
+        // given
+        givenLeader(true);
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(
+                voteCast(1L, 10L, 100L, 0),
+                voteCast(2L, 20L, 200L, 0)));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        InOrder inOrder = inOrder(applicationEventPublisher);
+        ArgumentCaptor<VoteCastEvent> events = ArgumentCaptor.forClass(VoteCastEvent.class);
+        inOrder.verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(VoteCastEvent::getPostId).containsExactly(10L, 20L);
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisService, times(2)).publish(eq("events:vote"), message.capture());
+        JsonNode first = objectMapper.readTree(message.getAllValues().get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("type").asText()).isEqualTo("VOTE_CAST");
+        assertThat(first.get("payload").get("optionId").asLong()).isEqualTo(100L);
+
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+        assertThat(meterRegistry.counter("outbox.delivered", "type", "VOTE_CAST").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 재시도 시각을 기록하고, 같은 애그리거트의 뒤 이벤트는 보류한다.")
+    void relay_BlockSameAggregateAfterFailure() {
+        // given
+        givenLeader(true);
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(
+                voteCast(1L, 10L, 100L, 0),
+                voteCast(2L, 20L, 200L, 0),
+                voteCast(3L, 10L, 101L, 0)));
+        doThrow(new IllegalStateException("listener failed"))
+                .when(applicationEventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(
+                        event -> event instanceof VoteCastEvent vote && vote.getOptionId() == 100L));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository).markFailed(eq(1L), any());
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), any());
+        verify(redisService, times(1)).publish(eq("events:vote"), any());
+        assertThat(meterRegistry.counter("outbox.delivery.failed", "type", "VOTE_CAST").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("리스너는 전달 중인 아웃박스 id 를 처리 기록 키로 쓸 수 있고, 전달이 끝나면 지워진다.")
+    void relay_ExposeEventIdToListeners() {
+        // given
+        givenLeader(true);
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(voteCast(7L, 10L, 100L, 0)));
+        ProcessedEvents processedEvents = new ProcessedEvents(outboxEventRepository, outboxConfig);
+        List<Long> seen = new ArrayList<>();
+        doAnswer(invocation -> seen.add(processedEvents.currentEventId()))
+                .when(applicationEventPublisher).publishEvent(any(Object.class));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(seen).containsExactly(7L);
+        assertThat(processedEvents.currentEventId()).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 이벤트는 버리고 전달 완료로 표시한다.")
+    void relay_DiscardAfterMaxAttempts() {
+        // given
+        givenLeader(true);
+        when(outboxEventRepository.findUnpublished(any())).thenReturn(List.of(
+                voteCast(1L, 10L, 100L, outboxConfig.getMaxAttempts() - 1)));
+        doThrow(new IllegalStateException("redis down"))
+                .when(redisService).publish(eq("events:vote"), any());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).markFailed(any(), any());
+        verify(outboxEventRepository).markPublished(eq(List.of(1L)), any());
+        assertThat(meterRegistry.counter("outbox.discarded", "type", "VOTE_CAST").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 릴레이 락을 가지고 있으면 전달하지 않는다.")
+    void relay_SkipWhenNotLeader() {
+        // given
+        givenLeader(false);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).findUnpublished(any());
+        assertThat(meterRegistry.get("outbox.lag").gauge().value()).isZero();
+    }
+
+    private void givenLeader(boolean leader) {
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(leader ? 1L : 0L);
+    }
+
+    private OutboxEvent voteCast(Long id, Long postId, Long optionId, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(DomainEventType.VOTE_CAST)
+                .aggregateType(AggregateType.POST)
+                .aggregateId(postId)
+                .payload("{\"postId\":" + postId + ",\"memberId\":1,\"optionId\":" + optionId + "}")
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
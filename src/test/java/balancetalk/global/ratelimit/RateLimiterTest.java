@@ -0,0 +1,124 @@
+package balancetalk.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.redis.application.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    RedisService redisService;
+
+    SimpleMeterRegistry meterRegistry;
+
+    RateLimiter rateLimiter;
+
+    RateLimitPolicy loginPolicy = RateLimitPolicy.of("login", HttpMethod.POST, "/members/login", 2, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(redisService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Redis 버킷이 거절하면 대기 시간을 반환하고 거절 횟수를 기록한다.")
+    void tryAcquire_RejectedByRedis() {
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(0L, 1500L);
+
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "127.0.0.1")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "127.0.0.1")).isEqualTo(1500L);
+        assertThat(meterRegistry.counter("ratelimit.rejected", "policy", "login").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버킷으로 같은 한도를 적용한다.")
+    void tryAcquire_FallbackToLocalBucket() {
+        when(redisService.executeScript(any(), anyList(), any(String[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "127.0.0.1")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "127.0.0.1")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "127.0.0.1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(loginPolicy, "10.0.0.1")).isEqualTo(RateLimiter.ALLOWED);
+        assertThat(meterRegistry.counter("ratelimit.fallback", "policy", "login").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 필터에서 429와 Retry-After 헤더로 응답한다.")
+    void filter_RejectWithRetryAfter() throws ServletException, IOException {
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(1500L);
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, List.of(loginPolicy));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/members/login"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 를 매번 바꿔 보내도 같은 접속 주소는 같은 버킷으로 제한한다.")
+    void filter_IgnoreForwardedFor() throws ServletException, IOException {
+        when(redisService.executeScript(any(), anyList(), any(String[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, List.of(loginPolicy));
+
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(forwardedRequest("203.0.113." + i), new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(forwardedRequest("203.0.113.99"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("정책이 없는 요청은 제한하지 않는다.")
+    void filter_PassWithoutPolicy() throws ServletException, IOException {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, List.of(loginPolicy));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/posts"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private MockHttpServletRequest forwardedRequest(String forwardedFor) {
+        MockHttpServletRequest request = request("POST", "/members/login");
+        request.setRemoteAddr("198.51.100.7");
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package balancetalk.global.redis.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class CompactRedisSerializerTest {
+
+    CompactRedisSerializer serializer = new CompactRedisSerializer();
+
+    @Test
+    @DisplayName("문자열은 따옴표나 타입 정보 없이 UTF-8 그대로 저장된다.")
+    void serialize_StringAsRawBytes() {
+        byte[] bytes = serializer.serialize("인증코드123");
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("인증코드123");
+        assertThat(serializer.deserialize(bytes)).isEqualTo("인증코드123");
+    }
+
+    @Test
+    @DisplayName("정수는 INCR 카운터와 같은 10진수 문자열로 저장된다.")
+    void serialize_LongAsDecimalString() {
+        byte[] bytes = serializer.serialize(42L);
+
+        assertThat(bytes).isEqualTo("42".getBytes(StandardCharsets.UTF_8));
+        assertThat(serializer.deserialize("7".getBytes(StandardCharsets.UTF_8))).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("객체는 CBOR로 저장되고 같은 타입으로 복원된다.")
+    void serialize_ObjectAsCbor() {
+        CachedValue value = new CachedValue(1L, "제목", LocalDateTime.of(2024, 12, 25, 15, 30), List.of("a", "b"));
+
+        byte[] bytes = serializer.serialize(value);
+        Object restored = serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isZero();
+        assertThat(restored).isInstanceOf(CachedValue.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 클래스 이름이 담긴 값은 클래스를 로드하지 않고 거절한다.")
+    void deserialize_RejectNotAllowedType() {
+        byte[] type = "java.lang.ProcessBuilder".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = ByteBuffer.allocate(1 + Short.BYTES + type.length + 1)
+                .put((byte) 0x00)
+                .putShort((short) type.length)
+                .put(type)
+                .put((byte) 0xA0)
+                .array();
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("java.lang.ProcessBuilder");
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 타입은 저장하지 않는다.")
+    void serialize_RejectNotAllowedType() {
+        assertThatThrownBy(() -> serializer.serialize(new StringBuilder("값")))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("null과 빈 값은 서로 변환된다.")
+    void serialize_Null() {
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedValue {
+        private Long id;
+        private String title;
+        private LocalDateTime deadline;
+        private List<String> tags;
+    }
+}
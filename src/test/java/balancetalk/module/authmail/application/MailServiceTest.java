@@ -52,8 +52,8 @@ class MailServiceTest {
     MailService mailService;
 
     private final String email = "test@gmail.com";
-    private static final String TEMP = "temp ";
-    private final String KEY = TEMP + email;
+    private static final String AUTH_CODE_KEY_PREFIX = "mail:auth-code:";
+    private final String KEY = AUTH_CODE_KEY_PREFIX + email;
 
 
 
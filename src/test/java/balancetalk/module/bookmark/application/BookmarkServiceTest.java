@@ -1,12 +1,16 @@
 package balancetalk.module.bookmark.application;
 
 import balancetalk.global.exception.BalanceTalkException;
-import balancetalk.module.bookmark.domain.Bookmark;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.module.bookmark.domain.BookmarkAddedEvent;
+import balancetalk.module.bookmark.domain.BookmarkRemovedEvent;
 import balancetalk.module.bookmark.domain.BookmarkRepository;
 import balancetalk.module.bookmark.dto.BookmarkResponse;
+import balancetalk.module.bookmark.dto.BookmarkStatusResponse;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
-import balancetalk.module.post.domain.Post;
 import balancetalk.module.post.domain.PostRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,15 +20,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
-import static balancetalk.global.exception.ErrorCode.ALREADY_BOOKMARK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +54,15 @@ class BookmarkServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private MemberDeletionService memberDeletionService;
+
     private final String authenticatedEmail = "user@example.com";
 
 
@@ -53,10 +71,10 @@ class BookmarkServiceTest {
         // SecurityContext에 인증된 사용자 설정
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
 
-        when(authentication.getName()).thenReturn(authenticatedEmail);
+        lenient().when(authentication.getName()).thenReturn(authenticatedEmail);
     }
 
     @AfterEach
@@ -69,104 +87,169 @@ class BookmarkServiceTest {
     void createBookmark_Success() {
         // given
         Long postId = 1L;
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
-        Post post = Post.builder().id(postId).build();
-        Bookmark bookmark = Bookmark.builder().member(member).post(post).build();
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
+
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+        when(bookmarkRepository.insertIgnore(1L, postId)).thenReturn(1);
+        executeTransactionWithResult();
+
+        // when
+        bookmarkService.createBookmark(postId);
+
+        // then
+        verify(domainEventPublisher).publish(any(BookmarkAddedEvent.class));
+        verify(postRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴 처리 중인 회원은 북마크할 수 없다.")
+    void createBookmark_Fail_MemberDeletionInProgress() {
+        // given
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
+
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+        doThrow(new BalanceTalkException(ErrorCode.MEMBER_DELETION_IN_PROGRESS))
+                .when(memberDeletionService).validateNotDeleting(member.getId());
+
+        // when, then
+        assertThatThrownBy(() -> bookmarkService.createBookmark(1L))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.MEMBER_DELETION_IN_PROGRESS.getMessage());
+        verify(bookmarkRepository, never()).insertIgnore(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 북마크한 게시글을 다시 북마크하면 아무것도 바꾸지 않는다.")
+    void createBookmark_AlreadyBookmarked() {
+        // given
+        Long postId = 1L;
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(bookmarkRepository.save(any(Bookmark.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookmarkRepository.insertIgnore(1L, postId)).thenReturn(0);
+        when(postRepository.existsById(postId)).thenReturn(true);
+        executeTransactionWithResult();
 
         // when
-        Bookmark response = bookmarkService.createBookmark(postId);
+        bookmarkService.createBookmark(postId);
 
         // then
-        assertThat(response.getMember()).isEqualTo(member);
-        assertThat(response.getPost()).isEqualTo(post);
+        verify(domainEventPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("북마크 등록 실패 - 존재하지 않는 게시글")
+    void createBookmark_Fail_NotFoundPost() {
+        // given
+        Long postId = 1L;
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
+
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+        when(bookmarkRepository.insertIgnore(1L, postId)).thenReturn(0);
+        when(postRepository.existsById(postId)).thenReturn(false);
+        executeTransactionWithResult();
+
+        // when
+        // then
+        assertThatThrownBy(() -> bookmarkService.createBookmark(postId))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining("존재하지 않는 게시글입니다.");
     }
 
     @Test
     @DisplayName("북마크 조회 성공")
     void findAllByMember_Success() {
         // given
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
+        PageRequest pageable = PageRequest.of(0, 10);
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(bookmarkRepository.findByMember(member)).thenReturn(new ArrayList<>());
+        when(bookmarkRepository.findHistoryByMemberId(1L, pageable)).thenReturn(Page.empty(pageable));
 
         // when
-        List<BookmarkResponse> result = bookmarkService.findAllByMember();
+        Page<BookmarkResponse> result = bookmarkService.findAllByMember(pageable);
 
         // then
         assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("북마크 삭제 성공")
-    void deleteById_Success() {
+    @DisplayName("북마크 여부는 요청한 게시글 순서대로 한 번에 조회한다.")
+    void findStatuses_KeepRequestOrder() {
         // given
-        Long postId = 1L;
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
-        Post post = Post.builder().id(postId).build();
-        Bookmark bookmark = Bookmark.builder().member(member).post(post).build();
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
+        List<Long> postIds = List.of(3L, 1L, 2L);
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(bookmarkRepository.findByMemberAndPostId(member, postId)).thenReturn(Optional.of(bookmark));
+        when(bookmarkRepository.findBookmarkedPostIds(1L, postIds)).thenReturn(List.of(2L, 3L));
 
         // when
-        bookmarkService.deleteByPostId(postId);
+        List<BookmarkStatusResponse> result = bookmarkService.findStatuses(postIds);
 
         // then
-        verify(bookmarkRepository).delete(bookmark);
+        assertThat(result).extracting(BookmarkStatusResponse::getPostId).containsExactly(3L, 1L, 2L);
+        assertThat(result).extracting(BookmarkStatusResponse::isBookmarked).containsExactly(true, false, true);
     }
 
     @Test
-    @DisplayName("북마크 등록 실패 - 이미 북마크한 게시글")
-    void createBookmark_Fail_AlreadyBookmarked() {
+    @DisplayName("북마크 여부 조회 실패 - 100개 초과")
+    void findStatuses_Fail_ExceedSize() {
+        // given
+        List<Long> postIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when
+        // then
+        assertThatThrownBy(() -> bookmarkService.findStatuses(postIds))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining("100개까지");
+        verify(bookmarkRepository, never()).findBookmarkedPostIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("북마크 삭제 성공")
+    void deleteById_Success() {
         // given
         Long postId = 1L;
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
-        Post post = Post.builder().id(postId).build();
-        Bookmark bookmark = Bookmark.builder().member(member).post(post).build();
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(bookmarkRepository.save(any(Bookmark.class))).thenThrow(new BalanceTalkException(ALREADY_BOOKMARK));
+        when(bookmarkRepository.deleteByMemberIdAndPostId(1L, postId)).thenReturn(1);
+        executeTransaction();
 
         // when
+        bookmarkService.deleteByPostId(postId);
+
         // then
-        assertThatThrownBy(() -> bookmarkService.createBookmark(postId))
-                .isInstanceOf(BalanceTalkException.class)
-                .hasMessageContaining("이미 북마크한 게시글입니다.");
+        verify(domainEventPublisher).publish(any(BookmarkRemovedEvent.class));
     }
 
     @Test
-    @DisplayName("북마크 등록 실패 - 존재하지 않는 게시글")
-    void createBookmark_Fail_NotFoundPost() {
+    @DisplayName("북마크하지 않은 게시글의 북마크를 삭제해도 실패하지 않고 이벤트도 남기지 않는다.")
+    void deleteById_NotBookmarked() {
         // given
         Long postId = 1L;
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
-        Bookmark bookmark = Bookmark.builder().member(member).post(Post.builder().id(postId).build()).build();
+        Member member = Member.builder().id(1L).email(authenticatedEmail).build();
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(bookmarkRepository.deleteByMemberIdAndPostId(1L, postId)).thenReturn(0);
+        executeTransaction();
 
         // when
+        bookmarkService.deleteByPostId(postId);
+
         // then
-        assertThatThrownBy(() -> bookmarkService.createBookmark(postId))
-                .isInstanceOf(BalanceTalkException.class)
-                .hasMessageContaining("존재하지 않는 게시글입니다.");
+        verify(domainEventPublisher, never()).publish(any());
     }
 
     @Test
     @DisplayName("북마크 조회 실패 - 존재하지 않는 회원")
     void findAllByMember_Fail_NotFoundMember() {
-        // given;
+        // given
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.empty());
 
         // when
         // then
-        assertThatThrownBy(() -> bookmarkService.findAllByMember())
+        assertThatThrownBy(() -> bookmarkService.findAllByMember(PageRequest.of(0, 10)))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining("존재하지 않는 회원입니다.");
     }
@@ -185,20 +268,16 @@ class BookmarkServiceTest {
                 .hasMessageContaining("존재하지 않는 회원입니다.");
     }
 
-    @Test
-    @DisplayName("북마크 삭제 실패 - 회원 북마크 리스트에 존재하지 않는 북마크")
-    void deleteById_Fail_NotFoundBookmark() {
-        // given
-        Long postId = 1L;
-        Member member = Member.builder().email(authenticatedEmail).bookmarks(new ArrayList<>()).build();
-
-        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(bookmarkRepository.findByMemberAndPostId(member, postId)).thenReturn(Optional.empty());
+    @SuppressWarnings("unchecked")
+    private void executeTransaction() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
 
-        // when
-        // then
-        assertThatThrownBy(() -> bookmarkService.deleteByPostId(postId))
-                .isInstanceOf(BalanceTalkException.class)
-                .hasMessageContaining("해당 게시글에서 북마크한 기록이 존재하지 않습니다.");
+    private void executeTransactionWithResult() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
-}
\ No newline at end of file
+}
@@ -8,11 +8,17 @@ import static org.mockito.Mockito.*;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.module.ViewStatus;
 import balancetalk.module.comment.domain.Comment;
+import balancetalk.module.comment.domain.CommentCreatedEvent;
 import balancetalk.module.comment.domain.CommentLikeRepository;
 import balancetalk.module.comment.domain.CommentRepository;
 import balancetalk.module.comment.dto.CommentRequest;
 import balancetalk.module.comment.dto.CommentResponse;
+import balancetalk.module.comment.dto.CommentThreadResponse;
+import balancetalk.module.comment.dto.ReplyCreateRequest;
+import balancetalk.module.comment.dto.ReplyResponse;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
 import balancetalk.module.post.domain.BalanceOption;
@@ -32,9 +38,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -57,6 +66,9 @@ class CommentServiceTest {
     @Mock
     private VoteRepository voteRepository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     private final String authenticatedEmail = "user@example.com";
 
 
@@ -90,7 +102,7 @@ class CommentServiceTest {
 
         when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(voteRepository.findByMemberIdAndBalanceOption_PostId(member.getId(), postId)).thenReturn(Optional.of(vote));
+        when(voteRepository.findByMemberIdAndPostId(member.getId(), postId)).thenReturn(Optional.of(vote));
         when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -101,6 +113,7 @@ class CommentServiceTest {
         assertThat(response.getMember()).isEqualTo(member);
         assertThat(response.getPost()).isEqualTo(post);
         verify(commentRepository).save(any(Comment.class));
+        verify(domainEventPublisher).publish(any(CommentCreatedEvent.class));
     }
 
 //    @Test
@@ -121,7 +134,7 @@ class CommentServiceTest {
 //
 //        when(commentRepository.findAllByPostId(postId, null)).thenReturn(comments);
 //        when(postRepository.findById(postId)).thenReturn(Optional.of(mockPost));
-//        when(voteRepository.findByMemberIdAndBalanceOption_PostId(memberId, postId)).thenReturn(Optional.of(vote));
+//        when(voteRepository.findByMemberIdAndPostId(memberId, postId)).thenReturn(Optional.of(vote));
 //
 //        // when
 //        Page<CommentResponse> responses = commentService.findAllComments(postId, null);
@@ -266,45 +279,6 @@ class CommentServiceTest {
                 .hasMessageContaining("존재하지 않는 게시글입니다.");
     }
 
-    @Test
-    @DisplayName("사용자가 특정 댓글에 추천을 누르면 해당 댓글 id가 반환된다.")
-    void createCommentLike_Success() {
-        // given
-        Comment comment = Comment.builder()
-                .id(1L)
-                .build();
-        Member member = Member.builder().email(authenticatedEmail).votes(List.of()).build();
-
-        when(commentRepository.findById(any())).thenReturn(Optional.of(comment));
-        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-
-        // when
-        Long likedCommentId = commentService.likeComment(1L, comment.getId());
-
-        // then
-        assertThat(likedCommentId).isEqualTo(comment.getId());
-    }
-
-    @Test
-    @DisplayName("댓글 중복 추천 시 예외 발생")
-    void createCommentLike_Fail_ByAlreadyLikeComment() {
-        // given
-        Comment comment = Comment.builder()
-                .id(1L)
-                .build();
-        Member member = Member.builder().email(authenticatedEmail).votes(List.of()).build();
-
-        when(commentRepository.findById(any())).thenReturn(Optional.of(comment));
-        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
-        when(commentLikeRepository.existsByMemberAndComment(member, comment))
-                .thenThrow(new BalanceTalkException(ErrorCode.ALREADY_LIKE_COMMENT));
-
-        // when, then
-        assertThatThrownBy(() -> commentService.likeComment(1L, comment.getId()))
-                .isInstanceOf(BalanceTalkException.class)
-                .hasMessageContaining(ErrorCode.ALREADY_LIKE_COMMENT.getMessage());
-    }
-
     @Test
     @DisplayName("댓글 수정 실패 - 권한 없음")
     void updateComment_Fail_ForbiddenModify() {
@@ -390,4 +364,172 @@ class CommentServiceTest {
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(NOT_FOUND_COMMENT_AT_THAT_POST.getMessage());
     }
+
+    @Test
+    @DisplayName("답글 작성 실패 - 부모 댓글이 최대 깊이에 도달")
+    void createReply_Fail_ExceedMaxDepth() {
+        // given
+        ReflectionTestUtils.setField(commentService, "maxDepth", 1);
+        Post post = Post.builder().id(1L).build();
+        Comment parent = Comment.builder().id(2L).post(post).depth(1).rootId(1L).build();
+        Member member = Member.builder().email(authenticatedEmail).build();
+
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(commentRepository.findById(parent.getId())).thenReturn(Optional.of(parent));
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+
+        // when, then
+        assertThatThrownBy(() -> commentService.createReply(post.getId(), parent.getId(),
+                new ReplyCreateRequest("답글", null, parent.getId())))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.EXCEED_MAX_DEPTH.getMessage());
+    }
+
+    @Test
+    @DisplayName("답글 작성 시 부모 댓글의 깊이와 최상위 댓글 id를 이어받는다")
+    void createReply_Success_InheritsDepthAndRoot() {
+        // given
+        ReflectionTestUtils.setField(commentService, "maxDepth", 2);
+        Post post = Post.builder().id(1L).build();
+        Comment parent = Comment.builder().id(2L).post(post).build();
+        Member member = Member.builder().email(authenticatedEmail).build();
+
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(commentRepository.findById(parent.getId())).thenReturn(Optional.of(parent));
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Comment reply = commentService.createReply(post.getId(), parent.getId(),
+                new ReplyCreateRequest("답글", null, parent.getId()));
+
+        // then
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(reply.getRootId()).isEqualTo(parent.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 목록의 추천 여부와 작성자 선택지는 목록 단위로 한 번씩 조회한다")
+    void findAllComments_LookUpLikesAndOptionsOnce() {
+        // given
+        Member viewer = Member.builder().id(1L).email(authenticatedEmail).build();
+        Member writer = Member.builder().id(2L).nickname("작성자").build();
+        Post post = Post.builder().id(1L).build();
+        Comment liked = Comment.builder().id(10L).post(post).member(writer)
+                .likes(new ArrayList<>()).replies(new ArrayList<>()).build();
+        Comment other = Comment.builder().id(11L).post(post)
+                .likes(new ArrayList<>()).replies(new ArrayList<>()).build();
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(commentRepository.findAllByPostIdAndViewStatusAndParentIsNull(post.getId(), ViewStatus.NORMAL, pageable))
+                .thenReturn(new PageImpl<>(List.of(liked, other), pageable, 2));
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(viewer));
+        when(commentLikeRepository.findLikedCommentIds(viewer.getId(), List.of(10L, 11L))).thenReturn(List.of(10L));
+        when(voteRepository.findSelectedOptionIds(post.getId(), List.of(writer.getId())))
+                .thenReturn(List.<Object[]>of(new Object[]{writer.getId(), 5L}));
+
+        // when
+        Page<CommentResponse> result = commentService.findAllComments(post.getId(), "token", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(CommentResponse::isMyLike).containsExactly(true, false);
+        assertThat(result.getContent()).extracting(CommentResponse::getSelectedOptionId).containsExactly(5L, null);
+        verify(memberRepository, times(1)).findByEmail(authenticatedEmail);
+        verify(voteRepository, never()).findByMemberIdAndPostId(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않고 답글 목록을 조회하면 추천 여부는 조회하지 않고 작성자 선택지만 한 번에 조회한다")
+    void findAllReplies_WithoutToken() {
+        // given
+        Member writer = Member.builder().id(2L).nickname("작성자").build();
+        Post post = Post.builder().id(1L).build();
+        Comment parent = Comment.builder().id(10L).post(post).build();
+        Comment reply = Comment.builder().id(11L).post(post).member(writer).parent(parent)
+                .likes(new ArrayList<>()).build();
+
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(commentRepository.findAllByPostIdAndViewStatusAndParentId(post.getId(), ViewStatus.NORMAL, parent.getId()))
+                .thenReturn(List.of(reply));
+        when(voteRepository.findSelectedOptionIds(post.getId(), List.of(writer.getId())))
+                .thenReturn(List.<Object[]>of(new Object[]{writer.getId(), 5L}));
+
+        // when
+        List<ReplyResponse> result = commentService.findAllReplies(post.getId(), parent.getId(), null);
+
+        // then
+        assertThat(result).extracting(ReplyResponse::getSelectedOptionId).containsExactly(5L);
+        assertThat(result).extracting(ReplyResponse::isMyLike).containsExactly(false);
+        verify(commentLikeRepository, never()).findLikedCommentIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 시 한 번의 조회 결과를 트리로 조립한다")
+    void findThread_Success() {
+        // given
+        ReflectionTestUtils.setField(commentService, "maxDepth", 2);
+        Member writer = Member.builder().id(1L).nickname("작성자").build();
+        Post post = Post.builder().id(1L).build();
+        Comment root = Comment.builder().id(10L).post(post).member(writer).build();
+        Comment reply = Comment.builder().id(11L).post(post).member(writer).parent(root).depth(1).rootId(10L).build();
+        Comment nested = Comment.builder().id(12L).post(post).parent(reply).depth(2).rootId(10L).build();
+        List<Long> commentIds = List.of(10L, 11L, 12L);
+
+        when(commentRepository.findById(root.getId())).thenReturn(Optional.of(root));
+        when(commentRepository.findThread(root.getId(), 2, ViewStatus.NORMAL)).thenReturn(List.of(root, reply, nested));
+        when(commentLikeRepository.countByCommentIds(commentIds))
+                .thenReturn(List.<Object[]>of(new Object[]{11L, 3L}));
+        when(voteRepository.findSelectedOptionIds(post.getId(), List.of(writer.getId())))
+                .thenReturn(List.<Object[]>of(new Object[]{writer.getId(), 5L}));
+
+        // when
+        CommentThreadResponse response = commentService.findThread(post.getId(), root.getId(), null);
+
+        // then
+        assertThat(response.getId()).isEqualTo(root.getId());
+        assertThat(response.getSelectedOptionId()).isEqualTo(5L);
+        assertThat(response.getReplies()).extracting(CommentThreadResponse::getId).containsExactly(11L);
+        CommentThreadResponse child = response.getReplies().get(0);
+        assertThat(child.getLikesCount()).isEqualTo(3L);
+        assertThat(child.getReplies()).extracting(CommentThreadResponse::getId).containsExactly(12L);
+        assertThat(child.getReplies().get(0).getMemberName()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 시 블라인드된 답글은 그 아래 답글과 함께 제외하고, 내용도 내보내지 않는다")
+    void findThread_HideBlindReply() {
+        // given
+        ReflectionTestUtils.setField(commentService, "maxDepth", 2);
+        Post post = Post.builder().id(1L).build();
+        Comment root = Comment.builder().id(10L).post(post).content("원댓글").viewStatus(ViewStatus.NORMAL).build();
+        Comment blindReply = Comment.builder().id(11L).post(post).parent(root).depth(1).rootId(10L)
+                .content("블라인드 답글").viewStatus(ViewStatus.BLIND).build();
+        Comment nested = Comment.builder().id(12L).post(post).parent(blindReply).depth(2).rootId(10L)
+                .content("답글의 답글").viewStatus(ViewStatus.NORMAL).build();
+
+        when(commentRepository.findById(root.getId())).thenReturn(Optional.of(root));
+        when(commentRepository.findThread(root.getId(), 2, ViewStatus.NORMAL)).thenReturn(List.of(root, nested));
+
+        // when
+        CommentThreadResponse response = commentService.findThread(post.getId(), root.getId(), null);
+
+        // then
+        assertThat(response.getReplies()).isEmpty();
+        assertThat(CommentThreadResponse.fromEntity(blindReply, null, 0, false).getContent()).isNull();
+    }
+
+    @Test
+    @DisplayName("블라인드된 댓글의 스레드를 조회하면 예외가 발생한다")
+    void findThread_Fail_ByBlindComment() {
+        // given
+        Post post = Post.builder().id(1L).build();
+        Comment blind = Comment.builder().id(10L).post(post).viewStatus(ViewStatus.BLIND).build();
+        when(commentRepository.findById(blind.getId())).thenReturn(Optional.of(blind));
+
+        // when, then
+        assertThatThrownBy(() -> commentService.findThread(post.getId(), blind.getId(), null))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.NOT_FOUND_COMMENT.getMessage());
+    }
 }
@@ -0,0 +1,96 @@
+package balancetalk.module.feed.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.FeedConfig;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.feed.domain.FeedPost;
+import balancetalk.module.feed.domain.TagAffinity;
+import balancetalk.module.post.domain.PostCategory;
+import balancetalk.module.post.domain.PostLikeCanceledEvent;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedAffinityServiceTest {
+
+    @InjectMocks
+    FeedAffinityService feedAffinityService;
+
+    @Mock
+    FeedPostFinder feedPostFinder;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    PostLikeRepository postLikeRepository;
+
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    ProcessedEvents processedEvents;
+
+    @Spy
+    FeedConfig feedConfig = new FeedConfig();
+
+    @Test
+    @DisplayName("추천 취소 이벤트는 게시글의 태그와 카테고리 선호도를 추천 가중치만큼 빼고 피드를 오래된 것으로 표시한다.")
+    void onPostLikeCanceled_DecreaseAffinity() {
+        // given
+        when(feedPostFinder.findAllById(List.of(1L))).thenReturn(List.of(
+                new FeedPost(1L, PostCategory.DISCUSSION, 2L, LocalDateTime.now(), List.of(10L, 11L), 0)));
+
+        // when
+        feedAffinityService.onPostLikeCanceled(new PostLikeCanceledEvent(1L, 3L));
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisService).executeScript(any(), eq(List.of("feed:{3}:affinity", "feed:{3}:stale")), args.capture());
+        List<String> deltas = List.of(args.getValue()).subList(3, args.getValue().length);
+        assertThat(deltas).containsExactlyInAnyOrder("category:DISCUSSION", "-2.0", "tag:10", "-2.0", "tag:11", "-2.0");
+    }
+
+    @Test
+    @DisplayName("선호도가 없으면 최근 투표/추천/북마크 이력으로 계산해 저장한다.")
+    void findAffinity_CalculateFromHistory() {
+        // given
+        when(redisService.getHashEntries("feed:{3}:affinity")).thenReturn(Map.of("tag:10", "1.0"));
+        when(voteRepository.findRecentPostIdsByMemberId(eq(3L), any())).thenReturn(List.of(1L));
+        when(postLikeRepository.findRecentPostIdsByMemberId(eq(3L), any())).thenReturn(List.of(1L));
+        when(bookmarkRepository.findRecentPostIdsByMemberId(eq(3L), any())).thenReturn(List.of());
+        when(feedPostFinder.findAllById(anyList())).thenReturn(List.of(
+                new FeedPost(1L, PostCategory.CASUAL, 2L, LocalDateTime.now(), List.of(10L), 0)));
+
+        // when
+        TagAffinity affinity = feedAffinityService.findAffinity(3L);
+
+        // then
+        FeedPost post = new FeedPost(9L, PostCategory.CASUAL, 2L, LocalDateTime.now(), List.of(10L), 0);
+        assertThat(affinity.score(post, 0.5)).isEqualTo(3.0 + 0.5 * 3.0);
+        verify(redisService).setHashOps(eq("feed:{3}:affinity"), eq(affinity.toHash()), any());
+    }
+}
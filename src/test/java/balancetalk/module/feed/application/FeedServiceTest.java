@@ -0,0 +1,221 @@
+package balancetalk.module.feed.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.FeedConfig;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.feed.domain.FeedPost;
+import balancetalk.module.feed.domain.TagAffinity;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostCategory;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @InjectMocks
+    FeedService feedService;
+
+    @Mock
+    FeedAffinityService feedAffinityService;
+
+    @Mock
+    FeedPostFinder feedPostFinder;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    PostLikeRepository postLikeRepository;
+
+    @Mock
+    RedisService redisService;
+
+    @Spy
+    FeedConfig feedConfig = new FeedConfig();
+
+    private final String authenticatedEmail = "user@example.com";
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        lenient().when(authentication.getName()).thenReturn(authenticatedEmail);
+
+        member = Member.builder()
+                .id(1L)
+                .email(authenticatedEmail)
+                .votes(new ArrayList<>())
+                .bookmarks(new ArrayList<>())
+                .postLikes(new ArrayList<>())
+                .build();
+        when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+        lenient().when(postRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Post> posts = new ArrayList<>();
+            for (Object postId : (Iterable<?>) invocation.getArgument(0)) {
+                posts.add(createPost((Long) postId));
+            }
+            return posts;
+        });
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("만들어 둔 피드가 있으면 점수를 다시 계산하지 않고 요청한 구간의 게시글만 순서대로 조회한다.")
+    void findFeed_ReadPrecomputedSlice() {
+        // given
+        when(redisService.executePipelined(any())).thenReturn(List.of(false, 12L, List.of("7", "3"), false));
+
+        // when
+        Page<PostResponse> feed = feedService.findFeed(PageRequest.of(1, 2));
+
+        // then
+        assertThat(feed.getContent()).extracting(PostResponse::getId).containsExactly(7L, 3L);
+        assertThat(feed.getTotalElements()).isEqualTo(12L);
+        verify(feedPostFinder, never()).findCandidates(anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요, 북마크, 투표 여부는 회원의 컬렉션이 아니라 페이지의 게시글 id 조회로 채운다.")
+    void findFeed_MarkMyActivityByPostIds() {
+        // given
+        when(redisService.executePipelined(any())).thenReturn(List.of(false, 2L, List.of("7", "3"), false));
+        when(postLikeRepository.findLikedPostIds(eq(1L), anyList())).thenReturn(List.of(7L));
+        when(bookmarkRepository.findBookmarkedPostIds(eq(1L), anyList())).thenReturn(List.of(3L));
+        when(voteRepository.findVotedPostIds(eq(1L), anyList())).thenReturn(List.of(3L));
+
+        // when
+        Page<PostResponse> feed = feedService.findFeed(PageRequest.of(0, 2));
+
+        // then
+        assertThat(feed.getContent())
+                .extracting(PostResponse::getId, PostResponse::isMyLike, PostResponse::isMyBookmark,
+                        PostResponse::isMyVote)
+                .containsExactly(tuple(7L, true, false, false), tuple(3L, false, true, true));
+    }
+
+    @Test
+    @DisplayName("추천할 게시글이 없어 빈 피드 표시가 남아 있으면 다시 만들지 않는다.")
+    void findFeed_CachedEmptyFeed() {
+        // given
+        when(redisService.executePipelined(any())).thenReturn(List.of(false, 0L, List.of(), true));
+
+        // when
+        Page<PostResponse> feed = feedService.findFeed(PageRequest.of(0, 2));
+
+        // then
+        assertThat(feed.getContent()).isEmpty();
+        assertThat(feed.getTotalElements()).isZero();
+        verify(feedPostFinder, never()).findCandidates(anyInt());
+    }
+
+    @Test
+    @DisplayName("다시 만든 피드가 비어 있으면 피드 TTL 동안 빈 피드 표시를 남긴다.")
+    void findFeed_MarkEmptyFeed() {
+        // given
+        when(redisService.executePipelined(any())).thenReturn(List.of(false, 0L, List.of(), false));
+        when(feedAffinityService.findAffinity(1L)).thenReturn(TagAffinity.fromHash(Map.of()));
+        when(feedPostFinder.findCandidates(anyInt())).thenReturn(List.of());
+
+        // when
+        Page<PostResponse> feed = feedService.findFeed(PageRequest.of(0, 2));
+
+        // then
+        assertThat(feed.getContent()).isEmpty();
+        verify(redisService).setValues("feed:{1}:empty", "1", feedConfig.getTtl());
+    }
+
+    @Test
+    @DisplayName("피드가 오래되었으면 선호 태그 게시글이 앞에 오도록 다시 만들고, 본인 글과 투표한 글은 제외한다.")
+    void findFeed_RebuildWhenStale() {
+        // given
+        when(redisService.executePipelined(any())).thenReturn(List.of(true, 3L, List.of("1", "2", "3"), false));
+        when(feedAffinityService.findAffinity(1L)).thenReturn(TagAffinity.fromHash(Map.of(
+                "tag:100", "3.0", TagAffinity.INITIALIZED_FIELD, "1")));
+        LocalDateTime now = LocalDateTime.now();
+        when(feedPostFinder.findCandidates(anyInt())).thenReturn(List.of(
+                new FeedPost(5L, PostCategory.CASUAL, 2L, now, List.of(), 10),
+                new FeedPost(4L, PostCategory.CASUAL, 2L, now.minusHours(1), List.of(100L), 0),
+                new FeedPost(3L, PostCategory.CASUAL, 1L, now, List.of(100L), 0),
+                new FeedPost(2L, PostCategory.CASUAL, 2L, now, List.of(100L), 0),
+                new FeedPost(1L, PostCategory.CASUAL, 2L, now, List.of(), 0)));
+        when(voteRepository.findVotedPostIds(eq(1L), anyList())).thenReturn(List.of(2L));
+
+        // when
+        Page<PostResponse> feed = feedService.findFeed(PageRequest.of(0, 2));
+
+        // then
+        assertThat(feed.getContent()).extracting(PostResponse::getId).containsExactly(4L, 5L);
+        assertThat(feed.getTotalElements()).isEqualTo(3L);
+        verify(redisService).deleteValues("feed:{1}:stale");
+        verify(redisService).replaceList(eq("feed:{1}:posts"), eq(List.of("4", "5", "1")), any());
+    }
+
+    private Post createPost(Long postId) {
+        return Post.builder()
+                .id(postId)
+                .title("게시글" + postId)
+                .viewStatus(ViewStatus.NORMAL)
+                .category(PostCategory.CASUAL)
+                .views(0L)
+                .options(new ArrayList<>())
+                .postTags(new ArrayList<>())
+                .likes(new ArrayList<>())
+                .comments(new ArrayList<>())
+                .member(member)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package balancetalk.module.like.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.module.comment.domain.CommentLikeCanceledEvent;
+import balancetalk.module.comment.domain.CommentLikeRepository;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.like.domain.LikeTargetType;
+import balancetalk.module.like.dto.LikeResponse;
+import balancetalk.module.like.dto.LikeToggleRequest;
+import balancetalk.module.like.dto.LikeToggleRequest.LikeAction;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final String authenticatedEmail = "user@example.com";
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        lenient().when(authentication.getName()).thenReturn(authenticatedEmail);
+
+        member = Member.builder().id(1L).email(authenticatedEmail).build();
+        lenient().when(memberRepository.findByEmail(authenticatedEmail)).thenReturn(Optional.of(member));
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("게시글 추천 시 추천 후의 추천 수를 반환한다")
+    void likePost_Success() {
+        // given
+        Long postId = 1L;
+        when(postLikeRepository.insertIgnore(member.getId(), postId)).thenReturn(1);
+        when(postLikeRepository.countByPostId(postId)).thenReturn(3L);
+
+        // when
+        LikeResponse response = likeService.likePost(postId);
+
+        // then
+        verify(domainEventPublisher).publish(any(PostLikedEvent.class));
+        verify(postRepository, never()).existsById(any());
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikesCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이미 추천한 게시글을 다시 추천해도 예외 없이 현재 추천 수를 반환한다")
+    void likePost_Idempotent_WhenAlreadyLiked() {
+        // given
+        Long postId = 1L;
+        when(postLikeRepository.insertIgnore(member.getId(), postId)).thenReturn(0);
+        when(postRepository.existsById(postId)).thenReturn(true);
+        when(postLikeRepository.countByPostId(postId)).thenReturn(3L);
+
+        // when
+        LikeResponse response = likeService.likePost(postId);
+
+        // then
+        verify(domainEventPublisher, never()).publish(any());
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikesCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 추천 시 예외 발생")
+    void likePost_Fail_PostNotFound() {
+        // given
+        Long postId = 1L;
+        when(postLikeRepository.insertIgnore(member.getId(), postId)).thenReturn(0);
+        when(postRepository.existsById(postId)).thenReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> likeService.likePost(postId))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.NOT_FOUND_POST.getMessage());
+    }
+
+    @Test
+    @DisplayName("댓글 추천 취소는 단일 DELETE로 처리하고 남은 추천 수를 반환한다")
+    void cancelLikeComment_Success() {
+        // given
+        Long commentId = 2L;
+        when(commentLikeRepository.deleteByMemberIdAndCommentId(member.getId(), commentId)).thenReturn(1);
+        when(commentLikeRepository.countByCommentId(commentId)).thenReturn(0L);
+
+        // when
+        LikeResponse response = likeService.cancelLikeComment(commentId);
+
+        // then
+        verify(domainEventPublisher).publish(any(CommentLikeCanceledEvent.class));
+        assertThat(response.isLiked()).isFalse();
+        assertThat(response.getLikesCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("추천 일괄 처리 시 회원은 한 번만 조회하고 요청 순서대로 적용한다")
+    void toggleAll_Success() {
+        // given
+        Long postId = 1L;
+        Long commentId = 2L;
+        when(postLikeRepository.insertIgnore(member.getId(), postId)).thenReturn(1);
+        when(commentLikeRepository.insertIgnore(member.getId(), commentId)).thenReturn(1);
+        when(postLikeRepository.countByPostId(postId)).thenReturn(1L);
+        when(commentLikeRepository.countByCommentId(commentId)).thenReturn(1L, 0L);
+        LikeToggleRequest request = new LikeToggleRequest(List.of(
+                new LikeAction(LikeTargetType.POST, postId, true),
+                new LikeAction(LikeTargetType.COMMENT, commentId, true),
+                new LikeAction(LikeTargetType.COMMENT, commentId, false)));
+
+        // when
+        List<LikeResponse> responses = likeService.toggleAll(request);
+
+        // then
+        verify(memberRepository, times(1)).findByEmail(authenticatedEmail);
+        verify(commentLikeRepository).insertIgnore(member.getId(), commentId);
+        verify(commentLikeRepository).deleteByMemberIdAndCommentId(member.getId(), commentId);
+        assertThat(responses).extracting(LikeResponse::getLikesCount).containsExactly(1L, 1L, 0L);
+    }
+}
@@ -0,0 +1,209 @@
+package balancetalk.module.member.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.comment.domain.CommentLikeRepository;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.file.domain.FileRepository;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.MemberStatsRepository;
+import balancetalk.module.notice.domain.NoticeRepository;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDeletionServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String DELETION_KEY = "member:deletion:" + MEMBER_ID;
+
+    @InjectMocks
+    MemberDeletionService memberDeletionService;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    MemberStatsRepository memberStatsRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PostLikeRepository postLikeRepository;
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    CommentLikeRepository commentLikeRepository;
+
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    ReportRepository reportRepository;
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    FileRepository fileRepository;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(memberDeletionService, "chunkSize", 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> savedStatuses() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisService, atLeastOnce()).setHashOps(eq(DELETION_KEY), captor.capture(), any());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청을 받으면 PENDING 상태를 기록한다.")
+    void markPending() {
+        // when
+        memberDeletionService.markPending(MEMBER_ID);
+
+        // then
+        assertThat(savedStatuses()).containsExactly(Map.of("status", "PENDING", "step", "", "processed", "0"));
+    }
+
+    @Test
+    @DisplayName("연관 데이터를 청크 크기만큼 나눠 정리하고, 청크마다 진행 상황을 기록한 뒤 COMPLETED 로 끝낸다.")
+    void delete_PurgeInChunks() {
+        // given
+        runTransactionsInline();
+        when(postLikeRepository.findIdsByMemberId(eq(MEMBER_ID), any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(memberRepository.findProfilePhotoIdById(MEMBER_ID)).thenReturn(Optional.empty());
+
+        // when
+        memberDeletionService.delete(MEMBER_ID);
+
+        // then
+        verify(postLikeRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(postLikeRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(memberRepository).deleteAllByIdInBatch(List.of(MEMBER_ID));
+        assertThat(savedStatuses()).containsExactly(
+                Map.of("status", "IN_PROGRESS", "step", "POST_LIKES", "processed", "2"),
+                Map.of("status", "IN_PROGRESS", "step", "POST_LIKES", "processed", "3"),
+                Map.of("status", "COMPLETED", "step", "MEMBER", "processed", "4"));
+    }
+
+    @Test
+    @DisplayName("청크 정리 중에 새로 생긴 행은 회원 행을 잠근 마지막 트랜잭션에서 다시 정리한 뒤 회원을 삭제한다.")
+    void delete_SweepBeforeMemberDelete() {
+        // given
+        runTransactionsInline();
+        when(bookmarkRepository.findIdsByMemberId(eq(MEMBER_ID), any()))
+                .thenReturn(List.of(), List.of(9L), List.of());
+        when(memberRepository.findProfilePhotoIdById(MEMBER_ID)).thenReturn(Optional.of(5L));
+
+        // when
+        memberDeletionService.delete(MEMBER_ID);
+
+        // then
+        InOrder inOrder = inOrder(memberRepository, bookmarkRepository, fileRepository);
+        inOrder.verify(memberRepository).findWithLockById(MEMBER_ID);
+        inOrder.verify(bookmarkRepository).deleteAllByIdInBatch(List.of(9L));
+        inOrder.verify(memberRepository).deleteAllByIdInBatch(List.of(MEMBER_ID));
+        inOrder.verify(fileRepository).deleteAllByIdInBatch(List.of(5L));
+        assertThat(savedStatuses()).containsExactly(
+                Map.of("status", "COMPLETED", "step", "MEMBER", "processed", "2"));
+    }
+
+    @Test
+    @DisplayName("정리 도중 실패하면 회원을 삭제하지 않고 FAILED 상태를 기록한다.")
+    void delete_Failure() {
+        // given
+        runTransactionsInline();
+        when(voteRepository.findIdsByMemberId(eq(MEMBER_ID), any())).thenReturn(List.of(7L));
+        when(voteRepository.detachMember(List.of(7L))).thenThrow(new IllegalStateException("lock timeout"));
+
+        // when
+        memberDeletionService.delete(MEMBER_ID);
+
+        // then
+        verify(memberRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(commentRepository, never()).detachMember(anyList());
+        assertThat(savedStatuses()).containsExactly(Map.of("status", "FAILED", "step", "", "processed", "0"));
+    }
+
+    @Test
+    @DisplayName("탈퇴 처리 중인 회원의 쓰기 요청은 예외가 발생한다.")
+    void validateNotDeleting_Fail_InProgress() {
+        // given
+        when(redisService.getHashOps(DELETION_KEY, "status")).thenReturn("IN_PROGRESS");
+
+        // when, then
+        assertThatThrownBy(() -> memberDeletionService.validateNotDeleting(MEMBER_ID))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.MEMBER_DELETION_IN_PROGRESS.getMessage());
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청이 없거나 실패했거나 상태를 읽지 못하면 쓰기를 막지 않는다.")
+    void validateNotDeleting_Allow() {
+        // given
+        when(redisService.getHashOps(DELETION_KEY, "status"))
+                .thenReturn("", "FAILED")
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when, then
+        assertThatNoException().isThrownBy(() -> memberDeletionService.validateNotDeleting(MEMBER_ID));
+        assertThatNoException().isThrownBy(() -> memberDeletionService.validateNotDeleting(MEMBER_ID));
+        assertThatNoException().isThrownBy(() -> memberDeletionService.validateNotDeleting(MEMBER_ID));
+        verify(redisService, times(3)).getHashOps(DELETION_KEY, "status");
+    }
+}
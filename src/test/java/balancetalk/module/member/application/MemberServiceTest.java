@@ -3,12 +3,19 @@ package balancetalk.module.member.application;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
 import balancetalk.global.jwt.JwtTokenProvider;
-import balancetalk.global.redis.application.RedisService;
+import balancetalk.global.jwt.RefreshTokenStore;
+import balancetalk.global.jwt.TokenClaims;
+import balancetalk.global.jwt.TokenType;
 import balancetalk.module.file.domain.File;
 import balancetalk.module.file.domain.FileRepository;
 import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberDeletionStatus;
 import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.MemberStats;
+import balancetalk.module.member.domain.MemberStatsRepository;
+import balancetalk.module.member.domain.Role;
 import balancetalk.module.member.dto.*;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.AfterEach;
@@ -19,8 +26,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -47,7 +56,7 @@ class MemberServiceTest {
     PasswordEncoder passwordEncoder;
 
     @Mock
-    RedisService redisService;
+    RefreshTokenStore refreshTokenStore;
 
     @Mock
     HttpServletRequest request;
@@ -62,10 +71,13 @@ class MemberServiceTest {
     HttpServletResponse response;
 
     @Mock
-    AuthenticationManager authenticationManager;
+    FileRepository fileRepository;
 
     @Mock
-    FileRepository fileRepository;
+    MemberDeletionService memberDeletionService;
+
+    @Mock
+    MemberStatsRepository memberStatsRepository;
 
     @InjectMocks
     MemberService memberService;
@@ -118,6 +130,10 @@ class MemberServiceTest {
         SecurityContextHolder.clearContext();
     }
 
+    private TokenClaims claimsOf(String email) {
+        return new TokenClaims(email, member.getId(), null, null, TokenType.ACCESS);
+    }
+
 
     @Test
     @DisplayName("회원 가입 성공")
@@ -146,30 +162,64 @@ class MemberServiceTest {
         when(memberRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.ofNullable(member));
         when(passwordEncoder.matches(eq(loginRequest.getPassword()), eq(joinRequest.getPassword()))).thenReturn(true);
 
-        when(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(member.getEmail(), member.getPassword()))).thenReturn(authentication);
-        when(jwtTokenProvider.createAccessToken(authentication, member.getId())).thenReturn(accessToken);
-        when(jwtTokenProvider.createRefreshToken(authentication)).thenReturn(refreshToken);
+        when(jwtTokenProvider.createAccessToken(any(Authentication.class), eq(member.getId()))).thenReturn(accessToken);
+        when(request.getHeader("X-Device-Id")).thenReturn("device-1");
+        when(jwtTokenProvider.createRefreshToken(any(Authentication.class), eq(member.getId()), eq("device-1")))
+                .thenReturn(refreshToken);
         // when
-        String result = memberService.login(loginRequest, response);
+        String result = memberService.login(loginRequest, request, response);
 
         // then
         assertThat(result).isEqualTo(accessToken);
+        verify(passwordEncoder, times(1)).matches(loginRequest.getPassword(), joinRequest.getPassword());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해싱 강도가 바뀐 비밀번호는 다시 해싱")
+    void LoginMember_Success_RehashPassword() {
+        // given
+        String rehashedPassword = "$2a$12$rehashedPasswordValueForStrengthTwelve";
+        when(memberRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.ofNullable(member));
+        when(passwordEncoder.matches(loginRequest.getPassword(), joinRequest.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(joinRequest.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode(loginRequest.getPassword())).thenReturn(rehashedPassword);
+
+        // when
+        memberService.login(loginRequest, request, response);
+
+        // then
+        assertThat(member.getPassword()).isEqualTo(rehashedPassword);
     }
 
     @Test
     @DisplayName("로그인 테스트 실패 - 비밀번호 다름")
     void loginFailureWhenWrongPassword() {
         loginRequest.setPassword("wrongPassword!");
-        assertThatThrownBy(() -> memberService.login(loginRequest, response))
+        assertThatThrownBy(() -> memberService.login(loginRequest, request, response))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD.getMessage());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 탈퇴 처리 중인지 확인하지 않고 같은 오류로 실패한다.")
+    void loginFailureWhenWrongPasswordDoesNotRevealDeletion() {
+        // given
+        when(memberRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.ofNullable(member));
+        when(passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())).thenReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> memberService.login(loginRequest, request, response))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessage(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD.getMessage());
+        verify(memberDeletionService, never()).validateNotDeleting(any());
     }
 
     @Test
     @DisplayName("로그인 테스트 실패 - 이메일 다름")
     void loginFailureWhenWrongEmail() {
         loginRequest.setEmail("wrongEmail@gmail.com");
-        assertThatThrownBy(() -> memberService.login(loginRequest, response))
+        assertThatThrownBy(() -> memberService.login(loginRequest, request, response))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessage(ErrorCode.MISMATCHED_EMAIL_OR_PASSWORD.getMessage());
     }
@@ -198,21 +248,74 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("여러 멤버 조회 성공")
+    @DisplayName("여러 멤버 조회 성공 - 활동 수는 페이지 단위로 한 번에 조회")
     void findMultipleMemberSuccess() {
         // given
+        Member admin = Member.builder()
+                .id(1L)
+                .email(member.getEmail())
+                .role(Role.ADMIN)
+                .build();
         Member member2 = Member.builder()
                 .id(2L)
                 .build();
-        when(memberRepository.findAll()).thenReturn(List.of(member, member2));
+        Pageable pageable = PageRequest.of(0, 20);
+        MemberStats stats = MemberStats.builder()
+                .memberId(1L)
+                .postsCount(3)
+                .likesReceivedCount(10)
+                .build();
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(admin));
+        when(memberRepository.findAllWithProfilePhoto(pageable))
+                .thenReturn(new PageImpl<>(List.of(admin, member2), pageable, 2));
+        when(memberStatsRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(stats));
+
+        // when
+        Page<MemberResponse> result = memberService.findAll(pageable);
+
+        // then
+        assertEquals(result.getContent().size(), 2);
+        assertEquals(result.getContent().get(0).getPostsCount(), 3);
+        assertEquals(result.getContent().get(0).getTotalPostLike(), 10);
+        assertEquals(result.getContent().get(0).getLevel(), 2);
+        assertEquals(result.getContent().get(1).getId(), 2L);
+        assertEquals(result.getContent().get(1).getLevel(), 1);
+    }
+
+    @Test
+    @DisplayName("여러 멤버 조회 실패 - 관리자가 아닌 경우")
+    void findMultipleMemberFailureWhenNotAdmin() {
+        // given
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+
+        // when, then
+        assertThatThrownBy(() -> memberService.findAll(PageRequest.of(0, 20)))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.FORBIDDEN_FIND_MEMBERS.getMessage());
+        verify(memberRepository, never()).findAllWithProfilePhoto(any());
+    }
+
+    @Test
+    @DisplayName("마이페이지 요약 - 로그인한 회원의 활동 수를 회원 조회 없이 가져온다.")
+    void findSummarySuccess() {
+        // given
+        when(memberStatsRepository.findByMemberEmail(member.getEmail())).thenReturn(Optional.of(
+                MemberStats.builder()
+                        .memberId(1L)
+                        .postsCount(2)
+                        .commentsCount(4)
+                        .votesCount(7)
+                        .bookmarksCount(1)
+                        .build()));
 
         // when
-        List<MemberResponse> result = memberService.findAll();
+        MemberStatsResponse result = memberService.findSummary();
 
         // then
-        assertEquals(result.size(), 2);
-        assertEquals(result.get(0).getId(), 1L);
-        assertEquals(result.get(1).getId(), 2L);
+        assertEquals(result.getCommentsCount(), 4);
+        assertEquals(result.getBookmarksCount(), 1);
+        assertEquals(result.getLevel(), 1);
+        verify(memberRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -221,8 +324,7 @@ class MemberServiceTest {
         // given
         String newNickname = "새로운닉네임";
 
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
 
         // when
@@ -240,8 +342,7 @@ class MemberServiceTest {
         // given
         String newNickname = "새로운닉네임";
 
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(anotherAccessToken);
-        when(jwtTokenProvider.getPayload(anotherAccessToken)).thenReturn("nonMember@gmail.com");
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf("nonMember@gmail.com"));
 
         // when & then
         assertThatThrownBy(() -> memberService.updateNickname(newNickname, request))
@@ -255,8 +356,7 @@ class MemberServiceTest {
         // given
         String newPassword = "newPassword!";
 
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
 
         // when
@@ -275,8 +375,7 @@ class MemberServiceTest {
         String newPassword = "newPassword!";
 
 
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(anotherAccessToken);
-        when(jwtTokenProvider.getPayload(anotherAccessToken)).thenReturn("nonMember@gmail.com");
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf("nonMember@gmail.com"));
 
         // when & then
         assertThatThrownBy(() -> memberService.updatePassword(newPassword, request))
@@ -288,8 +387,7 @@ class MemberServiceTest {
     @DisplayName("회원 삭제 성공")
     void deleteMemberSuccess() {
         // Given
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
 
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())).thenReturn(true);
@@ -298,7 +396,65 @@ class MemberServiceTest {
         memberService.delete(loginRequest, request);
 
         // then
-        verify(memberRepository, times(1)).deleteByEmail(eq(member.getEmail()));
+        verify(refreshTokenStore).revokeAll(member.getId());
+        verify(memberDeletionService).markPending(member.getId());
+        verify(memberDeletionService).delete(member.getId());
+        verify(memberRepository, never()).deleteByEmail(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴 진행 상태는 회원 행이 지워진 뒤에도 본인이 조회할 수 있다.")
+    void findDeletionStatus_Owner() {
+        // given
+        MemberDeletionResponse status = MemberDeletionResponse.builder()
+                .memberId(member.getId())
+                .status(MemberDeletionStatus.COMPLETED)
+                .build();
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
+        when(memberDeletionService.findStatus(member.getId())).thenReturn(Optional.of(status));
+
+        // when
+        MemberDeletionResponse result = memberService.findDeletionStatus(member.getId(), request);
+
+        // then
+        assertThat(result).isSameAs(status);
+        verify(memberRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("본인이 아니고 관리자도 아니면 다른 회원의 탈퇴 진행 상태를 조회할 수 없다.")
+    void findDeletionStatus_Fail_NotOwner() {
+        // given
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+
+        // when, then
+        assertThatThrownBy(() -> memberService.findDeletionStatus(2L, request))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.FORBIDDEN_FIND_MEMBER_DELETION.getMessage());
+        verify(memberDeletionService, never()).findStatus(any());
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 회원의 탈퇴 진행 상태를 조회할 수 있다.")
+    void findDeletionStatus_Admin() {
+        // given
+        Member admin = Member.builder()
+                .id(3L)
+                .email("admin@gmail.com")
+                .role(Role.ADMIN)
+                .build();
+        MemberDeletionResponse status = MemberDeletionResponse.builder()
+                .memberId(2L)
+                .status(MemberDeletionStatus.IN_PROGRESS)
+                .build();
+        when(jwtTokenProvider.resolveClaims(request))
+                .thenReturn(new TokenClaims(admin.getEmail(), admin.getId(), null, null, TokenType.ACCESS));
+        when(memberRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        when(memberDeletionService.findStatus(2L)).thenReturn(Optional.of(status));
+
+        // when, then
+        assertThat(memberService.findDeletionStatus(2L, request)).isSameAs(status);
     }
 
     @Test
@@ -309,8 +465,7 @@ class MemberServiceTest {
                 .id(2L)
                 .email("stranger@gmail.com")
                 .build();
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
 
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(stranger));
 
@@ -324,8 +479,7 @@ class MemberServiceTest {
     @DisplayName("회원 삭제 실패 - 비밀번호 불일치")
     void deleteMemberFailure_PasswordMismatch() {
         // Given
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
 
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())).thenReturn(false);
@@ -339,12 +493,24 @@ class MemberServiceTest {
     @Test
     @DisplayName("로그아웃 - 성공")
     void logoutMemberSuccess() {
-        // given,
-        lenient().when(redisService.getValues(member.getEmail())).thenReturn(refreshToken);
+        // given
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE, refreshToken)});
+        // when
+        memberService.logout(request, response);
+        // then
+        verify(jwtTokenProvider).revokeRefreshToken(refreshToken);
+        verify(refreshTokenStore, never()).revokeAll(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 리프레시 토큰 쿠키가 없으면 모든 기기 세션 폐기")
+    void logoutMemberSuccess_RevokeAllWithoutCookie() {
+        // given
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
         // when
-        memberService.logout();
+        memberService.logout(request, response);
         // then
-        verify(redisService).deleteValues(member.getEmail());
+        verify(refreshTokenStore).revokeAll(member.getId());
     }
 
     @Test
@@ -354,7 +520,7 @@ class MemberServiceTest {
         when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(null);
 
         // when & then
-        assertThatThrownBy(() -> memberService.logout())
+        assertThatThrownBy(() -> memberService.logout(request, response))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessage(ErrorCode.AUTHENTICATION_REQUIRED.getMessage());
     }
@@ -393,8 +559,7 @@ class MemberServiceTest {
                 .id(2L)
                 .storedName("95323ff4-540c-4778-93a3-3f6aeb5121ce_test.png")
                 .build();
-        when(jwtTokenProvider.resolveToken(request)).thenReturn(accessToken);
-        when(jwtTokenProvider.getPayload(accessToken)).thenReturn(member.getEmail());
+        when(jwtTokenProvider.resolveClaims(request)).thenReturn(claimsOf(member.getEmail()));
         when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
         when(fileRepository.findByStoredName(anyString())).thenReturn(Optional.of(updateFile));
 
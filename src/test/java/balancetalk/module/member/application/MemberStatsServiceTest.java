@@ -0,0 +1,75 @@
+package balancetalk.module.member.application;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.module.member.domain.MemberStatsRepository;
+import balancetalk.module.post.domain.PostLikedEvent;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatsServiceTest {
+
+    @InjectMocks
+    MemberStatsService memberStatsService;
+
+    @Mock
+    MemberStatsRepository memberStatsRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    ProcessedEvents processedEvents;
+
+    @Test
+    @DisplayName("게시글 좋아요는 누른 회원이 아니라 게시글 작성자의 받은 좋아요 수에 더한다.")
+    void onPostLiked_AddToAuthor() {
+        // given
+        when(postRepository.findMemberIdById(10L)).thenReturn(Optional.of(1L));
+        when(processedEvents.markProcessed("member-stats")).thenReturn(true);
+
+        // when
+        memberStatsService.onPostLiked(new PostLikedEvent(10L, 2L));
+
+        // then
+        verify(memberStatsRepository).addCounts(1L, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 이벤트가 다시 전달되면 활동 수를 더하지 않는다.")
+    void onPostLiked_SkipRedelivered() {
+        // given
+        when(postRepository.findMemberIdById(10L)).thenReturn(Optional.of(1L));
+        when(processedEvents.markProcessed("member-stats")).thenReturn(false);
+
+        // when
+        memberStatsService.onPostLiked(new PostLikedEvent(10L, 2L));
+
+        // then
+        verify(memberStatsRepository, never()).addCounts(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("비회원 투표는 활동 수에 더하지 않는다.")
+    void onVoteCast_SkipGuest() {
+        // when
+        memberStatsService.onVoteCast(new VoteCastEvent(10L, null, 100L, LocalDateTime.now()));
+
+        // then
+        verify(memberStatsRepository, never()).addCounts(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+}
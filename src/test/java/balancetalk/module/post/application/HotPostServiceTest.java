@@ -0,0 +1,266 @@
+package balancetalk.module.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.HotPostConfig;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostCategory;
+import balancetalk.module.post.domain.PostLikeRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.dto.PostResponse;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class HotPostServiceTest {
+
+    private static final List<String> RANKING_KEYS =
+            List.of(HotPostService.POINTS_KEY, HotPostService.CREATED_KEY, HotPostService.RANKING_KEY);
+
+    @InjectMocks
+    HotPostService hotPostService;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    PostLikeRepository postLikeRepository;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    ProcessedEvents processedEvents;
+
+    @Spy
+    HotPostConfig hotPostConfig = new HotPostConfig();
+
+    @Test
+    @DisplayName("인기 순위에서 요청한 구간의 게시글을 순위대로 조회하고, 블라인드된 게시글은 순위에서 지운 뒤 다시 읽는다.")
+    void findHotPosts_ReadRankingSlice() {
+        // given
+        when(redisService.executeScript(any(), eq(List.of(HotPostService.RANKING_KEY)), eq("10"), eq("14")))
+                .thenReturn(List.of(23L, "7", "3", "5"), List.of(22L, "7", "3", "9"));
+        when(postRepository.findAllById(List.of(7L, 3L, 5L))).thenReturn(List.of(
+                createPost(3L, ViewStatus.NORMAL), createPost(5L, ViewStatus.BLIND), createPost(7L, ViewStatus.NORMAL)));
+        when(postRepository.findAllById(List.of(7L, 3L, 9L))).thenReturn(List.of(
+                createPost(3L, ViewStatus.NORMAL), createPost(7L, ViewStatus.NORMAL), createPost(9L, ViewStatus.NORMAL)));
+
+        // when
+        Page<PostResponse> posts = hotPostService.findHotPosts(null, PageRequest.of(2, 5));
+
+        // then
+        verify(redisService).executeScript(any(), eq(RANKING_KEYS), eq("5"));
+        assertThat(posts.getContent()).extracting(PostResponse::getId).containsExactly(7L, 3L, 9L);
+        assertThat(posts.getTotalElements()).isEqualTo(22L);
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("로그인한 회원의 좋아요/북마크/투표 여부는 페이지의 게시글 id 로 한 번씩만 조회한다.")
+    void findHotPosts_MarkMyActivityByPostIds() {
+        // given
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn("user@example.com");
+        Member member = Member.builder().id(1L).email("user@example.com").build();
+        when(memberRepository.findByEmail("user@example.com")).thenReturn(Optional.of(member));
+
+        when(redisService.executeScript(any(), eq(List.of(HotPostService.RANKING_KEY)), eq("0"), eq("1")))
+                .thenReturn(List.of(2L, "7", "3"));
+        when(postRepository.findAllById(List.of(7L, 3L)))
+                .thenReturn(List.of(createPost(3L, ViewStatus.NORMAL), createPost(7L, ViewStatus.NORMAL)));
+        when(postLikeRepository.findLikedPostIds(eq(1L), anyList())).thenReturn(List.of(7L));
+        when(bookmarkRepository.findBookmarkedPostIds(eq(1L), anyList())).thenReturn(List.of(3L));
+        when(voteRepository.findVotedPostIds(eq(1L), anyList())).thenReturn(List.of(3L, 7L));
+
+        // when
+        Page<PostResponse> posts = hotPostService.findHotPosts("token", PageRequest.of(0, 2));
+
+        // then
+        assertThat(posts.getContent()).extracting(PostResponse::getId, PostResponse::isMyLike,
+                        PostResponse::isMyBookmark, PostResponse::isMyVote)
+                .containsExactly(tuple(7L, true, false, true), tuple(3L, false, true, true));
+    }
+
+    @Test
+    @DisplayName("다시 읽어도 블라인드된 게시글이 남아 있으면 읽기를 멈추고, 전체 개수에서 보이지 않는 게시글을 뺀다.")
+    void findHotPosts_StopAfterMaxReads() {
+        // given
+        when(redisService.executeScript(any(), eq(List.of(HotPostService.RANKING_KEY)), eq("0"), eq("1")))
+                .thenReturn(List.of(10L, "1", "2"));
+        when(postRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(createPost(1L, ViewStatus.NORMAL), createPost(2L, ViewStatus.BLIND)));
+
+        // when
+        Page<PostResponse> posts = hotPostService.findHotPosts(null, PageRequest.of(0, 2));
+
+        // then
+        verify(redisService, times(3)).executeScript(any(), eq(List.of(HotPostService.RANKING_KEY)), eq("0"), eq("1"));
+        assertThat(posts.getContent()).extracting(PostResponse::getId).containsExactly(1L);
+        assertThat(posts.getTotalElements()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("신고 평가로 블라인드된 게시글은 인기 순위에서 뺀다.")
+    void updateViewStatus_RemoveBlindedPost() {
+        // when
+        hotPostService.updateViewStatus(1L, ViewStatus.BLIND);
+
+        // then
+        verify(redisService).executeScript(any(), eq(RANKING_KEYS), eq("1"));
+        verify(postRepository, never()).findActivityCountsById(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("블라인드가 풀린 게시글은 현재 추천/투표/댓글/조회 수로 인기 순위에 다시 등록한다.")
+    void updateViewStatus_RegisterRestoredPost() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        when(postRepository.findActivityCountsById(eq(1L), eq(ViewStatus.NORMAL), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, createdAt, 0L, 1L, 0L, 0L}));
+
+        // when
+        hotPostService.updateViewStatus(1L, ViewStatus.NORMAL);
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisService).executeScript(any(), eq(RANKING_KEYS), args.capture());
+        assertThat(List.of(args.getValue()).subList(3, 6)).containsExactly("1",
+                String.valueOf(createdAt.atZone(ZoneId.systemDefault()).toEpochSecond()), "3.0");
+    }
+
+    @Test
+    @DisplayName("인기 순위가 비어 있으면 최근 게시글의 추천/투표/댓글/조회 수로 다시 채운다.")
+    void decay_RebuildWhenRankingMissing() {
+        // given
+        when(redisService.setValuesIfAbsent(any(), any(), any())).thenReturn(true);
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn("-1", 1L);
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        when(postRepository.findActivityCountsCreatedAfter(eq(ViewStatus.NORMAL), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, createdAt, 10L, 2L, 5L, 1L}));
+
+        // when
+        hotPostService.decay();
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisService, times(2)).executeScript(any(), anyList(), args.capture());
+        List<String> registered = List.of(args.getAllValues().get(1));
+        // 조회 10 x 0.1 + 추천 2 x 3 + 투표 5 x 1 + 댓글 1 x 2
+        assertThat(registered.subList(3, 6)).containsExactly("1",
+                String.valueOf(createdAt.atZone(ZoneId.systemDefault()).toEpochSecond()), "14.0");
+    }
+
+    @Test
+    @DisplayName("점수 재계산은 HSCAN 커서가 0 으로 돌아올 때까지 같은 시각 기준으로 나눠서 실행한다.")
+    void decay_ScanInBatches() {
+        // given
+        when(redisService.setValuesIfAbsent(any(), any(), any())).thenReturn(true);
+        when(redisService.executeScript(any(), eq(RANKING_KEYS), any(String[].class))).thenReturn("17", "42", "0");
+
+        // when
+        hotPostService.decay();
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisService, times(3)).executeScript(any(), eq(RANKING_KEYS), args.capture());
+        assertThat(args.getAllValues()).extracting(arg -> arg[0]).containsExactly("0", "17", "42");
+        assertThat(args.getAllValues()).extracting(arg -> arg[1]).containsOnly(args.getAllValues().get(0)[1]);
+        verify(postRepository, never()).findActivityCountsCreatedAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("아웃박스 이벤트는 점수와 처리 기록을 같은 스크립트에서 반영해 재전달 시 두 번 더하지 않는다.")
+    void onVoteCast_RecordWithMarker() {
+        // given
+        when(processedEvents.markerKey("hot", "hot-post")).thenReturn("outbox:{hot}:processed:hot-post:9");
+        when(processedEvents.retention()).thenReturn(Duration.ofDays(3));
+
+        // when
+        hotPostService.onVoteCast(new VoteCastEvent(1L, 2L, 10L, LocalDateTime.now()));
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisService).executeScript(any(), eq(List.of(HotPostService.POINTS_KEY, HotPostService.CREATED_KEY,
+                HotPostService.RANKING_KEY, "outbox:{hot}:processed:hot-post:9")), args.capture());
+        assertThat(args.getValue()).endsWith(String.valueOf(Duration.ofDays(3).toMillis()));
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 조회 점수를 반영하지 못해도 게시글 조회는 실패하지 않는다.")
+    void recordView_IgnoreRedisFailure() {
+        // given
+        when(redisService.executeScript(any(), anyList(), any(String[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when, then
+        assertThatCode(() -> hotPostService.recordView(1L)).doesNotThrowAnyException();
+    }
+
+    private Post createPost(Long postId, ViewStatus viewStatus) {
+        return Post.builder()
+                .id(postId)
+                .title("게시글" + postId)
+                .viewStatus(viewStatus)
+                .category(PostCategory.CASUAL)
+                .views(0L)
+                .options(new ArrayList<>())
+                .postTags(new ArrayList<>())
+                .likes(new ArrayList<>())
+                .comments(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package balancetalk.module.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.comment.application.CommentService;
+import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.post.domain.PostResult;
+import balancetalk.module.post.domain.PostResultRepository;
+import balancetalk.module.post.dto.PostResultResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PostResultServiceTest {
+
+    @InjectMocks
+    PostResultService postResultService;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PostResultRepository postResultRepository;
+
+    @Mock
+    CommentService commentService;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postResultService, "closeBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("마감된 게시글을 대기열에서 꺼내 선택지별 득표 수, 최다 득표 선택지, 베스트 댓글을 저장한다.")
+    void closeExpiredPosts_SaveResult() {
+        // given
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().minusMinutes(1))
+                .options(List.of(createOption(10L, "A", 7), createOption(11L, "B", 3)))
+                .build();
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(List.of("1"));
+        givenTransaction();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(commentService.findBestCommentIds(1L, 10L)).thenReturn(List.of(100L, 101L));
+        when(commentService.findBestCommentIds(1L, 11L)).thenReturn(List.of());
+
+        // when
+        postResultService.closeExpiredPosts();
+
+        // then
+        ArgumentCaptor<PostResult> saved = ArgumentCaptor.forClass(PostResult.class);
+        verify(postResultRepository).save(saved.capture());
+        PostResult result = saved.getValue();
+        assertThat(result.getPostId()).isEqualTo(1L);
+        assertThat(result.getTotalVotesCount()).isEqualTo(10);
+        assertThat(result.getWinnerOptionId()).isEqualTo(10L);
+        assertThat(result.getOptions().get(0).getBestCommentIds()).containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("득표 수가 같으면 최다 득표 선택지를 정하지 않는다.")
+    void closeExpiredPosts_NoWinnerOnTie() {
+        // given
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().minusMinutes(1))
+                .options(List.of(createOption(10L, "A", 4), createOption(11L, "B", 4)))
+                .build();
+        when(redisService.executeScript(any(), anyList(), any(String[].class))).thenReturn(List.of("1"));
+        givenTransaction();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        // when
+        postResultService.closeExpiredPosts();
+
+        // then
+        ArgumentCaptor<PostResult> saved = ArgumentCaptor.forClass(PostResult.class);
+        verify(postResultRepository).save(saved.capture());
+        assertThat(saved.getValue().getWinnerOptionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("최종 결과는 처음 조회할 때 DB에서 읽어 만료 시간 없이 캐시한다.")
+    void findResult_CacheWithoutExpiry() {
+        // given
+        PostResult result = PostResult.of(1L, List.of(), LocalDateTime.now());
+        when(postResultRepository.findById(1L)).thenReturn(Optional.of(result));
+
+        // when
+        Optional<PostResultResponse> response = postResultService.findResult(1L);
+
+        // then
+        assertThat(response).isPresent();
+        verify(redisService).setValues(eq("post:result:1"), any());
+        verify(redisService, never()).setValues(eq("post:result:1"), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransaction() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private BalanceOption createOption(Long id, String title, int votesCount) {
+        return BalanceOption.builder()
+                .id(id)
+                .title(title)
+                .votesCount(votesCount)
+                .build();
+    }
+}
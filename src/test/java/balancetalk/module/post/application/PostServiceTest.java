@@ -1,13 +1,22 @@
 package balancetalk.module.post.application;
 
-import balancetalk.global.redis.application.RedisService;
+import balancetalk.global.jwt.RefreshTokenStore;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.bookmark.domain.BookmarkRepository;
 import balancetalk.module.file.domain.File;
 import balancetalk.module.file.domain.FileRepository;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
 import balancetalk.module.post.domain.*;
 import balancetalk.module.post.dto.PostResponse;
 import balancetalk.module.post.dto.PostTagDto;
+import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportCategory;
+import balancetalk.module.report.domain.ReportCreatedEvent;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.report.dto.ReportRequest;
+import balancetalk.module.vote.domain.VoteRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -38,6 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +67,22 @@ class PostServiceTest {
     FileRepository fileRepository;
 
     @Mock
-    RedisService redisService;
+    BookmarkRepository bookmarkRepository;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    ReportRepository reportRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    MemberDeletionService memberDeletionService;
 
     @InjectMocks
     PostService postService;
@@ -123,12 +149,30 @@ class PostServiceTest {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    @DisplayName("게시글 신고 시 신고를 저장하고 블라인드 평가 이벤트를 발행한다.")
+    void reportPost_Success() {
+        // given
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        when(authentication.getName()).thenReturn(member.getEmail());
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+        when(postRepository.findById(post1.getId())).thenReturn(Optional.of(post1));
+        ReportRequest request = new ReportRequest(ReportCategory.ABUSE, "욕설");
+
+        // when
+        postService.reportPost(post1.getId(), request);
+
+        // then
+        verify(reportRepository).save(any(Report.class));
+        verify(eventPublisher).publishEvent(any(ReportCreatedEvent.class));
+    }
+
     @Test
     @DisplayName("게시글 제목으로 검색")
     void searchPostsByTitle() {
         // given
         String keyword = "미어";
-        when(postRepository.findByTitleContaining(keyword)).thenReturn(List.of(post2));
+        when(postRepository.findByTitleContainingAndViewStatus(keyword, ViewStatus.NORMAL)).thenReturn(List.of(post2));
         lenient().when(memberRepository.findByEmail(any())).thenReturn(Optional.ofNullable(member));
 
         // when
@@ -139,12 +183,33 @@ class PostServiceTest {
         assertThat(result.get(0).getTitle()).contains(keyword);
     }
 
+    @Test
+    @DisplayName("로그인한 회원의 좋아요/북마크/투표 여부는 목록의 게시글 id 로 한 번씩만 조회한다.")
+    void searchPostsByTitle_MarkMyActivityByPostIds() {
+        // given
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        when(authentication.getName()).thenReturn(member.getEmail());
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+        when(postRepository.findByTitleContainingAndViewStatus("고", ViewStatus.NORMAL)).thenReturn(List.of(post1, post2));
+        when(postLikeRepository.findLikedPostIds(member.getId(), List.of(1L, 2L))).thenReturn(List.of(2L));
+        when(bookmarkRepository.findBookmarkedPostIds(member.getId(), List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(voteRepository.findVotedPostIds(member.getId(), List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+        // when
+        List<PostResponse> result = postService.findPostsByTitle(accessToken, "고");
+
+        // then
+        assertThat(result).extracting(PostResponse::getId, PostResponse::isMyLike,
+                        PostResponse::isMyBookmark, PostResponse::isMyVote)
+                .containsExactly(tuple(1L, false, true, true), tuple(2L, true, false, true));
+    }
+
     @Test
     @DisplayName("게시글 태그로 검색")
     void searchPostsByTag() {
         // given
         String tagName = "태그1";
-        when(postRepository.findByPostTagsContaining(tagName)).thenReturn(List.of(post1));
+        when(postRepository.findByPostTagsContaining(tagName, ViewStatus.NORMAL)).thenReturn(List.of(post1));
         lenient().when(memberRepository.findByEmail(any())).thenReturn(Optional.ofNullable(member));
 
         // when
@@ -163,7 +228,7 @@ class PostServiceTest {
 //    void postSaveSuccess() {
 //        // given
 //        when(memberRepository.findById(any())).thenReturn(Optional.of(member));
-//        when(redisService.getValues(member.getEmail())).thenReturn(accessToken);
+//        when(refreshTokenStore.hasSession(member.getId())).thenReturn(true);
 //
 //        List<File> images = new ArrayList<>();
 //        images.add(file);
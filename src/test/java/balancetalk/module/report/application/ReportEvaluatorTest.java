@@ -0,0 +1,123 @@
+package balancetalk.module.report.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.ReportConfig;
+import balancetalk.module.ViewStatus;
+import balancetalk.module.comment.domain.CommentRepository;
+import balancetalk.module.post.application.HotPostService;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.report.domain.ReportCategory;
+import balancetalk.module.report.domain.ReportCategoryCount;
+import balancetalk.module.report.domain.ReportCreatedEvent;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.report.domain.ReportStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportEvaluatorTest {
+
+    @Mock
+    ReportRepository reportRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    HotPostService hotPostService;
+
+    ReportEvaluator reportEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        reportEvaluator = new ReportEvaluator(reportRepository, postRepository, commentRepository, new ReportConfig(),
+                hotPostService);
+    }
+
+    @Test
+    @DisplayName("한 카테고리의 신고자 수가 기준 이상이면 게시글을 블라인드한다.")
+    void evaluatePost_Blind() {
+        // given
+        when(reportRepository.existsByPostIdAndStatus(1L, ReportStatus.ACCEPTED)).thenReturn(false);
+        when(reportRepository.countPostReportsByCategory(1L, ReportStatus.REJECTED))
+                .thenReturn(List.of(count(ReportCategory.ABUSE, 2), count(ReportCategory.FRAUD, 3)));
+
+        // when
+        reportEvaluator.onReportCreated(new ReportCreatedEvent(1L, null));
+
+        // then
+        verify(postRepository).updateViewStatus(1L, ViewStatus.BLIND);
+    }
+
+    @Test
+    @DisplayName("게시글 공개 상태가 바뀌면 인기 순위에 반영하고, 그대로면 반영하지 않는다.")
+    void evaluatePost_UpdateHotRanking() {
+        // given
+        when(reportRepository.existsByPostIdAndStatus(any(), eq(ReportStatus.ACCEPTED))).thenReturn(true);
+        when(postRepository.updateViewStatus(1L, ViewStatus.BLIND)).thenReturn(1);
+        when(postRepository.updateViewStatus(2L, ViewStatus.BLIND)).thenReturn(0);
+
+        // when
+        reportEvaluator.evaluatePost(1L);
+        reportEvaluator.evaluatePost(2L);
+
+        // then
+        verify(hotPostService).updateViewStatus(1L, ViewStatus.BLIND);
+        verify(hotPostService, never()).updateViewStatus(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("카테고리별 신고자 수가 모두 기준 미만이면 게시글은 공개 상태다.")
+    void evaluatePost_Normal() {
+        // given
+        when(reportRepository.existsByPostIdAndStatus(1L, ReportStatus.ACCEPTED)).thenReturn(false);
+        when(reportRepository.countPostReportsByCategory(1L, ReportStatus.REJECTED))
+                .thenReturn(List.of(count(ReportCategory.ABUSE, 4), count(ReportCategory.ETC, 9)));
+
+        // when
+        reportEvaluator.evaluatePost(1L);
+
+        // then
+        verify(postRepository).updateViewStatus(1L, ViewStatus.NORMAL);
+    }
+
+    @Test
+    @DisplayName("승인된 신고가 있는 댓글은 신고자 수와 관계없이 블라인드한다.")
+    void evaluateComment_BlindWhenAccepted() {
+        // given
+        when(reportRepository.existsByCommentIdAndStatus(2L, ReportStatus.ACCEPTED)).thenReturn(true);
+
+        // when
+        reportEvaluator.onReportCreated(new ReportCreatedEvent(null, 2L));
+
+        // then
+        verify(commentRepository).updateViewStatus(2L, ViewStatus.BLIND);
+    }
+
+    private ReportCategoryCount count(ReportCategory category, long reporterCount) {
+        return new ReportCategoryCount() {
+            @Override
+            public ReportCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public long getReporterCount() {
+                return reporterCount;
+            }
+        };
+    }
+}
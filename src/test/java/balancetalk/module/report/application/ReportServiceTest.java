@@ -0,0 +1,149 @@
+package balancetalk.module.report.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.module.comment.domain.Comment;
+import balancetalk.module.member.domain.Member;
+import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.member.domain.Role;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.report.domain.Report;
+import balancetalk.module.report.domain.ReportCategory;
+import balancetalk.module.report.domain.ReportRepository;
+import balancetalk.module.report.domain.ReportStatus;
+import balancetalk.module.report.dto.ReportProcessRequest;
+import balancetalk.module.report.dto.ReportResponse;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceTest {
+
+    @Mock
+    ReportRepository reportRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    ReportEvaluator reportEvaluator;
+
+    @InjectMocks
+    ReportService reportService;
+
+    Member admin = Member.builder()
+            .id(1L)
+            .email("admin@gmail.com")
+            .role(Role.ADMIN)
+            .build();
+
+    Member user = Member.builder()
+            .id(2L)
+            .email("user@gmail.com")
+            .role(Role.USER)
+            .build();
+
+    Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("신고를 승인하면 신고된 게시글의 블라인드 여부를 다시 평가한다.")
+    void processReport_Accept() {
+        // given
+        loginAs(admin);
+        Report report = Report.builder()
+                .id(1L)
+                .post(Post.builder().id(10L).build())
+                .category(ReportCategory.ABUSE)
+                .status(ReportStatus.PENDING)
+                .build();
+        when(reportRepository.findById(1L)).thenReturn(Optional.of(report));
+
+        // when
+        ReportResponse response = reportService.processReport(1L, new ReportProcessRequest(ReportStatus.ACCEPTED));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(ReportStatus.ACCEPTED);
+        assertThat(response.getPostId()).isEqualTo(10L);
+        verify(reportEvaluator).evaluatePost(10L);
+    }
+
+    @Test
+    @DisplayName("신고를 반려하면 신고된 댓글의 블라인드 여부를 다시 평가한다.")
+    void processReport_Reject() {
+        // given
+        loginAs(admin);
+        Report report = Report.builder()
+                .id(2L)
+                .comment(Comment.builder().id(20L).build())
+                .category(ReportCategory.ETC)
+                .status(ReportStatus.PENDING)
+                .build();
+        when(reportRepository.findById(2L)).thenReturn(Optional.of(report));
+
+        // when
+        reportService.processReport(2L, new ReportProcessRequest(ReportStatus.REJECTED));
+
+        // then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.REJECTED);
+        verify(reportEvaluator).evaluateComment(20L);
+    }
+
+    @Test
+    @DisplayName("대기 상태로는 신고를 처리할 수 없다.")
+    void processReport_Failure_PendingStatus() {
+        loginAs(admin);
+
+        assertThatThrownBy(() -> reportService.processReport(1L, new ReportProcessRequest(ReportStatus.PENDING)))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.INVALID_REPORT_STATUS.getMessage());
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 신고 목록을 조회할 수 없다.")
+    void findReports_Failure_NotAdmin() {
+        loginAs(user);
+
+        assertThatThrownBy(() -> reportService.findReports(ReportStatus.PENDING, Pageable.ofSize(20)))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessage(ErrorCode.FORBIDDEN_MANAGE_REPORT.getMessage());
+        verify(reportRepository, never()).findAllByStatus(any(), any());
+    }
+
+    private void loginAs(Member member) {
+        when(authentication.getName()).thenReturn(member.getEmail());
+        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+    }
+}
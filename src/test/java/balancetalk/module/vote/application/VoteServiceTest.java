@@ -2,21 +2,33 @@ package balancetalk.module.vote.application;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.outbox.application.DomainEventPublisher;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.member.application.MemberDeletionService;
 import balancetalk.module.member.domain.Member;
 import balancetalk.module.member.domain.MemberRepository;
+import balancetalk.module.post.application.PostResultService;
 import balancetalk.module.post.domain.*;
+import balancetalk.module.post.dto.OptionResultResponse;
+import balancetalk.module.post.dto.PostResultResponse;
 import balancetalk.module.vote.domain.Vote;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import balancetalk.module.vote.domain.VoteChangedEvent;
 import balancetalk.module.vote.domain.VoteRepository;
 import balancetalk.module.vote.dto.VoteRequest;
 import balancetalk.module.vote.dto.VotingStatusResponse;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,14 +40,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class VoteServiceTest {
 
     private final String AUTHENTICATED_EMAIL = "user@example.com";
+    private final String GUEST_FINGERPRINT = "fingerprint";
 
     @InjectMocks
     VoteService voteService;
@@ -52,6 +68,18 @@ class VoteServiceTest {
     @Mock
     PostRepository postRepository;
 
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    PostResultService postResultService;
+
+    @Mock
+    MemberDeletionService memberDeletionService;
+
     @BeforeEach
     void setUp() {
         // SecurityContext에 인증된 사용자 설정
@@ -72,7 +100,7 @@ class VoteServiceTest {
     @DisplayName("회원과 선택지 정보를 바탕으로 투표를 생성한다.")
     void createVote_Success_withMember() {
         // given
-        BalanceOption option = createBalanceOption(1L, "A", List.of());
+        BalanceOption option = createBalanceOption(1L, "A", 0);
         Post post = Post.builder()
                 .id(1L)
                 .deadline(LocalDateTime.now().plusDays(1))
@@ -86,27 +114,30 @@ class VoteServiceTest {
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(option));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
         when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
-        when(voteRepository.save(any())).thenReturn(vote);
+        when(voteRepository.saveAndFlush(any())).thenReturn(vote);
 
         VoteRequest voteRequest = VoteRequest.builder()
                 .selectedOptionId(option.getId())
                 .build();
 
         // when
-        Vote createdVote = voteService.createVote(post.getId(), voteRequest, "token");
+        Vote createdVote = voteService.createVote(post.getId(), voteRequest, "token", null);
 
         // then
         assertThat(createdVote.getMember()).isEqualTo(member);
         assertThat(createdVote.getBalanceOption()).isEqualTo(option);
+        verify(balanceOptionRepository).addVotesCount(option.getId(), 1);
+        verify(domainEventPublisher).publish(any(VoteCastEvent.class));
     }
 
     @Test
     @DisplayName("비회원과 선택지 정보를 바탕으로 투표를 생성한다.")
     void createVote_Success_withGuest() {
         // given
-        BalanceOption option = createBalanceOption(1L, "A", List.of());
+        BalanceOption option = createBalanceOption(1L, "A", 0);
         Post post = Post.builder()
                 .id(1L)
                 .deadline(LocalDateTime.now().plusDays(1))
@@ -118,7 +149,9 @@ class VoteServiceTest {
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(option));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any())).thenReturn(true);
         when(voteRepository.save(any())).thenReturn(vote);
 
         VoteRequest voteRequest = VoteRequest.builder()
@@ -126,7 +159,7 @@ class VoteServiceTest {
                 .build();
 
         // when
-        Vote createdVote = voteService.createVote(post.getId(), voteRequest, null);
+        Vote createdVote = voteService.createVote(post.getId(), voteRequest, null, GUEST_FINGERPRINT);
 
         // then
         assertThat(createdVote.getBalanceOption()).isEqualTo(option);
@@ -139,7 +172,7 @@ class VoteServiceTest {
         when(postRepository.findById(any())).thenThrow(new BalanceTalkException(ErrorCode.NOT_FOUND_POST));
 
         // when, then
-        assertThatThrownBy(()-> voteService.createVote(1L, new VoteRequest(1L), null))
+        assertThatThrownBy(()-> voteService.createVote(1L, new VoteRequest(1L), null, GUEST_FINGERPRINT))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.NOT_FOUND_POST.getMessage());
     }
@@ -153,11 +186,11 @@ class VoteServiceTest {
                 .deadline(LocalDateTime.now().plusDays(1))
                 .build();
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any()))
-                .thenThrow(new BalanceTalkException(ErrorCode.NOT_FOUND_BALANCE_OPTION));
+        when(balanceOptionRepository.existsByIdAndPostId(1L, 1L)).thenReturn(false);
+        when(balanceOptionRepository.existsById(1L)).thenReturn(false);
 
         // when, then
-        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), null))
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), null, GUEST_FINGERPRINT))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.NOT_FOUND_BALANCE_OPTION.getMessage());
     }
@@ -175,11 +208,12 @@ class VoteServiceTest {
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(optionA));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(optionA);
         when(memberRepository.findByEmail(any())).thenThrow(new BalanceTalkException(ErrorCode.NOT_FOUND_MEMBER));
 
         // when, then
-        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), "token"))
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), "token", null))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.NOT_FOUND_MEMBER.getMessage());
     }
@@ -188,9 +222,6 @@ class VoteServiceTest {
     @DisplayName("투표 생성 시 선택지가 다른 게시글의 선택지인 경우 예외가 발생한다.")
     void createVote_Fail_ByPostNotContainsBalanceOption() {
         // given
-        BalanceOption optionInOtherPost = BalanceOption.builder()
-                .id(4L)
-                .build();
         Post post = Post.builder()
                 .id(1L)
                 .deadline(LocalDateTime.now().plusDays(1))
@@ -198,10 +229,11 @@ class VoteServiceTest {
                 .build();
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(4L)).thenReturn(Optional.of(optionInOtherPost));
+        when(balanceOptionRepository.existsByIdAndPostId(4L, 1L)).thenReturn(false);
+        when(balanceOptionRepository.existsById(4L)).thenReturn(true);
 
         // when, then
-        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(4L), null))
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(4L), null, GUEST_FINGERPRINT))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.MISMATCHED_BALANCE_OPTION.getMessage());
     }
@@ -218,59 +250,127 @@ class VoteServiceTest {
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
 
         // when, then
-        assertThatThrownBy(()-> voteService.createVote(1L, any(), null))
+        assertThatThrownBy(()-> voteService.createVote(1L, new VoteRequest(1L), null, GUEST_FINGERPRINT))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.EXPIRED_POST_DEADLINE.getMessage());
     }
 
-//    @Test
-//    @DisplayName("투표 생성 시 이미 투표한 기록이 있는 게시글인 경우 예외가 발생한다.")
-//    void createVote_Fail_ByAlreadyVoted() {
-//        // given
-//        BalanceOption balanceOption = BalanceOption.builder()
-//                .id(1L)
-//                .build();
-//        Post post = Post.builder()
-//                .id(1L)
-//                .deadline(LocalDateTime.now().plusDays(1))
-//                .options(List.of(balanceOption))
-//                .build();
-//        balanceOption.addPost(post);
-//        Vote vote = Vote.builder()
-//                .id(1L)
-//                .balanceOption(balanceOption)
-//                .build();
-//        Member member = Member.builder()
-//                .votes(List.of(vote))
-//                .build();
-//
-//        when(postRepository.findById(any())).thenReturn(Optional.of(post));
-//        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(balanceOption));
-//        when(memberRepository.findByEmail(any())).thenReturn(Optional.of(member));
-//
-//        // when, then
-//        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), null))
-//                .isInstanceOf(BalanceTalkException.class)
-//                .hasMessageContaining(ErrorCode.ALREADY_VOTE.getMessage());
-//    }
+    @Test
+    @DisplayName("회원이 이미 투표한 게시글에 다시 투표하는 경우 예외가 발생한다.")
+    void createVote_Fail_ByAlreadyVoted() {
+        // given
+        BalanceOption option = createBalanceOption(1L, "A", 0);
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .options(List.of(option))
+                .build();
+        Member member = createMember();
+
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
+        when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
+        when(voteRepository.existsByMemberIdAndPostId(member.getId(), post.getId())).thenReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), "token", null))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.ALREADY_VOTE.getMessage());
+        verify(voteRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 유니크 제약 조건을 위반하면 중복 투표 예외로 변환한다.")
+    void createVote_Fail_ByConcurrentDuplicateVote() {
+        // given
+        BalanceOption option = createBalanceOption(1L, "A", 0);
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .options(List.of(option))
+                .build();
+        Member member = createMember();
+
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
+        when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
+        when(voteRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_vote_member_post"));
+
+        // when, then
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), "token", null))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.ALREADY_VOTE.getMessage());
+    }
+
+    @Test
+    @DisplayName("비회원이 이미 투표한 게시글에 다시 투표하는 경우 예외가 발생한다.")
+    void createVote_Fail_ByGuestAlreadyVoted() {
+        // given
+        BalanceOption option = createBalanceOption(1L, "A", 0);
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .options(List.of(option))
+                .build();
+
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
+        when(redisService.setValuesIfAbsent(eq("vote:guest:1:" + GUEST_FINGERPRINT), anyString(), any()))
+                .thenReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), null, GUEST_FINGERPRINT))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.ALREADY_VOTE.getMessage());
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("비회원 투표가 저장되지 않고 롤백되면 중복 방지 키를 지워 다시 투표할 수 있다.")
+    void createVote_ReleaseGuestKeyOnRollback() {
+        // given
+        BalanceOption option = createBalanceOption(1L, "A", 0);
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .options(List.of(option))
+                .build();
+        String guestVoteKey = "vote:guest:1:" + GUEST_FINGERPRINT;
+
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
+        when(redisService.setValuesIfAbsent(eq(guestVoteKey), anyString(), any())).thenReturn(true);
+        when(voteRepository.save(any())).thenThrow(new DataIntegrityViolationException("insert failed"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            assertThatThrownBy(() -> voteService.createVote(1L, new VoteRequest(1L), null, GUEST_FINGERPRINT))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(redisService).deleteValues(guestVoteKey);
+    }
 
     @Test
     @DisplayName("각 선택지의 제목과 투표 수를 조회한다.")
     void readVotingStatus_Success() {
         // given
-        List<Vote> votesForA = new ArrayList<>();
-        for (long i = 0; i < 5; i++) {
-            votesForA.add(createVote(i));
-        }
-        List<Vote> votesForB = new ArrayList<>();
-        for (long i = 0; i < 3; i++) {
-            votesForB.add(createVote(i));
-        }
         List<BalanceOption> options =
-                List.of(createBalanceOption(1L, "A", votesForA), createBalanceOption(2L, "B", votesForB));
+                List.of(createBalanceOption(1L, "A", 5), createBalanceOption(2L, "B", 3));
 
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .options(options)
                 .build();
 
@@ -298,12 +398,58 @@ class VoteServiceTest {
                 .hasMessageContaining(ErrorCode.NOT_FOUND_POST.getMessage());
     }
 
+    @Test
+    @DisplayName("마감된 게시글의 투표 현황은 저장된 최종 결과로 조회한다.")
+    void readVotingStatus_FromResultAfterDeadline() {
+        // given
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().minusDays(1))
+                .options(List.of(createBalanceOption(1L, "A", 0), createBalanceOption(2L, "B", 0)))
+                .build();
+        PostResultResponse result = PostResultResponse.builder()
+                .postId(1L)
+                .totalVotesCount(8)
+                .winnerOptionId(1L)
+                .options(List.of(new OptionResultResponse(1L, "A", 5, List.of()),
+                        new OptionResultResponse(2L, "B", 3, List.of())))
+                .build();
+
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+        when(postResultService.findResult(1L)).thenReturn(Optional.of(result));
+
+        // when
+        List<VotingStatusResponse> votingStatusResponses = voteService.votingStatus(1L);
+
+        // then
+        assertThat(votingStatusResponses).extracting(VotingStatusResponse::getVoteCount).containsExactly(5, 3);
+    }
+
+    @Test
+    @DisplayName("마감된 게시글의 투표는 수정할 수 없다.")
+    void updateVote_Fail_ByExpiredDeadline() {
+        // given
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().minusDays(1))
+                .category(PostCategory.DISCUSSION)
+                .build();
+        when(postRepository.findById(any())).thenReturn(Optional.of(post));
+
+        // when, then
+        assertThatThrownBy(() -> voteService.updateVote(1L, new VoteRequest(1L)))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.EXPIRED_POST_DEADLINE.getMessage());
+        verify(balanceOptionRepository, never()).addVotesCount(any(), anyInt());
+    }
+
     @Test
     @DisplayName("투표를 수정한다.")
     void updateVote_Success() {
         // given
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .category(PostCategory.DISCUSSION)
                 .build();
 
@@ -319,14 +465,13 @@ class VoteServiceTest {
                 .build();
         Vote oldVote = Vote.builder()
                 .id(1L)
+                .post(post)
                 .balanceOption(optionA)
                 .build();
-        List<Vote> votes = List.of(oldVote);
 
         Member member = Member.builder()
                 .id(1L)
                 .email(AUTHENTICATED_EMAIL)
-                .votes(votes)
                 .build();
 
         Vote newVote = Vote.builder()
@@ -336,7 +481,11 @@ class VoteServiceTest {
 
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
         when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
-        when(balanceOptionRepository.findById(optionB.getId())).thenReturn(Optional.of(optionB));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(optionB);
+        when(voteRepository.findByMemberIdAndPostId(member.getId(), post.getId())).thenReturn(Optional.of(oldVote));
+        when(voteRepository.changeBalanceOption(member.getId(), post.getId(), optionA.getId(), optionB))
+                .thenReturn(1);
 
         VoteRequest voteRequest = VoteRequest.builder()
                 .selectedOptionId(optionB.getId())
@@ -348,6 +497,54 @@ class VoteServiceTest {
         // then
         assertThat(result.getBalanceOption().getId()).isEqualTo(newVote.getBalanceOption().getId());
         assertThat(result.getBalanceOption().getTitle()).isEqualTo(newVote.getBalanceOption().getTitle());
+        verify(balanceOptionRepository).addVotesCount(optionA.getId(), -1);
+        verify(balanceOptionRepository).addVotesCount(optionB.getId(), 1);
+        verify(domainEventPublisher).publish(any(VoteChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 다른 요청이 투표를 먼저 변경했다면 집계를 옮기지 않고 예외가 발생한다.")
+    void updateVote_Fail_ByConcurrentChange() {
+        // given
+        Post post = Post.builder()
+                .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .category(PostCategory.DISCUSSION)
+                .build();
+        BalanceOption optionA = BalanceOption.builder()
+                .id(1L)
+                .title("A")
+                .post(post)
+                .build();
+        BalanceOption optionB = BalanceOption.builder()
+                .id(2L)
+                .title("B")
+                .post(post)
+                .build();
+        Vote oldVote = Vote.builder()
+                .id(1L)
+                .post(post)
+                .balanceOption(optionA)
+                .build();
+        Member member = Member.builder()
+                .id(1L)
+                .email(AUTHENTICATED_EMAIL)
+                .build();
+
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(optionB);
+        when(voteRepository.findByMemberIdAndPostId(member.getId(), post.getId())).thenReturn(Optional.of(oldVote));
+        when(voteRepository.changeBalanceOption(member.getId(), post.getId(), optionA.getId(), optionB))
+                .thenReturn(0);
+
+        // when, then
+        assertThatThrownBy(() -> voteService.updateVote(post.getId(), new VoteRequest(optionB.getId())))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.CONFLICT_VOTE_CHANGE.getMessage());
+        verify(balanceOptionRepository, never()).addVotesCount(any(), anyInt());
+        verify(domainEventPublisher, never()).publish(any());
     }
 
     @Test
@@ -365,12 +562,13 @@ class VoteServiceTest {
         // given
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .category(PostCategory.DISCUSSION)
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any()))
-                .thenThrow(new BalanceTalkException(ErrorCode.NOT_FOUND_BALANCE_OPTION));
+        when(balanceOptionRepository.existsByIdAndPostId(1L, 1L)).thenReturn(false);
+        when(balanceOptionRepository.existsById(1L)).thenReturn(false);
 
         // when, then
         assertThatThrownBy(() -> voteService.updateVote(1L, new VoteRequest(1L)))
@@ -384,6 +582,7 @@ class VoteServiceTest {
         // given
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .category(PostCategory.DISCUSSION)
                 .build();
         BalanceOption newOption = BalanceOption.builder()
@@ -393,7 +592,8 @@ class VoteServiceTest {
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(newOption));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(newOption);
         when(memberRepository.findByEmail(AUTHENTICATED_EMAIL))
                 .thenThrow(new BalanceTalkException(ErrorCode.NOT_FOUND_MEMBER));
 
@@ -404,11 +604,12 @@ class VoteServiceTest {
     }
 
     @Test
-    @DisplayName("투표 수정 시 회원 정보가 없는 경우 예외를 발생시킨다.")
+    @DisplayName("투표 수정 시 해당 게시글에 투표한 기록이 없는 경우 예외를 발생시킨다.")
     void updateVote_Fail_ByNotFoundVote() {
         // given
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .category(PostCategory.DISCUSSION)
                 .build();
         BalanceOption option = BalanceOption.builder()
@@ -417,34 +618,19 @@ class VoteServiceTest {
                 .post(post)
                 .build();
 
-        Post otherPost = Post.builder()
-                .id(2L)
-                .category(PostCategory.DISCUSSION)
-                .build();
-        BalanceOption optionInOtherPost = BalanceOption.builder()
-                .id(2L)
-                .title("other")
-                .post(otherPost)
-                .build();
-
-        Vote oldVote = Vote.builder()
-                .id(1L)
-                .balanceOption(optionInOtherPost)
-                .build();
-        List<Vote> votes = List.of(oldVote);
-
         Member member = Member.builder()
                 .id(1L)
                 .email(AUTHENTICATED_EMAIL)
-                .votes(votes)
                 .build();
 
         when(postRepository.findById(any())).thenReturn(Optional.of(post));
-        when(balanceOptionRepository.findById(any())).thenReturn(Optional.of(option));
+        when(balanceOptionRepository.existsByIdAndPostId(any(), any())).thenReturn(true);
+        when(balanceOptionRepository.getReferenceById(any())).thenReturn(option);
         when(memberRepository.findByEmail(AUTHENTICATED_EMAIL)).thenReturn(Optional.of(member));
+        when(voteRepository.findByMemberIdAndPostId(member.getId(), post.getId())).thenReturn(Optional.empty());
 
         // when, then
-        assertThatThrownBy(() -> voteService.updateVote(1L, new VoteRequest(2L)))
+        assertThatThrownBy(() -> voteService.updateVote(1L, new VoteRequest(1L)))
                 .isInstanceOf(BalanceTalkException.class)
                 .hasMessageContaining(ErrorCode.NOT_FOUND_VOTE.getMessage());
     }
@@ -455,6 +641,7 @@ class VoteServiceTest {
         // given
         Post post = Post.builder()
                 .id(1L)
+                .deadline(LocalDateTime.now().plusDays(1))
                 .category(PostCategory.CASUAL)
                 .build();
 
@@ -466,17 +653,11 @@ class VoteServiceTest {
                 .hasMessageContaining(ErrorCode.UNMODIFIABLE_VOTE.getMessage());
     }
 
-    private Vote createVote(Long id) {
-        return Vote.builder()
-                .id(id)
-                .build();
-    }
-
-    private BalanceOption createBalanceOption(Long id, String title, List<Vote> votes) {
+    private BalanceOption createBalanceOption(Long id, String title, int votesCount) {
         return BalanceOption.builder()
                 .id(id)
                 .title(title)
-                .votes(votes)
+                .votesCount(votesCount)
                 .build();
     }
 
@@ -0,0 +1,164 @@
+package balancetalk.module.vote.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.redis.application.RedisService;
+import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.BalanceOptionRepository;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteCastEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class VoteStreamServiceTest {
+
+    @InjectMocks
+    VoteStreamService voteStreamService;
+
+    @Mock
+    BalanceOptionRepository balanceOptionRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    ExecutorService sender;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voteStreamService, "senderThreads", 1);
+        ReflectionTestUtils.setField(voteStreamService, "sendQueueCapacity", 10);
+        voteStreamService.startSender();
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteStreamService.stopSender();
+    }
+
+    @Test
+    @DisplayName("투표 이벤트를 받으면 게시글 id를 Redis 채널로 발행한다.")
+    void onVoteCast_PublishToRedis() {
+        // when
+        voteStreamService.onVoteCast(new VoteCastEvent(1L, 1L, 2L, LocalDateTime.now()));
+
+        // then
+        verify(redisService).publish("vote:changed", "1");
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 여러 변경은 한 번의 집계로 합쳐져 전송된다.")
+    void flush_CoalesceChanges() {
+        // given
+        BalanceOption option = BalanceOption.builder().id(1L).title("A").votesCount(3).build();
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(balanceOptionRepository.findAllByPostIdOrderByIdAsc(1L)).thenReturn(List.of(option));
+        voteStreamService.subscribe(1L);
+        voteStreamService.subscribe(1L);
+
+        // when
+        voteStreamService.markChanged("1");
+        voteStreamService.markChanged("1");
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+        voteStreamService.flush();
+
+        // then (구독 시 초기 전송 2회 + 주기 전송 1회)
+        verify(balanceOptionRepository, times(3)).findAllByPostIdOrderByIdAsc(1L);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 게시글의 변경은 집계하지 않는다.")
+    void flush_SkipPostWithoutSubscribers() {
+        // when
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+
+        // then
+        verify(balanceOptionRepository, never()).findAllByPostIdOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글을 구독하면 예외가 발생한다.")
+    void subscribe_Fail_ByNotFoundPost() {
+        // given
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> voteStreamService.subscribe(1L))
+                .isInstanceOf(BalanceTalkException.class)
+                .hasMessageContaining(ErrorCode.NOT_FOUND_POST.getMessage());
+    }
+
+    @Test
+    @DisplayName("전송은 전용 스레드 풀에 맡기고, 전송이 끝나기 전에 들어온 현황은 최신 값 하나로 합쳐진다.")
+    void flush_SendOnSenderWithLatestOnly() {
+        // given
+        voteStreamService.stopSender();
+        ReflectionTestUtils.setField(voteStreamService, "sender", sender);
+        BalanceOption option = BalanceOption.builder().id(1L).title("A").votesCount(3).build();
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(balanceOptionRepository.findAllByPostIdOrderByIdAsc(1L)).thenReturn(List.of(option));
+        voteStreamService.subscribe(1L);
+
+        // when (구독 시 초기 전송이 아직 끝나지 않은 상태에서 두 번 변경)
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+
+        // then
+        ArgumentCaptor<Runnable> sends = ArgumentCaptor.forClass(Runnable.class);
+        verify(sender).execute(sends.capture());
+
+        // 밀린 현황까지 보낸 뒤에는 다음 변경이 새 전송 작업으로 제출된다.
+        sends.getValue().run();
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+        verify(sender, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 차면 해당 현황을 건너뛰고, 다음 변경 때 다시 전송한다.")
+    void flush_SkipWhenSendQueueFull() {
+        // given
+        voteStreamService.stopSender();
+        ReflectionTestUtils.setField(voteStreamService, "sender", sender);
+        BalanceOption option = BalanceOption.builder().id(1L).title("A").votesCount(3).build();
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(balanceOptionRepository.findAllByPostIdOrderByIdAsc(1L)).thenReturn(List.of(option));
+        doThrow(new RejectedExecutionException("full")).when(sender).execute(any());
+        voteStreamService.subscribe(1L);
+
+        // when
+        voteStreamService.markChanged("1");
+        voteStreamService.flush();
+
+        // then
+        verify(sender, times(2)).execute(any());
+    }
+}
@@ -0,0 +1,189 @@
+package balancetalk.module.vote.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.config.VoteTimelineConfig;
+import balancetalk.global.outbox.application.ProcessedEvents;
+import balancetalk.module.post.domain.BalanceOption;
+import balancetalk.module.post.domain.Post;
+import balancetalk.module.post.domain.PostRepository;
+import balancetalk.module.vote.domain.VoteBucket;
+import balancetalk.module.vote.domain.VoteBucketRepository;
+import balancetalk.module.vote.domain.VoteBucketResolution;
+import balancetalk.module.vote.domain.VoteChangedEvent;
+import balancetalk.module.vote.domain.VoteRepository;
+import balancetalk.module.vote.dto.VoteTimelineResponse;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTimelineServiceTest {
+
+    @InjectMocks
+    VoteTimelineService voteTimelineService;
+
+    @Mock
+    VoteBucketRepository voteBucketRepository;
+
+    @Mock
+    VoteRepository voteRepository;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ProcessedEvents processedEvents;
+
+    @Spy
+    VoteTimelineConfig config = new VoteTimelineConfig();
+
+    @Test
+    @DisplayName("투표를 변경하면 이전 선택지는 빼고 새 선택지는 더해 분/시/일 구간에 모두 기록한다.")
+    void onVoteChanged_RecordAllResolutions() {
+        // given
+        LocalDateTime changedAt = LocalDateTime.of(2024, 3, 30, 10, 15, 30);
+        when(voteBucketRepository.findLiveSince()).thenReturn(changedAt.minusDays(1));
+        when(processedEvents.markProcessed("vote-timeline")).thenReturn(true);
+
+        // when
+        voteTimelineService.onVoteChanged(new VoteChangedEvent(1L, 2L, 10L, 11L, changedAt.minusHours(1), changedAt));
+
+        // then
+        for (VoteBucketResolution resolution : VoteBucketResolution.values()) {
+            verify(voteBucketRepository).addVotesCount(1L, 10L, resolution.name(), resolution.truncate(changedAt), -1);
+            verify(voteBucketRepository).addVotesCount(1L, 11L, resolution.name(), resolution.truncate(changedAt), 1);
+        }
+    }
+
+    @Test
+    @DisplayName("실시간 집계 이전에 생성된 투표는 재집계가 현재 선택지로 세므로, 선택지를 바꿔도 증감을 더하지 않는다.")
+    void onVoteChanged_SkipBackfillTarget() {
+        // given
+        LocalDateTime liveSince = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(voteBucketRepository.findLiveSince()).thenReturn(liveSince);
+
+        // when
+        voteTimelineService.onVoteChanged(new VoteChangedEvent(1L, 2L, 10L, 11L,
+                liveSince.minusDays(1), liveSince.plusDays(1)));
+
+        // then
+        verify(voteBucketRepository, never()).addVotesCount(anyLong(), anyLong(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("투표 추이는 구간별 투표 수를 선택지 순서에 맞춰 돌려주고, 투표가 없는 선택지는 0으로 채운다.")
+    void findTimeline_AlignByOption() {
+        // given
+        LocalDateTime first = LocalDateTime.of(2024, 3, 30, 10, 0);
+        LocalDateTime second = first.plusHours(1);
+        Post post = Post.builder()
+                .id(1L)
+                .options(List.of(BalanceOption.builder().id(10L).build(), BalanceOption.builder().id(11L).build()))
+                .build();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(voteBucketRepository.findSeries(1L, VoteBucketResolution.HOUR, first, second.plusHours(1)))
+                .thenReturn(List.of(
+                        bucket(10L, first, 3), bucket(11L, first, 5),
+                        bucket(11L, second, -1)));
+
+        // when
+        VoteTimelineResponse response = voteTimelineService.findTimeline(1L, VoteBucketResolution.HOUR,
+                first.plusMinutes(30), second.plusHours(1));
+
+        // then
+        assertThat(response.getOptionIds()).containsExactly(10L, 11L);
+        assertThat(response.getPoints()).hasSize(2);
+        assertThat(response.getPoints().get(0).getAt()).isEqualTo(first);
+        assertThat(response.getPoints().get(0).getVotes()).containsExactly(3, 5);
+        assertThat(response.getPoints().get(1).getVotes()).containsExactly(0, -1);
+    }
+
+    @Test
+    @DisplayName("재집계는 id 구간별로 기존 투표를 구간 행마다 합쳐 한 번씩 더한다.")
+    void backfill_AggregatePerBucket() {
+        // given
+        config.setBackfillChunkSize(2);
+        LocalDateTime votedAt = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MINUTES);
+        when(voteRepository.findMinId()).thenReturn(1L);
+        when(voteRepository.findMaxId()).thenReturn(3L);
+        when(voteBucketRepository.findBackfillChunkSize()).thenReturn(null);
+        when(voteRepository.findVoteTimes(eq(0L), eq(2L), any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 10L, votedAt.plusSeconds(10)},
+                new Object[]{1L, 10L, votedAt.plusSeconds(20)}));
+        when(voteRepository.findVoteTimes(eq(2L), eq(4L), any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 11L, votedAt.plusSeconds(30)}));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        voteTimelineService.backfill(LocalDateTime.now()).join();
+
+        // then
+        verify(voteBucketRepository).addVotesCount(1L, 10L, "MINUTE", votedAt, 2);
+        verify(voteBucketRepository).addVotesCount(1L, 11L, "MINUTE", votedAt, 1);
+        verify(voteBucketRepository).addVotesCount(1L, 10L, "DAY", votedAt.truncatedTo(ChronoUnit.DAYS), 2);
+        verify(voteBucketRepository, times(6)).addVotesCount(anyLong(), anyLong(), anyString(), any(), anyInt());
+        verify(voteBucketRepository).insertBackfilledChunk(0L, 2);
+        verify(voteBucketRepository).insertBackfilledChunk(2L, 2);
+    }
+
+    @Test
+    @DisplayName("다시 실행한 재집계는 이전에 마친 구간을 같은 경계로 나눠 건너뛴다.")
+    void backfill_SkipCompletedChunks() {
+        // given
+        config.setBackfillChunkSize(100);
+        when(voteRepository.findMinId()).thenReturn(1L);
+        when(voteRepository.findMaxId()).thenReturn(5L);
+        when(voteBucketRepository.findBackfillChunkSize()).thenReturn(2);
+        when(voteBucketRepository.findBackfilledChunkStarts()).thenReturn(List.of(0L, 4L));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        voteTimelineService.backfill(LocalDateTime.now()).join();
+
+        // then
+        verify(voteRepository).findVoteTimes(eq(2L), eq(4L), any());
+        verify(voteRepository, times(1)).findVoteTimes(anyLong(), anyLong(), any());
+        verify(voteBucketRepository).insertBackfilledChunk(2L, 2);
+    }
+
+    private VoteBucket bucket(Long optionId, LocalDateTime bucketStart, int votesCount) {
+        return VoteBucket.builder()
+                .postId(1L)
+                .optionId(optionId)
+                .resolution(VoteBucketResolution.HOUR)
+                .bucketStart(bucketStart)
+                .votesCount(votesCount)
+                .build();
+    }
+}